@@ -0,0 +1,81 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.FixedPointComplex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigComplexBenchmark measures arbitrary precision arithmetic at several
+ * scales, for both BigComplex and the fixed point FixedPointComplex.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigComplexBenchmark {
+    private static final String RE = "-0.74364388703715870475219150611477416590885";
+    private static final String IM = "0.13182590420531197049313205638513916995170";
+
+    @Param({"10", "30", "60", "120"})
+    public int scale;
+
+    private BigComplex x;
+    private BigComplex y;
+    private FixedPointComplex fixedX;
+    private FixedPointComplex fixedY;
+
+    @Setup
+    public void setUp() {
+        this.x = new BigComplex(new BigDecimal(RE), new BigDecimal(IM), scale);
+        this.y = new BigComplex(new BigDecimal("0.25"), new BigDecimal("-1.5"), scale);
+        this.fixedX = new FixedPointComplex(this.x);
+        this.fixedY = new FixedPointComplex(this.y);
+    }
+
+    @Benchmark
+    public BigComplex add() {
+        return x.add(y);
+    }
+
+    @Benchmark
+    public BigComplex mul() {
+        return x.mul(y);
+    }
+
+    @Benchmark
+    public BigComplex square() {
+        return x.square();
+    }
+
+    @Benchmark
+    public BigComplex mandelbrotStep() {
+        return x.mul(x).add(y);
+    }
+
+    @Benchmark
+    public boolean isOutside() {
+        return x.isOutside(BigDecimal.valueOf(2L));
+    }
+
+    @Benchmark
+    public FixedPointComplex fixedPointMandelbrotStep() {
+        return new FixedPointComplex(fixedX).square().add(fixedY);
+    }
+}
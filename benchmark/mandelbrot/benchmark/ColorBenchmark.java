@@ -0,0 +1,85 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.FramePool;
+import mandelbrot.view.PixelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ColorBenchmark compares coloring a rendered frame pixel by pixel through
+ * setRGB, as the panel used to, with writing palette rows straight into the
+ * image's backing array, banded and smooth.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ColorBenchmark {
+    @Param({"700", "1400"})
+    public int size;
+
+    @Param({"50", "10000"})
+    public int paletteSize;
+
+    private IterationBuffer buffer;
+    private Palette palette;
+    private BufferedImage image;
+
+    @Setup
+    public void setUp() {
+        TileRenderer renderer = new TileRenderer();
+        this.buffer = new IterationBuffer(0, 0, size, size, true);
+        renderer.render(new PixelMapper(size, size), this.buffer, paletteSize, Mandelbrot.DEFAULT_BOUND);
+        renderer.shutdown();
+        this.palette = Palette.spectrum(paletteSize);
+        this.image = new FramePool().take(size, size);
+    }
+
+    @Benchmark
+    public BufferedImage setRgbColumnMajor() {
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                image.setRGB(i, j, palette.getColor(buffer.get(i, j)));
+            }
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage directRowMajor() {
+        int[] pixels = FramePool.pixels(image);
+        for (int j = 0; j < size; ++j) {
+            palette.colorRow(buffer, j, pixels, j * size, false);
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage directRowMajorSmooth() {
+        int[] pixels = FramePool.pixels(image);
+        for (int j = 0; j < size; ++j) {
+            palette.colorRow(buffer, j, pixels, j * size, true);
+        }
+        return image;
+    }
+}
@@ -0,0 +1,55 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.Complex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ComplexBenchmark measures the double precision Complex arithmetic.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexBenchmark {
+    private Complex x = new Complex(-0.743643887037158, 0.131825904205312);
+    private Complex y = new Complex(0.25, -1.5);
+
+    @Benchmark
+    public Complex add() {
+        return x.add(y);
+    }
+
+    @Benchmark
+    public Complex mul() {
+        return x.mul(y);
+    }
+
+    @Benchmark
+    public Complex div() {
+        return x.div(y);
+    }
+
+    @Benchmark
+    public Complex mandelbrotStep() {
+        return x.mul(x).add(y);
+    }
+
+    @Benchmark
+    public double magnitude() {
+        return x.magnitude();
+    }
+}
@@ -0,0 +1,64 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.DoubleDoubleComplex;
+import mandelbrot.model.DoubleDoubleMandelbrot;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ReferenceOrbit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DoubleDoubleBenchmark iterates one escaping point to the same count in
+ * double, double-double and BigDecimal precision, the cost per point of
+ * each of the three precisions a zoom passes through.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleDoubleBenchmark {
+    private static final int MAX_ITERATIONS = 10000;
+
+    private final Mandelbrot mandelbrot = new Mandelbrot(false, false);
+    private final DoubleDoubleMandelbrot doubleDouble = new DoubleDoubleMandelbrot(false);
+    private BigComplex c;
+    private DoubleDoubleComplex z0;
+
+    @Setup
+    public void setUp() {
+        // close enough to the boundary to take about 7000 iterations
+        this.c = new BigComplex(new BigDecimal("-0.7436438870371587"), new BigDecimal("0.1318259042053119"), 40);
+        this.z0 = new DoubleDoubleComplex(this.c);
+    }
+
+    @Benchmark
+    public int doublePrecision() {
+        return mandelbrot.getNumIterations(z0.getRe().getHi(), z0.getIm().getHi(), MAX_ITERATIONS, 2.0);
+    }
+
+    @Benchmark
+    public int doubleDoublePrecision() {
+        return doubleDouble.getNumIterations(z0, MAX_ITERATIONS, 2.0);
+    }
+
+    @Benchmark
+    public int bigDecimalPrecision() {
+        return new ReferenceOrbit(c, MAX_ITERATIONS, 2.0).getNumIterations();
+    }
+}
@@ -0,0 +1,75 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FractalBenchmark times the row kernels of the other fractals over the
+ * same grid.  "multibrot:3" and "multibrot:4" use the unrolled powers;
+ * "multibrot:5" shows the cost of the general power for comparison.
+ * Times are per point.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class FractalBenchmark {
+    static final int GRID = 64;
+
+    @Param({"mandelbrot", "julia:-0.8,0.156", "multibrot:3", "multibrot:4", "multibrot:5", "burning-ship"})
+    public String fractal;
+
+    @Param({"200"})
+    public int maxIterations;
+
+    private IterativeFunction function;
+    private int[] counts;
+    private double[] re;
+    private double[] im;
+
+    @Setup
+    public void setUp() {
+        this.function = Kernels.forName(fractal);
+        this.counts = new int[GRID];
+        this.re = new double[GRID * GRID];
+        this.im = new double[GRID * GRID];
+        for (int j = 0; j < GRID; ++j) {
+            for (int i = 0; i < GRID; ++i) {
+                this.re[j * GRID + i] = -2.0 + 3.0 * i / GRID;
+                this.im[j * GRID + i] = -1.5 + 3.0 * j / GRID;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GRID * GRID)
+    public int[] getNumIterationsByRow() {
+        double[] rowRe = new double[GRID];
+        double[] rowIm = new double[GRID];
+        for (int j = 0; j < GRID; ++j) {
+            System.arraycopy(re, j * GRID, rowRe, 0, GRID);
+            System.arraycopy(im, j * GRID, rowIm, 0, GRID);
+            function.getNumIterations(rowRe, rowIm, GRID, maxIterations, Mandelbrot.DEFAULT_BOUND, counts, 0);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,68 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.MarianiSilverRenderer;
+import mandelbrot.render.Renderer;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FrameBenchmark renders the default view end to end at several sizes and
+ * iteration limits with each renderer.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class FrameBenchmark {
+    @Param({"256", "700", "1400"})
+    public int size;
+
+    @Param({"50", "500"})
+    public int maxIterations;
+
+    @Param({"tile", "marianiSilver"})
+    public String renderer;
+
+    private Renderer frameRenderer;
+    private PixelMapper mapper;
+    private IterationBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        this.frameRenderer = ("marianiSilver".equals(renderer) ? new MarianiSilverRenderer() : new TileRenderer());
+        this.mapper = new PixelMapper(size, size);
+        this.buffer = new IterationBuffer(size, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.frameRenderer.shutdown();
+    }
+
+    @Benchmark
+    public IterationBuffer render() {
+        frameRenderer.render(mapper, buffer, maxIterations, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+        return buffer;
+    }
+}
@@ -0,0 +1,113 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MandelbrotBenchmark times the escape-time kernel over a grid of points in
+ * three kinds of region: one inside the set, one straddling its boundary and
+ * one outside it.  Times are per point.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class MandelbrotBenchmark {
+    static final int GRID = 32;
+
+    public enum Region {
+        INTERIOR(-0.3, 0.3, 0.3),
+        BOUNDARY(-0.7436, 0.1318, 0.01),
+        EXTERIOR(0.6, 0.9, 0.3);
+
+        final double re;
+        final double im;
+        final double span;
+
+        Region(double re, double im, double span) {
+            this.re = re;
+            this.im = im;
+            this.span = span;
+        }
+    }
+
+    @Param({"INTERIOR", "BOUNDARY", "EXTERIOR"})
+    public Region region;
+
+    @Param({"50", "1000"})
+    public int maxIterations;
+
+    @Param({"true", "false"})
+    public boolean shortcuts;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private Mandelbrot mandelbrot;
+    private int[] counts;
+    private double[] re;
+    private double[] im;
+
+    @Setup
+    public void setUp() {
+        this.mandelbrot = Kernels.mandelbrot("vector".equals(kernel), shortcuts, shortcuts);
+        this.counts = new int[GRID];
+        this.re = new double[GRID * GRID];
+        this.im = new double[GRID * GRID];
+        double step = region.span / GRID;
+        for (int j = 0; j < GRID; ++j) {
+            for (int i = 0; i < GRID; ++i) {
+                this.re[j * GRID + i] = region.re - region.span / 2.0 + i * step;
+                this.im[j * GRID + i] = region.im - region.span / 2.0 + j * step;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GRID * GRID)
+    public void getNumIterations(Blackhole blackhole) {
+        for (int k = 0; k < re.length; ++k) {
+            blackhole.consume(mandelbrot.getNumIterations(re[k], im[k], maxIterations, Mandelbrot.DEFAULT_BOUND));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GRID * GRID)
+    public int[] getNumIterationsByRow() {
+        double[] rowRe = new double[GRID];
+        double[] rowIm = new double[GRID];
+        for (int j = 0; j < GRID; ++j) {
+            System.arraycopy(re, j * GRID, rowRe, 0, GRID);
+            System.arraycopy(im, j * GRID, rowIm, 0, GRID);
+            mandelbrot.getNumIterations(rowRe, rowIm, GRID, maxIterations, Mandelbrot.DEFAULT_BOUND, counts, 0);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GRID * GRID)
+    public void isInside(Blackhole blackhole) {
+        for (int k = 0; k < re.length; ++k) {
+            blackhole.consume(mandelbrot.isInside(re[k], im[k], maxIterations, Mandelbrot.DEFAULT_BOUND));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package mandelbrot.benchmark;
+
+import mandelbrot.model.Complex;
+import mandelbrot.view.PixelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PixelMapperBenchmark measures the cost of mapping one pixel to the complex plane.
+ * @author Michael
+ * @since 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PixelMapperBenchmark {
+    private PixelMapper mapper = new PixelMapper(700, 700, new Complex(-2.0, 2.0), new Complex(2.0, -2.0));
+    private int x = 123;
+    private int y = 456;
+
+    @Benchmark
+    public Complex map() {
+        return mapper.map(x, y);
+    }
+}
@@ -0,0 +1,297 @@
+package mandelbrot.batch;
+
+import mandelbrot.cluster.ClusterRenderer;
+import mandelbrot.cluster.ClusterWorker;
+import mandelbrot.cluster.Coordinator;
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.MarianiSilverRenderer;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.RenderTelemetry;
+import mandelbrot.render.Renderer;
+import mandelbrot.render.TileRenderer;
+
+import javax.management.JMException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * BatchRenderer is the headless command line entry point.  It renders a single
+ * job given as options, or with --batch reads one job per line from a file and
+ * runs several at once.  All jobs share the same renderers and so the same
+ * worker pools; a job for another fractal gets renderers of its own,
+ * created the first time the fractal is asked for.  The measurements of every job are published to a
+ * RenderTelemetry, which is registered as an MBean and, with --telemetry,
+ * appends them to a JSON lines file.  With a Coordinator set, tile mode jobs
+ * render on the coordinator's worker JVMs instead of the local pool.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class BatchRenderer {
+    private static final String USAGE = "usage: BatchRenderer [--threads N] [--kernel vector|scalar] [--telemetry frames.jsonl]\n"
+            + "                     [--listen port] [--local-workers N]\n"
+            + "                     (--batch jobs.txt [--jobs N] | job options)\n"
+            + "job options: --output file.png [--upper-left re,im] [--lower-right re,im] [--size WxH]\n"
+            + "             [--max-iterations N|auto] [--bound B] [--palette spectrum|grayscale[:size]]\n"
+            + "             [--mode auto|tile|mariani-silver|double-double|perturbation]\n"
+            + "             [--store counts.bin]\n"
+            + "             [--coloring banded|smooth] [--fractal mandelbrot|julia:re,im|multibrot:N|burning-ship]\n"
+            + "             [--antialias none|adaptive]";
+
+    private final TileRenderer tileRenderer;
+    private final MarianiSilverRenderer marianiSilverRenderer;
+    private final PerturbationRenderer perturbationRenderer;
+    private final DoubleDoubleRenderer doubleDoubleRenderer;
+    private final int parallelism;
+    private final Map<String, Renderer> fractalRenderers = new HashMap<String, Renderer>();
+    private RenderTelemetry telemetry = new RenderTelemetry();
+    private Coordinator coordinator;
+
+    public BatchRenderer(int parallelism) {
+        this(parallelism, true);
+    }
+
+    /**
+     * @param parallelism worker threads per renderer
+     * @param vectorized use the Vector API kernel when it is available
+     */
+    public BatchRenderer(int parallelism, boolean vectorized) {
+        this.tileRenderer = new TileRenderer(Kernels.mandelbrot(vectorized), parallelism, TileRenderer.DEFAULT_TILE_SIZE);
+        this.marianiSilverRenderer = new MarianiSilverRenderer(new Mandelbrot(), parallelism,
+                MarianiSilverRenderer.DEFAULT_MIN_SIZE, MarianiSilverRenderer.DEFAULT_MAX_FILL_SIZE);
+        this.perturbationRenderer = new PerturbationRenderer(parallelism, TileRenderer.DEFAULT_TILE_SIZE);
+        this.doubleDoubleRenderer = new DoubleDoubleRenderer(parallelism, TileRenderer.DEFAULT_TILE_SIZE);
+        this.parallelism = parallelism;
+    }
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int concurrentJobs = 2;
+        boolean vectorized = true;
+        String batchFile = null;
+        String telemetryFile = null;
+        int listenPort = -1;
+        int localWorkers = 0;
+        List<String> jobArgs = new ArrayList<String>();
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                if ("--threads".equals(args[i]) && (i + 1 < args.length)) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if ("--kernel".equals(args[i]) && (i + 1 < args.length)) {
+                    vectorized = !"scalar".equals(args[++i]);
+                } else if ("--batch".equals(args[i]) && (i + 1 < args.length)) {
+                    batchFile = args[++i];
+                } else if ("--telemetry".equals(args[i]) && (i + 1 < args.length)) {
+                    telemetryFile = args[++i];
+                } else if ("--listen".equals(args[i]) && (i + 1 < args.length)) {
+                    listenPort = Integer.parseInt(args[++i]);
+                } else if ("--local-workers".equals(args[i]) && (i + 1 < args.length)) {
+                    localWorkers = Integer.parseInt(args[++i]);
+                } else if ("--jobs".equals(args[i]) && (i + 1 < args.length)) {
+                    concurrentJobs = Integer.parseInt(args[++i]);
+                } else if ("--help".equals(args[i])) {
+                    System.out.println(USAGE);
+                    return;
+                } else {
+                    jobArgs.add(args[i]);
+                }
+            }
+
+            List<RenderJob> jobs = (batchFile != null)
+                    ? readJobs(batchFile)
+                    : Arrays.asList(RenderJob.parse(jobArgs.toArray(new String[jobArgs.size()])));
+            BatchRenderer batchRenderer = new BatchRenderer(threads, vectorized);
+            if (telemetryFile != null) {
+                batchRenderer.setTelemetry(new RenderTelemetry(new BufferedWriter(new FileWriter(telemetryFile, true))));
+            }
+            if ((listenPort >= 0) || (localWorkers > 0)) {
+                Coordinator coordinator = new Coordinator(Math.max(0, listenPort), TileRenderer.DEFAULT_TILE_SIZE);
+                if (localWorkers > 0) {
+                    coordinator.startLocalWorkers(localWorkers, threads);
+                    if (!coordinator.awaitWorkers(localWorkers, ClusterWorker.DEFAULT_CONNECT_MILLIS)) {
+                        System.err.printf("only %d of %d local workers connected\n", coordinator.getWorkers(), localWorkers);
+                    }
+                }
+                System.out.printf("coordinating on port %d\n", coordinator.getPort());
+                batchRenderer.setCoordinator(coordinator);
+            }
+            try {
+                batchRenderer.getTelemetry().register();
+            } catch (JMException e) {
+                System.err.println("telemetry not registered: " + e.getMessage());
+            }
+            try {
+                int failures = batchRenderer.run(jobs, concurrentJobs);
+                if (failures > 0) {
+                    System.exit(2);
+                }
+            } finally {
+                batchRenderer.shutdown();
+                batchRenderer.getTelemetry().close();
+                if (batchRenderer.getCoordinator() != null) {
+                    batchRenderer.getCoordinator().close();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Read jobs from a file with one set of job options per line.  Blank lines
+     * and lines starting with # are skipped.
+     * @param fileName job file
+     * @return jobs in file order
+     */
+    public static List<RenderJob> readJobs(String fileName) throws IOException {
+        List<RenderJob> jobs = new ArrayList<RenderJob>();
+        BufferedReader reader = new BufferedReader(new FileReader(fileName));
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                ++lineNumber;
+                line = line.trim();
+                if ((line.length() == 0) || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    jobs.add(RenderJob.parse(line.split("\\s+")));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(fileName + ":" + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return jobs;
+    }
+
+    /**
+     * Run jobs, several at a time.
+     * @param jobs jobs to run
+     * @param concurrentJobs number of jobs rendering at once
+     * @return number of jobs that failed
+     */
+    public int run(List<RenderJob> jobs, int concurrentJobs) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrentJobs));
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (final RenderJob job : jobs) {
+                futures.add(executor.submit(new Runnable() {
+                    public void run() {
+                        try {
+                            job.run(rendererFor(job), perturbationRenderer, doubleDoubleRenderer);
+                            FrameStats stats = job.getLastStats();
+                            telemetry.publish(stats);
+                            System.out.printf("rendered %s in %.0f ms, %d iterations, %.2f%% at limit, %.0f pixels/s\n", job,
+                                    stats.getWallMillis(), job.getLastIterations(), 100.0 * job.getLastSaturation(),
+                                    stats.getPixelsPerSecond());
+                        } catch (IOException e) {
+                            throw new RuntimeException(job.getOutput() + ": " + e.getMessage(), e);
+                        }
+                    }
+                }));
+            }
+
+            int failures = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    System.err.println(e.getCause().getMessage());
+                    ++failures;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ++failures;
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public RenderTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    public void setTelemetry(RenderTelemetry telemetry) {
+        if (telemetry == null)
+            throw new IllegalArgumentException("Telemetry cannot be null");
+
+        this.telemetry = telemetry;
+    }
+
+    public Coordinator getCoordinator() {
+        return coordinator;
+    }
+
+    /**
+     * @param coordinator coordinator to render tile mode jobs on, or null to render them locally;
+     * the caller closes it after shutdown
+     */
+    public void setCoordinator(Coordinator coordinator) {
+        this.coordinator = coordinator;
+    }
+
+    private Renderer rendererFor(RenderJob job) {
+        boolean marianiSilver = (job.getMode() == RenderJob.Mode.MARIANI_SILVER);
+        boolean cluster = (this.coordinator != null) && (job.getMode() == RenderJob.Mode.TILE);
+        if (!cluster && Kernels.DEFAULT_FRACTAL.equals(job.getFractal())) {
+            return marianiSilver ? this.marianiSilverRenderer : this.tileRenderer;
+        }
+        String key = (cluster ? "cluster" : job.getMode()) + " " + job.getFractal();
+        synchronized (this.fractalRenderers) {
+            Renderer renderer = this.fractalRenderers.get(key);
+            if (renderer == null) {
+                IterativeFunction function = Kernels.forName(job.getFractal());
+                if (cluster) {
+                    renderer = new ClusterRenderer(this.coordinator, job.getFractal());
+                } else if (marianiSilver) {
+                    renderer = new MarianiSilverRenderer(function, this.parallelism,
+                            MarianiSilverRenderer.DEFAULT_MIN_SIZE, MarianiSilverRenderer.DEFAULT_MAX_FILL_SIZE);
+                } else {
+                    renderer = new TileRenderer(function, this.parallelism, TileRenderer.DEFAULT_TILE_SIZE);
+                }
+                this.fractalRenderers.put(key, renderer);
+            }
+            return renderer;
+        }
+    }
+
+    public void shutdown() {
+        this.tileRenderer.shutdown();
+        this.marianiSilverRenderer.shutdown();
+        this.perturbationRenderer.shutdown();
+        this.doubleDoubleRenderer.shutdown();
+        synchronized (this.fractalRenderers) {
+            for (Renderer renderer : this.fractalRenderers.values()) {
+                renderer.shutdown();
+            }
+        }
+    }
+}
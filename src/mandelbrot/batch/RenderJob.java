@@ -0,0 +1,506 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ReferenceOrbit;
+import mandelbrot.render.AdaptiveSupersampler;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.IterationBudget;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.IterationStore;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.PngWriter;
+import mandelbrot.render.Precision;
+import mandelbrot.render.Renderer;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * RenderJob is one image for the batch renderer: a region, a size, the
+ * iteration parameters, a palette and an output file.  The image is rendered
+ * in bands of rows and each band is colored and streamed to the PNG before
+ * the next is computed, so memory use depends on the width, not the height.
+ * With an iteration store the counts are first written tile by tile to a
+ * file with positional channel I/O and then colored row by row from it, so
+ * the heap holds one tile and a few rows whatever the image size, and the
+ * store can be kept to color the same render again.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class RenderJob {
+    public static final String DEFAULT_UPPER_LEFT = "-2,2";
+    public static final String DEFAULT_LOWER_RIGHT = "2,-2";
+    public static final int DEFAULT_BAND_HEIGHT = 64;
+    public static final int AUTO_ITERATIONS = 0;
+
+    public enum Mode {
+        TILE, MARIANI_SILVER, PERTURBATION, DOUBLE_DOUBLE, AUTO
+    }
+
+    private final BigComplex upperLeft;
+    private final BigComplex lowerRight;
+    private final int width;
+    private final int height;
+    private final int maxIterations;
+    private final double bound;
+    private final String palette;
+    private final Mode mode;
+    private final File output;
+    private final File store;
+    private final boolean smooth;
+    private final String fractal;
+    private final boolean antialias;
+    private volatile int lastIterations;
+    private volatile double lastSaturation;
+    private volatile FrameStats lastStats;
+
+    public RenderJob(BigComplex upperLeft, BigComplex lowerRight, int width, int height, int maxIterations, double bound,
+                     String palette, Mode mode, File output) {
+        this(upperLeft, lowerRight, width, height, maxIterations, bound, palette, mode, output, null, false);
+    }
+
+    /**
+     * @param store iteration store file for out-of-core rendering, or null to render in bands
+     * @param smooth color from continuous escape counts; only the TILE mode without a store computes them
+     */
+    public RenderJob(BigComplex upperLeft, BigComplex lowerRight, int width, int height, int maxIterations, double bound,
+                     String palette, Mode mode, File output, File store, boolean smooth) {
+        this(upperLeft, lowerRight, width, height, maxIterations, bound, palette, mode, output, store, smooth,
+                Kernels.DEFAULT_FRACTAL);
+    }
+
+    /**
+     * @param fractal fractal to render, as accepted by Kernels.forName; the
+     * PERTURBATION and DOUBLE_DOUBLE modes only render the Mandelbrot set
+     */
+    public RenderJob(BigComplex upperLeft, BigComplex lowerRight, int width, int height, int maxIterations, double bound,
+                     String palette, Mode mode, File output, File store, boolean smooth, String fractal) {
+        this(upperLeft, lowerRight, width, height, maxIterations, bound, palette, mode, output, store, smooth, fractal, false);
+    }
+
+    /**
+     * @param antialias sample pixels at count edges again with an AdaptiveSupersampler;
+     * not for the PERTURBATION or DOUBLE_DOUBLE modes or with a store
+     * <p>
+     * AUTO is resolved here, from the region's pixel spacing, to the mode
+     * with the cheapest Precision that resolves it, and getMode returns the
+     * resolved mode.
+     */
+    public RenderJob(BigComplex upperLeft, BigComplex lowerRight, int width, int height, int maxIterations, double bound,
+                     String palette, Mode mode, File output, File store, boolean smooth, String fractal, boolean antialias) {
+        if ((upperLeft == null) || (lowerRight == null) || (output == null))
+            throw new IllegalArgumentException("Region bounds and output file cannot be null");
+        if ((width <= 0) || (height <= 0) || (maxIterations < 0))
+            throw new IllegalArgumentException("Size must be positive and the iteration limit positive or AUTO_ITERATIONS");
+        if (mode == Mode.AUTO) {
+            mode = chooseMode(upperLeft, lowerRight, width, height, fractal);
+        }
+        if (smooth && ((mode != Mode.TILE) || (store != null)))
+            throw new IllegalArgumentException("Smooth coloring needs the tile mode without a store");
+        if (isDeep(mode) && !Kernels.DEFAULT_FRACTAL.equals(fractal))
+            throw new IllegalArgumentException("Perturbation and double-double render the Mandelbrot set only");
+        if (antialias && (isDeep(mode) || (store != null)))
+            throw new IllegalArgumentException("Anti-aliasing needs the tile or mariani-silver mode without a store");
+        Kernels.forName(fractal);
+
+        this.upperLeft = upperLeft;
+        this.lowerRight = lowerRight;
+        this.width = width;
+        this.height = height;
+        this.maxIterations = maxIterations;
+        this.bound = bound;
+        this.palette = palette;
+        this.mode = mode;
+        this.output = output;
+        this.store = store;
+        this.smooth = smooth;
+        this.fractal = fractal;
+        this.antialias = antialias;
+    }
+
+    /**
+     * @return the mode iterating in the cheapest precision that resolves the
+     * region; fractals other than the Mandelbrot set only have a double kernel
+     */
+    private static Mode chooseMode(BigComplex upperLeft, BigComplex lowerRight, int width, int height, String fractal) {
+        if (!Kernels.DEFAULT_FRACTAL.equals(fractal)) {
+            return Mode.TILE;
+        }
+        switch (Precision.forMapper(new BigPixelMapper(width, height, upperLeft, lowerRight))) {
+            case DOUBLE:
+                return Mode.TILE;
+            case DOUBLE_DOUBLE:
+                return Mode.DOUBLE_DOUBLE;
+            default:
+                return Mode.PERTURBATION;
+        }
+    }
+
+    /**
+     * Parse job options:
+     * --upper-left re,im --lower-right re,im --size WxH --max-iterations N|auto
+     * --bound B --palette name[:size] --mode auto|tile|mariani-silver|double-double|perturbation
+     * --output file.png
+     * --store counts.bin --coloring banded|smooth
+     * --fractal mandelbrot|julia:re,im|multibrot:degree|burning-ship --antialias none|adaptive
+     * @param args command line style options
+     * @return the job
+     */
+    public static RenderJob parse(String[] args) {
+        String upperLeft = DEFAULT_UPPER_LEFT;
+        String lowerRight = DEFAULT_LOWER_RIGHT;
+        String size = "700x700";
+        int maxIterations = Mandelbrot.MAX_ITERATIONS;
+        double bound = Mandelbrot.DEFAULT_BOUND;
+        String palette = "spectrum";
+        Mode mode = Mode.AUTO;
+        String output = null;
+        String store = null;
+        boolean smooth = false;
+        String fractal = Kernels.DEFAULT_FRACTAL;
+        boolean antialias = false;
+
+        for (int i = 0; i < args.length; ++i) {
+            String option = args[i];
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("Missing value for " + option);
+            String value = args[++i];
+            if ("--upper-left".equals(option)) {
+                upperLeft = value;
+            } else if ("--lower-right".equals(option)) {
+                lowerRight = value;
+            } else if ("--size".equals(option)) {
+                size = value;
+            } else if ("--max-iterations".equals(option)) {
+                maxIterations = "auto".equals(value) ? AUTO_ITERATIONS : Integer.parseInt(value);
+            } else if ("--bound".equals(option)) {
+                bound = Double.parseDouble(value);
+            } else if ("--palette".equals(option)) {
+                palette = value;
+            } else if ("--mode".equals(option)) {
+                mode = Mode.valueOf(value.toUpperCase().replace('-', '_'));
+            } else if ("--output".equals(option)) {
+                output = value;
+            } else if ("--store".equals(option)) {
+                store = value;
+            } else if ("--coloring".equals(option)) {
+                if (!"smooth".equals(value) && !"banded".equals(value))
+                    throw new IllegalArgumentException("Coloring must be banded or smooth: " + value);
+                smooth = "smooth".equals(value);
+            } else if ("--fractal".equals(option)) {
+                fractal = value;
+            } else if ("--antialias".equals(option)) {
+                if (!"adaptive".equals(value) && !"none".equals(value))
+                    throw new IllegalArgumentException("Anti-aliasing must be none or adaptive: " + value);
+                antialias = "adaptive".equals(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if (output == null)
+            throw new IllegalArgumentException("--output is required");
+
+        int x = size.toLowerCase().indexOf('x');
+        if (x < 0)
+            throw new IllegalArgumentException("Size must be WIDTHxHEIGHT: " + size);
+
+        return new RenderJob(parseComplex(upperLeft), parseComplex(lowerRight),
+                Integer.parseInt(size.substring(0, x)), Integer.parseInt(size.substring(x + 1)),
+                maxIterations, bound, palette, mode, new File(output), (store != null) ? new File(store) : null, smooth, fractal,
+                antialias);
+    }
+
+    static BigComplex parseComplex(String value) {
+        int comma = value.indexOf(',');
+        if (comma < 0)
+            throw new IllegalArgumentException("Complex value must be re,im: " + value);
+
+        BigDecimal re = new BigDecimal(value.substring(0, comma).trim());
+        BigDecimal im = new BigDecimal(value.substring(comma + 1).trim());
+        return new BigComplex(re, im, Math.max(BigComplex.DEFAULT_SCALE, Math.max(re.scale(), im.scale())));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public File getOutput() {
+        return output;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return arithmetic the job's mode iterates in
+     */
+    public Precision getPrecision() {
+        if (this.mode == Mode.PERTURBATION) {
+            return Precision.ARBITRARY;
+        }
+        return (this.mode == Mode.DOUBLE_DOUBLE) ? Precision.DOUBLE_DOUBLE : Precision.DOUBLE;
+    }
+
+    public File getStore() {
+        return store;
+    }
+
+    public boolean isSmooth() {
+        return smooth;
+    }
+
+    public String getFractal() {
+        return fractal;
+    }
+
+    public boolean isAntialiased() {
+        return antialias;
+    }
+
+    /**
+     * @return true for the modes that map pixels in arbitrary precision
+     */
+    private static boolean isDeep(Mode mode) {
+        return (mode == Mode.PERTURBATION) || (mode == Mode.DOUBLE_DOUBLE);
+    }
+
+    public void run(Renderer renderer, PerturbationRenderer perturbationRenderer) throws IOException {
+        this.run(renderer, perturbationRenderer, null);
+    }
+
+    /**
+     * Render the job and stream it to its output file.
+     * @param renderer per-pixel renderer used for the TILE and MARIANI_SILVER modes, holding the job's fractal
+     * @param perturbationRenderer renderer used for the PERTURBATION mode
+     * @param doubleDoubleRenderer renderer used for the DOUBLE_DOUBLE mode
+     */
+    public void run(Renderer renderer, PerturbationRenderer perturbationRenderer, DoubleDoubleRenderer doubleDoubleRenderer)
+            throws IOException {
+        if ((this.mode == Mode.DOUBLE_DOUBLE) && (doubleDoubleRenderer == null))
+            throw new IllegalArgumentException("The double-double mode needs a double-double renderer");
+
+        CancellationToken token = new CancellationToken();
+        PixelMapper mapper = null;
+        BigPixelMapper bigMapper = null;
+        ReferenceOrbit reference = null;
+        int maxIterations = this.maxIterations;
+        if (isDeep(this.mode)) {
+            bigMapper = new BigPixelMapper(this.width, this.height, this.upperLeft, this.lowerRight);
+            if (maxIterations == AUTO_ITERATIONS) {
+                // doubles cannot resolve a preview this deep, so only the zoom depth is used
+                maxIterations = new IterationBudget().forZoom(PixelMapper.affine(this.width, this.height, new Complex(),
+                        new Complex(0.0, bigMapper.getImStep()), new Complex(bigMapper.getReStep(), 0.0)));
+            }
+            if (this.mode == Mode.PERTURBATION) {
+                reference = new ReferenceOrbit(bigMapper.getCenter(), maxIterations, this.bound);
+            }
+        } else {
+            mapper = new PixelMapper(this.width, this.height,
+                    new Complex(this.upperLeft.getRe().doubleValue(), this.upperLeft.getIm().doubleValue()),
+                    new Complex(this.lowerRight.getRe().doubleValue(), this.lowerRight.getIm().doubleValue()));
+            if (maxIterations == AUTO_ITERATIONS) {
+                maxIterations = new IterationBudget().choose(renderer, mapper, this.bound, token);
+            }
+        }
+        Palette colors = Palette.forName(this.palette, maxIterations);
+        long numSaturated = 0;
+        FrameStats stats = new FrameStats(this.output.getPath());
+        int parallelism = (this.mode == Mode.PERTURBATION) ? perturbationRenderer.getParallelism()
+                : (this.mode == Mode.DOUBLE_DOUBLE) ? doubleDoubleRenderer.getParallelism() : renderer.getParallelism();
+        stats.setPrecision(getPrecision(), (bigMapper != null) ? getPrecision().getDigits(bigMapper) : Precision.DOUBLE.getDigits());
+        token.setStats(stats);
+        stats.begin();
+
+        if (this.store != null) {
+            IterationStore iterations = new IterationStore(this.store, this.width, this.height);
+            try {
+                for (int tileY = 0; tileY < iterations.getTilesDown(); ++tileY) {
+                    for (int tileX = 0; tileX < iterations.getTilesAcross(); ++tileX) {
+                        IterationBuffer tile = iterations.newTile(tileX, tileY);
+                        if (this.mode == Mode.PERTURBATION) {
+                            perturbationRenderer.render(bigMapper, tile, maxIterations, this.bound, reference, token);
+                        } else if (this.mode == Mode.DOUBLE_DOUBLE) {
+                            doubleDoubleRenderer.render(bigMapper, tile, maxIterations, this.bound, token);
+                        } else {
+                            renderer.render(mapper, tile, maxIterations, this.bound, token);
+                        }
+                        numSaturated += Math.round(IterationBudget.saturation(tile, maxIterations) * tile.getCounts().length);
+                        stats.count(tile, maxIterations);
+                        iterations.write(tile);
+                    }
+                }
+                this.write(iterations, colors);
+            } finally {
+                iterations.close();
+            }
+            stats.end(parallelism);
+            this.report(maxIterations, numSaturated, stats);
+            return;
+        }
+
+        // each band is colored once the next is rendered, so the sampler sees the rows on both sides of it
+        AdaptiveSupersampler sampler = this.antialias
+                ? new AdaptiveSupersampler(renderer.getFunction(), renderer.getParallelism()) : null;
+        int[] rgb = new int[this.width * (this.antialias ? DEFAULT_BAND_HEIGHT : 1)];
+        PngWriter png = new PngWriter(new BufferedOutputStream(new FileOutputStream(this.output)), this.width, this.height);
+        boolean finished = false;
+        try {
+            IterationBuffer previous = null;
+            IterationBuffer band = null;
+            for (int y = 0; y < this.height + DEFAULT_BAND_HEIGHT; y += DEFAULT_BAND_HEIGHT) {
+                IterationBuffer next = null;
+                if (y < this.height) {
+                    next = new IterationBuffer(0, y, this.width, Math.min(DEFAULT_BAND_HEIGHT, this.height - y), this.smooth);
+                    if (this.mode == Mode.PERTURBATION) {
+                        perturbationRenderer.render(bigMapper, next, maxIterations, this.bound, reference, token);
+                    } else if (this.mode == Mode.DOUBLE_DOUBLE) {
+                        doubleDoubleRenderer.render(bigMapper, next, maxIterations, this.bound, token);
+                    } else {
+                        renderer.render(mapper, next, maxIterations, this.bound, token);
+                    }
+                    numSaturated += Math.round(IterationBudget.saturation(next, maxIterations) * next.getCounts().length);
+                    stats.count(next, maxIterations);
+                }
+                if ((band != null) && (sampler != null)) {
+                    sampler.render(mapper, withNeighbours(previous, band, next), band.getY(), band.getHeight(),
+                            maxIterations, this.bound, colors, this.smooth, rgb, token);
+                    for (int row = 0; row < band.getHeight(); ++row) {
+                        png.writeRow(rgb, row * this.width);
+                    }
+                } else if (band != null) {
+                    for (int j = band.getY(); j < band.getY() + band.getHeight(); ++j) {
+                        colors.colorRow(band, j, rgb);
+                        png.writeRow(rgb);
+                    }
+                }
+                previous = band;
+                band = next;
+            }
+            png.finish();
+            finished = true;
+        } finally {
+            close(png, finished);
+            if (sampler != null) {
+                sampler.shutdown();
+            }
+        }
+        stats.end(parallelism);
+        this.report(maxIterations, numSaturated, stats);
+    }
+
+    /**
+     * @return the band with the last row of the band above and the first row
+     * of the band below it, where there are such bands
+     */
+    static IterationBuffer withNeighbours(IterationBuffer previous, IterationBuffer band, IterationBuffer next) {
+        int above = (previous != null) ? 1 : 0;
+        int below = (next != null) ? 1 : 0;
+        IterationBuffer context = new IterationBuffer(band.getX(), band.getY() - above, band.getWidth(),
+                band.getHeight() + above + below, band.isSmooth());
+        if (previous != null) {
+            copyRows(previous, previous.getY() + previous.getHeight() - 1, 1, context);
+        }
+        copyRows(band, band.getY(), band.getHeight(), context);
+        if (next != null) {
+            copyRows(next, next.getY(), 1, context);
+        }
+        return context;
+    }
+
+    private static void copyRows(IterationBuffer from, int firstRow, int numRows, IterationBuffer to) {
+        int width = from.getWidth();
+        int source = (firstRow - from.getY()) * width;
+        int destination = (firstRow - to.getY()) * width;
+        System.arraycopy(from.getCounts(), source, to.getCounts(), destination, numRows * width);
+        if (from.isSmooth() && to.isSmooth()) {
+            System.arraycopy(from.getFractions(), source, to.getFractions(), destination, numRows * width);
+        }
+    }
+
+    private void report(int maxIterations, long numSaturated, FrameStats stats) {
+        this.lastIterations = maxIterations;
+        this.lastStats = stats;
+        this.lastSaturation = (double) numSaturated / ((long) this.width * this.height);
+    }
+
+    /**
+     * @return iteration limit used by the last run; differs from the job's
+     * setting when that is AUTO_ITERATIONS
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return share of the pixels of the last run that reached the iteration limit
+     */
+    public double getLastSaturation() {
+        return lastSaturation;
+    }
+
+    /**
+     * @return measurements of the last run, from the first tile to the last row written
+     */
+    public FrameStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Color a finished iteration store row by row and stream it to the output file.
+     * @param iterations escape counts for the whole frame
+     * @param colors palette
+     */
+    public void write(IterationStore iterations, Palette colors) throws IOException {
+        int[] counts = new int[this.width];
+        int[] rgb = new int[this.width];
+        PngWriter png = new PngWriter(new BufferedOutputStream(new FileOutputStream(this.output)), this.width, this.height);
+        boolean finished = false;
+        try {
+            for (int j = 0; j < this.height; ++j) {
+                iterations.readRow(j, counts);
+                colors.colorRow(counts, 0, this.width, rgb);
+                png.writeRow(rgb);
+            }
+            png.finish();
+            finished = true;
+        } finally {
+            close(png, finished);
+        }
+    }
+
+    /**
+     * Close the output and, unless the image was finished, delete what was
+     * written of it, so a failed or cancelled job leaves no truncated PNG.
+     */
+    private void close(PngWriter png, boolean finished) throws IOException {
+        try {
+            png.close();
+        } finally {
+            if (!finished) {
+                this.output.delete();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s-%s %dx%d max=%d bound=%s palette=%s -> %s",
+                mode, fractal, upperLeft, lowerRight, width, height, maxIterations, bound, palette, output);
+    }
+}
@@ -0,0 +1,499 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ReferenceOrbit;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.IterationBudget;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.PngWriter;
+import mandelbrot.render.Precision;
+import mandelbrot.render.RenderTelemetry;
+import mandelbrot.render.Renderer;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ZoomAnimation renders the frames of a ZoomPath to numbered PNG files for
+ * a video encoder.  Frames go through three stages on their own threads:
+ * computing the escape counts (itself spread over the renderer's pool),
+ * coloring them and encoding the PNG, so while one frame is computed the
+ * previous ones are colored and written.  Each stage hands its frames on
+ * through a bounded queue, and the count and pixel buffers come from fixed
+ * pools that a stage must wait on when they are empty.  A slow encoder
+ * therefore holds up the computation rather than letting frames pile up,
+ * and memory stays at a few frames whatever the length of the zoom.
+ * <p>
+ * Work is shared between frames: the Precision of every frame is decided
+ * up front from its pixel spacing, so frames move from doubles to
+ * double-double to perturbation as the zoom deepens; the reference
+ * orbit is computed once, at the point the zoom heads for, which stays
+ * inside every frame; and the iteration budget follows the zoom depth, so
+ * no preview is rendered per frame.  With resume, frames whose file exists
+ * are skipped; files are written under a temporary name and renamed, so a
+ * file that exists is complete.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomAnimation {
+    public static final int AUTO_ITERATIONS = RenderJob.AUTO_ITERATIONS;
+    public static final int DEFAULT_ENCODERS = 2;
+    public static final int FRAMES_IN_FLIGHT = 2;
+    /**
+     * Smallest pixel spacing, relative to the magnitude of the frame centre,
+     * that doubles still resolve with some digits to spare.
+     */
+    public static final double DOUBLE_STEP_LIMIT = Precision.DOUBLE_SPACING_LIMIT;
+    private static final String USAGE = "usage: ZoomAnimation --output frames/zoom-%05d.png --frames N\n"
+            + "                     [--from-upper-left re,im] [--from-lower-right re,im] --to-upper-left re,im --to-lower-right re,im\n"
+            + "                     [--size WxH] [--easing linear|smooth] [--max-iterations N|auto] [--bound B]\n"
+            + "                     [--palette spectrum|grayscale[:size]] [--threads N] [--encoders N] [--resume]\n"
+            + "                     [--telemetry frames.jsonl]";
+    private static final Frame END = new Frame(-1, 0, null, null);
+
+    private final ZoomPath path;
+    private final int width;
+    private final int height;
+    private final int maxIterations;
+    private final double bound;
+    private final String palette;
+    private final String outputPattern;
+    private final int encoders;
+    private final boolean resume;
+    private final Precision[] precisions;
+    private final IterationBudget budget = new IterationBudget();
+
+    /**
+     * @param path viewport of every frame
+     * @param width frame width in pixels
+     * @param height frame height in pixels
+     * @param maxIterations iteration limit, or AUTO_ITERATIONS to follow the zoom depth
+     * @param bound bailout magnitude
+     * @param palette palette name, stretched over each frame's iteration limit
+     * @param outputPattern String.format pattern turning the frame number into a file name
+     * @param encoders number of threads encoding PNGs
+     * @param resume skip frames whose file already exists
+     */
+    public ZoomAnimation(ZoomPath path, int width, int height, int maxIterations, double bound, String palette,
+                         String outputPattern, int encoders, boolean resume) {
+        if ((path == null) || (palette == null) || (outputPattern == null))
+            throw new IllegalArgumentException("Path, palette and output pattern cannot be null");
+        if ((width <= 0) || (height <= 0) || (maxIterations < 0) || (encoders <= 0))
+            throw new IllegalArgumentException("Size and encoders must be positive and the iteration limit positive or AUTO_ITERATIONS");
+
+        this.path = path;
+        this.width = width;
+        this.height = height;
+        this.maxIterations = maxIterations;
+        this.bound = bound;
+        this.palette = palette;
+        this.outputPattern = outputPattern;
+        this.encoders = encoders;
+        this.resume = resume;
+        this.precisions = new Precision[path.getNumFrames()];
+        for (int frame = 0; frame < this.precisions.length; ++frame) {
+            this.precisions[frame] = choosePrecision(frame);
+        }
+        Palette.forName(palette, Mandelbrot.MAX_ITERATIONS);
+        this.getFile(0);
+    }
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String telemetryFile = null;
+        List<String> animationArgs = new ArrayList<String>();
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                if ("--threads".equals(args[i]) && (i + 1 < args.length)) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if ("--telemetry".equals(args[i]) && (i + 1 < args.length)) {
+                    telemetryFile = args[++i];
+                } else {
+                    animationArgs.add(args[i]);
+                }
+            }
+            ZoomAnimation animation = parse(animationArgs.toArray(new String[animationArgs.size()]));
+            RenderTelemetry telemetry = (telemetryFile != null)
+                    ? new RenderTelemetry(new BufferedWriter(new FileWriter(telemetryFile, true)))
+                    : new RenderTelemetry();
+            TileRenderer renderer = new TileRenderer(Kernels.mandelbrot(), threads, TileRenderer.DEFAULT_TILE_SIZE);
+            PerturbationRenderer perturbationRenderer = new PerturbationRenderer(threads, TileRenderer.DEFAULT_TILE_SIZE);
+            DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer(threads, TileRenderer.DEFAULT_TILE_SIZE);
+            try {
+                long start = System.nanoTime();
+                int written = animation.run(renderer, doubleDoubleRenderer, perturbationRenderer, telemetry);
+                System.out.printf("wrote %d of %d frames in %d s\n", written, animation.path.getNumFrames(),
+                        (System.nanoTime() - start) / 1000000000L);
+            } finally {
+                renderer.shutdown();
+                perturbationRenderer.shutdown();
+                doubleDoubleRenderer.shutdown();
+                telemetry.close();
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parse the options in USAGE other than --threads and --telemetry.
+     * @param args command line style options
+     * @return the animation
+     */
+    public static ZoomAnimation parse(String[] args) {
+        String fromUpperLeft = RenderJob.DEFAULT_UPPER_LEFT;
+        String fromLowerRight = RenderJob.DEFAULT_LOWER_RIGHT;
+        String toUpperLeft = null;
+        String toLowerRight = null;
+        String size = "1280x720";
+        int numFrames = 0;
+        ZoomPath.Easing easing = ZoomPath.Easing.LINEAR;
+        int maxIterations = AUTO_ITERATIONS;
+        double bound = Mandelbrot.DEFAULT_BOUND;
+        String palette = "spectrum";
+        String output = null;
+        int encoders = DEFAULT_ENCODERS;
+        boolean resume = false;
+
+        for (int i = 0; i < args.length; ++i) {
+            String option = args[i];
+            if ("--resume".equals(option)) {
+                resume = true;
+                continue;
+            }
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("Missing value for " + option);
+            String value = args[++i];
+            if ("--from-upper-left".equals(option)) {
+                fromUpperLeft = value;
+            } else if ("--from-lower-right".equals(option)) {
+                fromLowerRight = value;
+            } else if ("--to-upper-left".equals(option)) {
+                toUpperLeft = value;
+            } else if ("--to-lower-right".equals(option)) {
+                toLowerRight = value;
+            } else if ("--size".equals(option)) {
+                size = value;
+            } else if ("--frames".equals(option)) {
+                numFrames = Integer.parseInt(value);
+            } else if ("--easing".equals(option)) {
+                easing = ZoomPath.Easing.valueOf(value.toUpperCase());
+            } else if ("--max-iterations".equals(option)) {
+                maxIterations = "auto".equals(value) ? AUTO_ITERATIONS : Integer.parseInt(value);
+            } else if ("--bound".equals(option)) {
+                bound = Double.parseDouble(value);
+            } else if ("--palette".equals(option)) {
+                palette = value;
+            } else if ("--output".equals(option)) {
+                output = value;
+            } else if ("--encoders".equals(option)) {
+                encoders = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if ((output == null) || (toUpperLeft == null) || (toLowerRight == null))
+            throw new IllegalArgumentException("--output, --to-upper-left and --to-lower-right are required");
+
+        int x = size.toLowerCase().indexOf('x');
+        if (x < 0)
+            throw new IllegalArgumentException("Size must be WIDTHxHEIGHT: " + size);
+
+        ZoomPath path = new ZoomPath(RenderJob.parseComplex(fromUpperLeft), RenderJob.parseComplex(fromLowerRight),
+                RenderJob.parseComplex(toUpperLeft), RenderJob.parseComplex(toLowerRight), numFrames, easing);
+        return new ZoomAnimation(path, Integer.parseInt(size.substring(0, x)), Integer.parseInt(size.substring(x + 1)),
+                maxIterations, bound, palette, output, encoders, resume);
+    }
+
+    public ZoomPath getPath() {
+        return path;
+    }
+
+    public File getFile(int frame) {
+        return new File(String.format(this.outputPattern, frame));
+    }
+
+    /**
+     * @return true if the frame's pixel spacing is too fine for double coordinates
+     */
+    public boolean isDeep(int frame) {
+        return precisions[frame] != Precision.DOUBLE;
+    }
+
+    /**
+     * @return arithmetic the frame is iterated in
+     */
+    public Precision getPrecision(int frame) {
+        return precisions[frame];
+    }
+
+    private Precision choosePrecision(int frame) {
+        double step = Math.min(Math.abs(this.path.getReExtent(frame)) / this.height,
+                Math.abs(this.path.getImExtent(frame)) / this.width);
+        return Precision.forSpacing(step, this.path.getEndCenter().toComplex().magnitude());
+    }
+
+    /**
+     * @return iteration limit of the frame
+     */
+    public int getIterations(int frame) {
+        if (this.maxIterations != AUTO_ITERATIONS) {
+            return this.maxIterations;
+        }
+        return this.budget.forZoom(PixelMapper.affine(this.width, this.height, new Complex(),
+                new Complex(0.0, this.path.getImExtent(frame) / this.width),
+                new Complex(this.path.getReExtent(frame) / this.height, 0.0)));
+    }
+
+    /**
+     * Render every frame, with the double-double frames handed to the
+     * perturbation renderer.
+     */
+    public int run(Renderer renderer, PerturbationRenderer perturbationRenderer, RenderTelemetry telemetry) throws IOException {
+        return this.run(renderer, null, perturbationRenderer, telemetry);
+    }
+
+    /**
+     * Render every frame through the compute, color and encode stages.
+     * @param renderer renderer for frames that doubles resolve
+     * @param doubleDoubleRenderer renderer for frames that double-double resolves; null to use perturbation for them
+     * @param perturbationRenderer renderer for deeper frames
+     * @param telemetry receives the measurements of every computed frame; may be null
+     * @return number of frames written; frames skipped on resume are not counted
+     * @throws IOException if a frame could not be written; the remaining work is abandoned
+     */
+    public int run(final Renderer renderer, final DoubleDoubleRenderer doubleDoubleRenderer,
+                   final PerturbationRenderer perturbationRenderer, final RenderTelemetry telemetry) throws IOException {
+        final CancellationToken token = new CancellationToken();
+        final BlockingQueue<IterationBuffer> freeCounts = new ArrayBlockingQueue<IterationBuffer>(FRAMES_IN_FLIGHT);
+        final BlockingQueue<int[]> freePixels = new ArrayBlockingQueue<int[]>(FRAMES_IN_FLIGHT + this.encoders);
+        final BlockingQueue<Frame> computed = new ArrayBlockingQueue<Frame>(FRAMES_IN_FLIGHT + 1);
+        final BlockingQueue<Frame> colored = new ArrayBlockingQueue<Frame>(FRAMES_IN_FLIGHT + this.encoders + 1);
+        for (int k = 0; k < FRAMES_IN_FLIGHT; ++k) {
+            freeCounts.add(new IterationBuffer(this.width, this.height));
+        }
+        for (int k = 0; k < FRAMES_IN_FLIGHT + this.encoders; ++k) {
+            freePixels.add(new int[this.width * this.height]);
+        }
+
+        ExecutorService stages = Executors.newFixedThreadPool(2 + this.encoders);
+        // results are taken as the stages finish, so a failed stage is seen while the others wait on it
+        CompletionService<Integer> results = new ExecutorCompletionService<Integer>(stages);
+        try {
+            results.submit(new Callable<Integer>() {
+                public Integer call() throws InterruptedException {
+                    try {
+                        computeFrames(renderer, doubleDoubleRenderer, perturbationRenderer, telemetry, token, freeCounts, computed);
+                    } finally {
+                        computed.put(END);
+                    }
+                    return 0;
+                }
+            });
+            results.submit(new Callable<Integer>() {
+                public Integer call() throws InterruptedException {
+                    try {
+                        colorFrames(computed, freeCounts, freePixels, colored);
+                    } finally {
+                        for (int k = 0; k < encoders; ++k) {
+                            colored.put(END);
+                        }
+                    }
+                    return 0;
+                }
+            });
+            for (int k = 0; k < this.encoders; ++k) {
+                results.submit(new Callable<Integer>() {
+                    public Integer call() throws InterruptedException, IOException {
+                        return encodeFrames(colored, freePixels);
+                    }
+                });
+            }
+
+            int written = 0;
+            for (int k = 0; k < 2 + this.encoders; ++k) {
+                written += results.take().get();
+            }
+            return written;
+        } catch (ExecutionException e) {
+            token.cancel();
+            stages.shutdownNow();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Zoom animation failed: " + cause, cause);
+        } catch (InterruptedException e) {
+            token.cancel();
+            stages.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IOException("Zoom animation interrupted");
+        } finally {
+            stages.shutdown();
+        }
+    }
+
+    private void computeFrames(Renderer renderer, DoubleDoubleRenderer doubleDoubleRenderer,
+                               PerturbationRenderer perturbationRenderer, RenderTelemetry telemetry, CancellationToken token,
+                               BlockingQueue<IterationBuffer> freeCounts, BlockingQueue<Frame> computed) throws InterruptedException {
+        ReferenceOrbit reference = null;
+        for (int frame = 0; frame < this.path.getNumFrames(); ++frame) {
+            if (this.resume && getFile(frame).exists()) {
+                continue;
+            }
+            int frameIterations = getIterations(frame);
+            BigComplex[] corners = this.path.getCorners(frame);
+            IterationBuffer counts = freeCounts.take();
+            Precision precision = this.precisions[frame];
+            if ((precision == Precision.DOUBLE_DOUBLE) && (doubleDoubleRenderer == null)) {
+                precision = Precision.ARBITRARY;
+            }
+            FrameStats stats = new FrameStats(getFile(frame).getPath());
+            token.setStats(stats);
+            int parallelism;
+            if (precision == Precision.DOUBLE) {
+                stats.begin();
+                renderer.render(new PixelMapper(this.width, this.height, corners[0].toComplex(), corners[1].toComplex()),
+                        counts, frameIterations, this.bound, token);
+                parallelism = renderer.getParallelism();
+            } else {
+                BigPixelMapper mapper = new BigPixelMapper(this.width, this.height, corners[0], corners[1]);
+                stats.setPrecision(precision, precision.getDigits(mapper));
+                stats.begin();
+                if (precision == Precision.DOUBLE_DOUBLE) {
+                    doubleDoubleRenderer.render(mapper, counts, frameIterations, this.bound, token);
+                    parallelism = doubleDoubleRenderer.getParallelism();
+                } else {
+                    if (reference == null) {
+                        reference = new ReferenceOrbit(this.path.getEndCenter(), getDeepestIterations(), this.bound);
+                    }
+                    perturbationRenderer.render(mapper, counts, frameIterations, this.bound, reference, token);
+                    parallelism = perturbationRenderer.getParallelism();
+                }
+            }
+            stats.count(counts, frameIterations);
+            stats.end(parallelism);
+            if (telemetry != null) {
+                telemetry.publish(stats);
+            }
+            computed.put(new Frame(frame, frameIterations, counts, null));
+        }
+    }
+
+    /**
+     * @return the largest iteration limit of any deep frame, which the shared reference orbit must reach
+     */
+    private int getDeepestIterations() {
+        int deepest = 0;
+        for (int frame = 0; frame < this.precisions.length; ++frame) {
+            if (isDeep(frame)) {
+                deepest = Math.max(deepest, getIterations(frame));
+            }
+        }
+        return deepest;
+    }
+
+    private void colorFrames(BlockingQueue<Frame> computed, BlockingQueue<IterationBuffer> freeCounts,
+                             BlockingQueue<int[]> freePixels, BlockingQueue<Frame> colored) throws InterruptedException {
+        Palette base = Palette.forName(this.palette, getIterations(0));
+        while (true) {
+            Frame frame = computed.take();
+            if (frame == END) {
+                return;
+            }
+            // stretched over each frame's limit, which grows slowly enough with the zoom not to flicker
+            Palette colors = base.resample(frame.maxIterations);
+            int[] rgb = freePixels.take();
+            for (int j = 0; j < this.height; ++j) {
+                colors.colorRow(frame.counts, j, rgb, j * this.width, false);
+            }
+            freeCounts.put(frame.counts);
+            colored.put(new Frame(frame.index, frame.maxIterations, null, rgb));
+        }
+    }
+
+    private int encodeFrames(BlockingQueue<Frame> colored, BlockingQueue<int[]> freePixels) throws InterruptedException, IOException {
+        int written = 0;
+        while (true) {
+            Frame frame = colored.take();
+            if (frame == END) {
+                return written;
+            }
+            File file = getFile(frame.index);
+            File temporary = new File(file.getPath() + ".tmp");
+            PngWriter png = new PngWriter(new BufferedOutputStream(new FileOutputStream(temporary)), this.width, this.height);
+            boolean finished = false;
+            try {
+                for (int j = 0; j < this.height; ++j) {
+                    png.writeRow(frame.rgb, j * this.width);
+                }
+                png.finish();
+                finished = true;
+            } finally {
+                try {
+                    png.close();
+                } finally {
+                    if (!finished) {
+                        temporary.delete();
+                    }
+                }
+            }
+            freePixels.put(frame.rgb);
+            if (!temporary.renameTo(file)) {
+                file.delete();
+                if (!temporary.renameTo(file)) {
+                    temporary.delete();
+                    throw new IOException("Cannot write frame " + file);
+                }
+            }
+            ++written;
+        }
+    }
+
+    /**
+     * A frame on its way through the stages: counts between computing and
+     * coloring, pixels between coloring and encoding.
+     */
+    private static class Frame {
+        final int index;
+        final int maxIterations;
+        final IterationBuffer counts;
+        final int[] rgb;
+
+        Frame(int index, int maxIterations, IterationBuffer counts, int[] rgb) {
+            this.index = index;
+            this.maxIterations = maxIterations;
+            this.counts = counts;
+            this.rgb = rgb;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.BigComplex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * ZoomPath gives the viewport of every frame of a zoom from a start region
+ * to an end region.  The extent of the region changes geometrically, so each
+ * frame magnifies the last by the same factor and the zoom looks steady; the
+ * easing curve then decides how that progress is spread over the frames.
+ * The centre moves in step with the extent, so every frame is the same
+ * magnification about one fixed point, which stays at the same place on the
+ * screen; it lies inside every frame and, for a deep zoom, next to the end centre.
+ * Corners are arbitrary precision, as the end region may be too deep for doubles.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomPath {
+    private static final int GUARD_DIGITS = 20;
+
+    public enum Easing {
+        /** the same magnification from every frame to the next */
+        LINEAR,
+        /** starts and ends slowly: smoothstep on the zoom progress */
+        SMOOTH;
+
+        /**
+         * @param u share of the frames done, in [0, 1]
+         * @return share of the zoom done, in [0, 1]
+         */
+        public double apply(double u) {
+            if (this == SMOOTH) {
+                return u * u * (3.0 - 2.0 * u);
+            }
+            return u;
+        }
+    }
+
+    private final BigComplex startCenter;
+    private final BigComplex endCenter;
+    private final double startReExtent;
+    private final double startImExtent;
+    private final double endReExtent;
+    private final double endImExtent;
+    private final int numFrames;
+    private final Easing easing;
+    private final int scale;
+
+    /**
+     * @param startUpperLeft upper left corner of the first frame
+     * @param startLowerRight lower right corner of the first frame
+     * @param endUpperLeft upper left corner of the last frame
+     * @param endLowerRight lower right corner of the last frame
+     * @param numFrames number of frames, at least 1
+     * @param easing how the zoom is spread over the frames
+     */
+    public ZoomPath(BigComplex startUpperLeft, BigComplex startLowerRight, BigComplex endUpperLeft, BigComplex endLowerRight,
+                    int numFrames, Easing easing) {
+        if ((startUpperLeft == null) || (startLowerRight == null) || (endUpperLeft == null) || (endLowerRight == null))
+            throw new IllegalArgumentException("Region bounds cannot be null");
+        if (numFrames <= 0)
+            throw new IllegalArgumentException("Number of frames must be positive");
+        if (easing == null)
+            throw new IllegalArgumentException("Easing cannot be null");
+
+        this.startReExtent = startLowerRight.getRe().subtract(startUpperLeft.getRe()).doubleValue();
+        this.startImExtent = startLowerRight.getIm().subtract(startUpperLeft.getIm()).doubleValue();
+        this.endReExtent = endLowerRight.getRe().subtract(endUpperLeft.getRe()).doubleValue();
+        this.endImExtent = endLowerRight.getIm().subtract(endUpperLeft.getIm()).doubleValue();
+        if ((this.startReExtent * this.endReExtent <= 0.0) || (this.startImExtent * this.endImExtent <= 0.0))
+            throw new IllegalArgumentException("Start and end regions must be non-empty and have the same orientation");
+
+        double smallest = Math.min(Math.min(Math.abs(this.startReExtent), Math.abs(this.startImExtent)),
+                Math.min(Math.abs(this.endReExtent), Math.abs(this.endImExtent)));
+        this.scale = Math.max(Math.max(Math.max(startUpperLeft.getScale(), startLowerRight.getScale()),
+                Math.max(endUpperLeft.getScale(), endLowerRight.getScale())),
+                (int) Math.ceil(-Math.log10(smallest)) + GUARD_DIGITS);
+        this.startCenter = midpoint(startUpperLeft, startLowerRight, this.scale);
+        this.endCenter = midpoint(endUpperLeft, endLowerRight, this.scale);
+        this.numFrames = numFrames;
+        this.easing = easing;
+    }
+
+    private static BigComplex midpoint(BigComplex a, BigComplex b, int scale) {
+        BigDecimal two = BigDecimal.valueOf(2L);
+        return new BigComplex(a.getRe().add(b.getRe()).divide(two, scale, RoundingMode.HALF_EVEN),
+                a.getIm().add(b.getIm()).divide(two, scale, RoundingMode.HALF_EVEN), scale);
+    }
+
+    public int getNumFrames() {
+        return numFrames;
+    }
+
+    public Easing getEasing() {
+        return easing;
+    }
+
+    public BigComplex getEndCenter() {
+        return endCenter;
+    }
+
+    /**
+     * @return share of the zoom done at the frame: 0 for the first, 1 for the last
+     */
+    public double getProgress(int frame) {
+        if ((frame < 0) || (frame >= this.numFrames))
+            throw new IllegalArgumentException("Frame out of range: " + frame);
+
+        return (this.numFrames == 1) ? 1.0 : this.easing.apply((double) frame / (this.numFrames - 1));
+    }
+
+    /**
+     * @return extent of the frame along the real axis, lower right less upper left
+     */
+    public double getReExtent(int frame) {
+        return this.startReExtent * Math.pow(this.endReExtent / this.startReExtent, getProgress(frame));
+    }
+
+    /**
+     * @return extent of the frame along the imaginary axis, lower right less upper left
+     */
+    public double getImExtent(int frame) {
+        return this.startImExtent * Math.pow(this.endImExtent / this.startImExtent, getProgress(frame));
+    }
+
+    /**
+     * @return upper left and lower right corners of the frame
+     */
+    public BigComplex[] getCorners(int frame) {
+        double reExtent = getReExtent(frame);
+        double imExtent = getImExtent(frame);
+        // share of the way from the end centre back to the start centre
+        double weight;
+        double extentChange = Math.abs(this.startReExtent) - Math.abs(this.endReExtent);
+        if (Math.abs(extentChange) > 1.0e-9 * Math.abs(this.startReExtent)) {
+            weight = (Math.abs(reExtent) - Math.abs(this.endReExtent)) / extentChange;
+        } else {
+            weight = 1.0 - getProgress(frame);
+        }
+        BigDecimal w = new BigDecimal(weight);
+        BigDecimal centerRe = this.endCenter.getRe().add(this.startCenter.getRe().subtract(this.endCenter.getRe()).multiply(w));
+        BigDecimal centerIm = this.endCenter.getIm().add(this.startCenter.getIm().subtract(this.endCenter.getIm()).multiply(w));
+        BigDecimal halfRe = new BigDecimal(reExtent / 2.0);
+        BigDecimal halfIm = new BigDecimal(imExtent / 2.0);
+        return new BigComplex[]{
+                new BigComplex(centerRe.subtract(halfRe), centerIm.subtract(halfIm), this.scale),
+                new BigComplex(centerRe.add(halfRe), centerIm.add(halfIm), this.scale)};
+    }
+}
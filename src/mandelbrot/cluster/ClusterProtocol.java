@@ -0,0 +1,92 @@
+package mandelbrot.cluster;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * ClusterProtocol holds the message layout spoken between the Coordinator and
+ * its workers over TCP.  A worker opens with MAGIC, VERSION and the number of
+ * tiles it is willing to hold at once; the coordinator then sends TILE
+ * messages, never more than that many ahead of the results, and the worker
+ * answers each with a RESULT or a FAILED message.  A worker also sends a
+ * HEARTBEAT every HEARTBEAT_MILLIS, so the coordinator can tell a busy worker
+ * from one that hung or lost power: it drops a worker it has not heard from
+ * for READ_TIMEOUT_MILLIS.  Escape counts travel as
+ * runs of equal counts, each run a pair of unsigned LEB128 varints (count,
+ * run length): rows of interior or early-escaping pixels shrink to a few
+ * bytes, and a typical count takes one or two bytes instead of four.
+ * @author Michael
+ * @link https://en.wikipedia.org/wiki/LEB128
+ * @since 10/18/26
+ */
+final class ClusterProtocol {
+    static final int MAGIC = 0x4d414e44;
+    static final int VERSION = 2;
+    static final byte TILE = 1;
+    static final byte RESULT = 2;
+    static final byte FAILED = 3;
+    static final byte HEARTBEAT = 4;
+    static final long HEARTBEAT_MILLIS = 5000L;
+    static final int READ_TIMEOUT_MILLIS = 3 * (int) HEARTBEAT_MILLIS;
+
+    private ClusterProtocol() {
+    }
+
+    /**
+     * Write counts[0, length) as runs of equal counts.
+     */
+    static void writeCounts(DataOutputStream out, int[] counts, int length) throws IOException {
+        int i = 0;
+        while (i < length) {
+            int value = counts[i];
+            int run = 1;
+            while ((i + run < length) && (counts[i + run] == value)) {
+                ++run;
+            }
+            writeVarint(out, value);
+            writeVarint(out, run);
+            i += run;
+        }
+    }
+
+    /**
+     * Read length counts written by writeCounts into counts[0, length).
+     * @throws IOException if the runs do not add up to length
+     */
+    static void readCounts(DataInputStream in, int[] counts, int length) throws IOException {
+        int i = 0;
+        while (i < length) {
+            int value = readVarint(in);
+            int run = readVarint(in);
+            if ((run <= 0) || (run > length - i))
+                throw new IOException("Bad count run of " + run + " at " + i + " of " + length);
+            for (int end = i + run; i < end; ++i) {
+                counts[i] = value;
+            }
+        }
+    }
+
+    static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0)
+                throw new EOFException("Connection closed inside a varint");
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint longer than 5 bytes");
+    }
+}
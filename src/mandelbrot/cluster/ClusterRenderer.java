@@ -0,0 +1,57 @@
+package mandelbrot.cluster;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Renderer;
+import mandelbrot.view.PixelMapper;
+
+/**
+ * ClusterRenderer is the Renderer view of a Coordinator for one fractal, so
+ * batch jobs and the iteration budget's previews render on the workers
+ * without knowing it.  Several renderers can share a coordinator; shutdown
+ * leaves it running for the others, and its owner closes it.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ClusterRenderer implements Renderer {
+    private final Coordinator coordinator;
+    private final String fractal;
+    private final IterativeFunction function;
+
+    /**
+     * @param coordinator coordinator the workers are connected to
+     * @param fractal Kernels.forName spec of the function the workers iterate
+     */
+    public ClusterRenderer(Coordinator coordinator, String fractal) {
+        if ((coordinator == null) || (fractal == null))
+            throw new IllegalArgumentException("Coordinator and fractal cannot be null");
+
+        this.coordinator = coordinator;
+        this.fractal = fractal;
+        this.function = Kernels.forName(fractal);
+    }
+
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+        this.coordinator.render(this.fractal, mapper, buffer, maxIterations, bound, token);
+    }
+
+    public IterativeFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * @return render threads over the workers connected now
+     */
+    public int getParallelism() {
+        return this.coordinator.getParallelism();
+    }
+
+    public Coordinator getCoordinator() {
+        return coordinator;
+    }
+
+    public void shutdown() {
+    }
+}
@@ -0,0 +1,254 @@
+package mandelbrot.cluster;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Kernels;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ClusterWorker renders tiles for a Coordinator.  It connects to the
+ * coordinator, offers to hold CREDITS_PER_THREAD tiles per render thread so
+ * that a tile is always waiting when one finishes, renders each tile with a
+ * TileRenderer for its fractal and streams the counts back, with a heartbeat
+ * in between so the coordinator knows it is alive.  It runs until the
+ * coordinator closes the connection.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ClusterWorker implements Runnable, Closeable {
+    public static final int CREDITS_PER_THREAD = 2;
+    public static final long DEFAULT_CONNECT_MILLIS = 10000L;
+    private static final long RETRY_MILLIS = 200L;
+    private static final String USAGE = "usage: ClusterWorker [--connect host:port] [--threads N]";
+
+    private final String host;
+    private final int port;
+    private final int parallelism;
+    private final Map<String, TileRenderer> renderers = new HashMap<String, TileRenderer>();
+    private final AtomicLong tiles = new AtomicLong();
+    private volatile Socket socket;
+    private volatile boolean closed;
+
+    public ClusterWorker(String host, int port, int parallelism) {
+        if (host == null)
+            throw new IllegalArgumentException("Host cannot be null");
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+
+        this.host = host;
+        this.port = port;
+        this.parallelism = parallelism;
+    }
+
+    public static void main(String[] args) {
+        String address = "localhost:" + Coordinator.DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                String option = args[i];
+                if (i + 1 >= args.length)
+                    throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                if ("--connect".equals(option)) {
+                    address = value;
+                } else if ("--threads".equals(option)) {
+                    threads = Integer.parseInt(value);
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+            int colon = address.lastIndexOf(':');
+            if (colon < 0)
+                throw new IllegalArgumentException("Address must be host:port: " + address);
+            new ClusterWorker(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)), threads).run();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Connect, retrying for DEFAULT_CONNECT_MILLIS while the coordinator
+     * starts, and render tiles until the connection ends.
+     */
+    public void run() {
+        try {
+            long deadline = System.currentTimeMillis() + DEFAULT_CONNECT_MILLIS;
+            while (this.socket == null) {
+                try {
+                    this.socket = new Socket(this.host, this.port);
+                } catch (ConnectException e) {
+                    if (this.closed || (System.currentTimeMillis() > deadline)) {
+                        throw e;
+                    }
+                    Thread.sleep(RETRY_MILLIS);
+                }
+            }
+            if (this.closed) {
+                this.socket.close();
+                return;
+            }
+            serve();
+        } catch (IOException e) {
+            if (!this.closed) {
+                System.err.println("worker stopped: " + e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this.renderers) {
+                for (TileRenderer renderer : this.renderers.values()) {
+                    renderer.shutdown();
+                }
+            }
+        }
+    }
+
+    private void serve() throws IOException {
+        this.socket.setTcpNoDelay(true);
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(this.socket.getOutputStream()));
+        out.writeInt(ClusterProtocol.MAGIC);
+        out.writeInt(ClusterProtocol.VERSION);
+        out.writeInt(this.parallelism);
+        out.writeInt(CREDITS_PER_THREAD * this.parallelism);
+        out.flush();
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor();
+        heartbeat.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                try {
+                    synchronized (out) {
+                        out.writeByte(ClusterProtocol.HEARTBEAT);
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    // the connection is gone; the reader sees it and stops
+                }
+            }
+        }, ClusterProtocol.HEARTBEAT_MILLIS, ClusterProtocol.HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            while (true) {
+                byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    return;
+                }
+                if (type != ClusterProtocol.TILE)
+                    throw new IOException("Unknown message " + type + " from coordinator");
+                final long id = in.readLong();
+                final String fractal = in.readUTF();
+                int frameWidth = in.readInt();
+                int frameHeight = in.readInt();
+                Complex origin = new Complex(in.readDouble(), in.readDouble());
+                Complex xStep = new Complex(in.readDouble(), in.readDouble());
+                Complex yStep = new Complex(in.readDouble(), in.readDouble());
+                final PixelMapper mapper = PixelMapper.affine(frameWidth, frameHeight, origin, xStep, yStep);
+                int x = in.readInt();
+                int y = in.readInt();
+                int width = in.readInt();
+                int height = in.readInt();
+                final int maxIterations = in.readInt();
+                final double bound = in.readDouble();
+                final IterationBuffer buffer = new IterationBuffer(x, y, width, height, in.readBoolean());
+                executor.execute(new Runnable() {
+                    public void run() {
+                        render(id, fractal, mapper, buffer, maxIterations, bound, out);
+                    }
+                });
+            }
+        } finally {
+            heartbeat.shutdownNow();
+            executor.shutdownNow();
+            this.socket.close();
+        }
+    }
+
+    private void render(long id, String fractal, PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                        DataOutputStream out) {
+        long start = System.nanoTime();
+        String failure = null;
+        try {
+            rendererFor(fractal).render(mapper, buffer, maxIterations, bound);
+        } catch (RuntimeException e) {
+            failure = String.valueOf(e.getMessage());
+        } catch (Throwable e) {
+            // an Error such as OutOfMemoryError still answers the tile, so the coordinator is not left waiting for it
+            failure = e.toString();
+        }
+        long nanos = System.nanoTime() - start;
+        try {
+            synchronized (out) {
+                if (failure != null) {
+                    out.writeByte(ClusterProtocol.FAILED);
+                    out.writeLong(id);
+                    out.writeUTF(failure);
+                } else {
+                    out.writeByte(ClusterProtocol.RESULT);
+                    out.writeLong(id);
+                    out.writeLong(nanos);
+                    ClusterProtocol.writeCounts(out, buffer.getCounts(), buffer.getCounts().length);
+                    if (buffer.isSmooth()) {
+                        for (float fraction : buffer.getFractions()) {
+                            out.writeFloat(fraction);
+                        }
+                    }
+                }
+                out.flush();
+            }
+            this.tiles.incrementAndGet();
+        } catch (IOException e) {
+            // the connection is gone; the reader sees it and stops
+        }
+    }
+
+    private TileRenderer rendererFor(String fractal) {
+        synchronized (this.renderers) {
+            TileRenderer renderer = this.renderers.get(fractal);
+            if (renderer == null) {
+                renderer = new TileRenderer(Kernels.forName(fractal), this.parallelism, TileRenderer.DEFAULT_TILE_SIZE);
+                this.renderers.put(fractal, renderer);
+            }
+            return renderer;
+        }
+    }
+
+    /**
+     * @return tiles rendered and sent back
+     */
+    public long getTiles() {
+        return this.tiles.get();
+    }
+
+    /**
+     * Drop the connection; the coordinator hands this worker's tiles to the others.
+     */
+    public void close() throws IOException {
+        this.closed = true;
+        Socket socket = this.socket;
+        if (socket != null) {
+            socket.close();
+        }
+    }
+}
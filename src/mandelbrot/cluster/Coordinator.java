@@ -0,0 +1,637 @@
+package mandelbrot.cluster;
+
+import mandelbrot.model.Complex;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.view.PixelMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coordinator renders frames on worker JVMs.  It listens for ClusterWorker
+ * connections, cuts each buffer it is asked to fill into square tiles and
+ * queues them; every worker connection has a sender thread that takes the
+ * next tile from the queue whenever the worker has room for one, so workers
+ * pull tiles as fast as they finish them and a fast machine takes more of
+ * the frame, as the ForkJoinPool's threads do within one machine.  Results
+ * are copied into the buffer as they arrive.  When a worker's connection
+ * fails, the tiles it held go back to the front of the queue for the others;
+ * a tile lost MAX_ATTEMPTS times fails the render, so one tile that kills
+ * its workers cannot take down the whole cluster.  A worker that hangs or
+ * loses power keeps its socket open, so it is also dropped when its
+ * heartbeats stop for ClusterProtocol.READ_TIMEOUT_MILLIS or when a tile it
+ * holds has been out longer than the tile timeout.  Workers can join and
+ * leave at any time, and can be started as local processes for testing.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class Coordinator implements Closeable {
+    public static final int DEFAULT_PORT = 7077;
+    public static final long DEFAULT_WORKER_TIMEOUT_MILLIS = 30000L;
+    public static final long DEFAULT_TILE_TIMEOUT_MILLIS = 300000L;
+    public static final int MAX_ATTEMPTS = 3;
+    private static final long POLL_MILLIS = 100L;
+
+    private final ServerSocket serverSocket;
+    private final int tileSize;
+    private final LinkedBlockingDeque<Tile> pending = new LinkedBlockingDeque<Tile>();
+    private final List<Connection> connections = new ArrayList<Connection>();
+    private final List<Process> processes = new ArrayList<Process>();
+    private final AtomicLong nextTileId = new AtomicLong();
+    private final AtomicLong dispatchedTiles = new AtomicLong();
+    private final AtomicLong redispatchedTiles = new AtomicLong();
+    private final AtomicLong lostWorkers = new AtomicLong();
+    private volatile long workerTimeoutMillis = DEFAULT_WORKER_TIMEOUT_MILLIS;
+    private volatile long tileTimeoutMillis = DEFAULT_TILE_TIMEOUT_MILLIS;
+    private volatile boolean closed;
+
+    /**
+     * @param port port to listen on for workers, or 0 for any free port
+     * @param tileSize edge of the square tiles handed to workers
+     */
+    public Coordinator(int port, int tileSize) throws IOException {
+        if (tileSize <= 0)
+            throw new IllegalArgumentException("Tile size must be positive");
+
+        this.tileSize = tileSize;
+        this.serverSocket = new ServerSocket(port);
+        Thread acceptor = new Thread(new Runnable() {
+            public void run() {
+                accept();
+            }
+        }, "cluster-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void accept() {
+        while (!this.closed) {
+            try {
+                final Connection connection = new Connection(this.serverSocket.accept());
+                Thread reader = new Thread(new Runnable() {
+                    public void run() {
+                        connection.receive();
+                    }
+                }, "cluster-reader-" + connection.name);
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                // the server socket was closed
+            }
+        }
+    }
+
+    /**
+     * Start worker JVMs on this machine that connect to the coordinator.  They
+     * run with this JVM's class path and --add-modules options and exit when
+     * the coordinator closes.
+     * @param count number of worker processes
+     * @param threads render threads in each
+     */
+    public void startLocalWorkers(int count, int threads) throws IOException {
+        if ((count <= 0) || (threads <= 0))
+            throw new IllegalArgumentException("Worker and thread counts must be positive");
+
+        List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        for (int i = 0; i < jvmArgs.size(); ++i) {
+            if (jvmArgs.get(i).startsWith("--add-modules")) {
+                command.add(jvmArgs.get(i));
+                if ("--add-modules".equals(jvmArgs.get(i)) && (i + 1 < jvmArgs.size())) {
+                    command.add(jvmArgs.get(++i));
+                }
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ClusterWorker.class.getName());
+        command.add("--connect");
+        command.add("localhost:" + getPort());
+        command.add("--threads");
+        command.add(Integer.toString(threads));
+        for (int k = 0; k < count; ++k) {
+            Process process = new ProcessBuilder(command).inheritIO().start();
+            synchronized (this.processes) {
+                this.processes.add(process);
+            }
+        }
+    }
+
+    /**
+     * @param numWorkers number of workers to wait for
+     * @param timeoutMillis longest time to wait
+     * @return true if that many workers are connected
+     */
+    public boolean awaitWorkers(int numWorkers, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (this.connections) {
+            while (this.connections.size() < numWorkers) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                this.connections.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Fill a buffer on the workers; blocks until every tile is back.
+     * @param fractal Kernels.forName spec of the function the workers iterate
+     * @param mapper pixel to complex plane mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param token polled while waiting; its statistics get the workers' tile times
+     * @throws CancellationException if the token was cancelled
+     * @throws IllegalStateException if a worker failed a tile, a tile was lost
+     * too often or no worker was connected for the worker timeout
+     */
+    public void render(String fractal, PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                       CancellationToken token) {
+        if ((fractal == null) || (mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Fractal, mapper, buffer and token cannot be null");
+        if (this.closed)
+            throw new IllegalStateException("Coordinator is closed");
+
+        Batch batch = new Batch(buffer, token.getStats());
+        List<Tile> tiles = new ArrayList<Tile>();
+        for (int y = buffer.getY(); y < buffer.getY() + buffer.getHeight(); y += this.tileSize) {
+            for (int x = buffer.getX(); x < buffer.getX() + buffer.getWidth(); x += this.tileSize) {
+                tiles.add(new Tile(this.nextTileId.incrementAndGet(), batch, fractal, mapper, x, y,
+                        Math.min(this.tileSize, buffer.getX() + buffer.getWidth() - x),
+                        Math.min(this.tileSize, buffer.getY() + buffer.getHeight() - y), maxIterations, bound));
+            }
+        }
+        batch.remaining = tiles.size();
+        this.pending.addAll(tiles);
+
+        boolean done = false;
+        long waitingSince = System.nanoTime();
+        try {
+            while (!batch.await(POLL_MILLIS)) {
+                if (token.isCancelled()) {
+                    batch.cancel();
+                    token.throwIfCancelled();
+                }
+                expireTiles();
+                if (getWorkers() > 0) {
+                    waitingSince = System.nanoTime();
+                } else if (System.nanoTime() - waitingSince > this.workerTimeoutMillis * 1000000L) {
+                    batch.fail("No workers connected for " + this.workerTimeoutMillis + " ms");
+                }
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                for (Iterator<Tile> i = this.pending.iterator(); i.hasNext(); ) {
+                    if (i.next().batch == batch) {
+                        i.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the workers holding a tile for longer than the tile timeout.
+     */
+    private void expireTiles() {
+        List<Connection> open;
+        synchronized (this.connections) {
+            open = new ArrayList<Connection>(this.connections);
+        }
+        long sentBefore = System.nanoTime() - this.tileTimeoutMillis * 1000000L;
+        for (Connection connection : open) {
+            if (connection.holdsTileSentBefore(sentBefore)) {
+                connection.lost();
+            }
+        }
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getWorkers() {
+        synchronized (this.connections) {
+            return this.connections.size();
+        }
+    }
+
+    /**
+     * @return render threads over all connected workers, at least 1
+     */
+    public int getParallelism() {
+        int parallelism = 0;
+        synchronized (this.connections) {
+            for (Connection connection : this.connections) {
+                parallelism += connection.threads;
+            }
+        }
+        return Math.max(1, parallelism);
+    }
+
+    public long getDispatchedTiles() {
+        return this.dispatchedTiles.get();
+    }
+
+    /**
+     * @return tiles queued again because the worker holding them was lost
+     */
+    public long getRedispatchedTiles() {
+        return this.redispatchedTiles.get();
+    }
+
+    public long getLostWorkers() {
+        return this.lostWorkers.get();
+    }
+
+    public long getWorkerTimeoutMillis() {
+        return workerTimeoutMillis;
+    }
+
+    /**
+     * @param workerTimeoutMillis how long a render waits with no worker connected before it fails
+     */
+    public void setWorkerTimeoutMillis(long workerTimeoutMillis) {
+        if (workerTimeoutMillis <= 0)
+            throw new IllegalArgumentException("Worker timeout must be positive");
+
+        this.workerTimeoutMillis = workerTimeoutMillis;
+    }
+
+    public long getTileTimeoutMillis() {
+        return tileTimeoutMillis;
+    }
+
+    /**
+     * @param tileTimeoutMillis how long a worker may hold a tile before it is
+     * dropped and its tiles go to the others
+     */
+    public void setTileTimeoutMillis(long tileTimeoutMillis) {
+        if (tileTimeoutMillis <= 0)
+            throw new IllegalArgumentException("Tile timeout must be positive");
+
+        this.tileTimeoutMillis = tileTimeoutMillis;
+    }
+
+    /**
+     * Stop listening, drop the workers and end the local worker processes.
+     */
+    public void close() throws IOException {
+        this.closed = true;
+        this.serverSocket.close();
+        List<Connection> open;
+        synchronized (this.connections) {
+            open = new ArrayList<Connection>(this.connections);
+        }
+        for (Connection connection : open) {
+            connection.lost();
+        }
+        synchronized (this.processes) {
+            for (Process process : this.processes) {
+                try {
+                    if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                        process.destroy();
+                    }
+                } catch (InterruptedException e) {
+                    process.destroy();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.processes.clear();
+        }
+    }
+
+    /**
+     * The tiles of one render call and how many are still out.
+     */
+    private static class Batch {
+        final IterationBuffer buffer;
+        final FrameStats stats;
+        int remaining;
+        private String failure;
+        private boolean cancelled;
+
+        Batch(IterationBuffer buffer, FrameStats stats) {
+            this.buffer = buffer;
+            this.stats = stats;
+        }
+
+        synchronized boolean isActive() {
+            return (this.remaining > 0) && (this.failure == null) && !this.cancelled;
+        }
+
+        void complete(Tile tile, int[] counts, float[] fractions, long nanos) {
+            synchronized (this) {
+                if (!isActive()) {
+                    return;
+                }
+                for (int row = 0; row < tile.height; ++row) {
+                    int offset = (tile.y + row - this.buffer.getY()) * this.buffer.getWidth() + (tile.x - this.buffer.getX());
+                    System.arraycopy(counts, row * tile.width, this.buffer.getCounts(), offset, tile.width);
+                    if (fractions != null) {
+                        System.arraycopy(fractions, row * tile.width, this.buffer.getFractions(), offset, tile.width);
+                    }
+                }
+                if (--this.remaining == 0) {
+                    notifyAll();
+                }
+            }
+            if (this.stats != null) {
+                this.stats.recordTile(nanos);
+            }
+        }
+
+        synchronized void fail(String message) {
+            if (this.failure == null) {
+                this.failure = message;
+            }
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * @return true once every tile is in
+         * @throws IllegalStateException if the batch failed
+         */
+        synchronized boolean await(long millis) {
+            if ((this.remaining > 0) && (this.failure == null)) {
+                try {
+                    wait(millis);
+                } catch (InterruptedException e) {
+                    this.cancelled = true;
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Render interrupted");
+                }
+            }
+            if (this.failure != null)
+                throw new IllegalStateException(this.failure);
+            return this.remaining == 0;
+        }
+    }
+
+    /**
+     * One tile on its way to a worker and back.
+     */
+    private static class Tile {
+        final long id;
+        final Batch batch;
+        final String fractal;
+        final PixelMapper mapper;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+        final int maxIterations;
+        final double bound;
+        int attempts;
+        long sentNanos;
+
+        Tile(long id, Batch batch, String fractal, PixelMapper mapper, int x, int y, int width, int height,
+             int maxIterations, double bound) {
+            this.id = id;
+            this.batch = batch;
+            this.fractal = fractal;
+            this.mapper = mapper;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            Complex origin = this.mapper.getUpperLeft();
+            Complex xStep = this.mapper.getXStep();
+            Complex yStep = this.mapper.getYStep();
+            out.writeByte(ClusterProtocol.TILE);
+            out.writeLong(this.id);
+            out.writeUTF(this.fractal);
+            out.writeInt(this.mapper.getWidth());
+            out.writeInt(this.mapper.getHeight());
+            out.writeDouble(origin.getRe());
+            out.writeDouble(origin.getIm());
+            out.writeDouble(xStep.getRe());
+            out.writeDouble(xStep.getIm());
+            out.writeDouble(yStep.getRe());
+            out.writeDouble(yStep.getIm());
+            out.writeInt(this.x);
+            out.writeInt(this.y);
+            out.writeInt(this.width);
+            out.writeInt(this.height);
+            out.writeInt(this.maxIterations);
+            out.writeDouble(this.bound);
+            out.writeBoolean(this.batch.buffer.isSmooth());
+        }
+    }
+
+    /**
+     * One worker: a reader thread that takes its results and a sender thread
+     * that hands it a tile for every one it has room for.
+     */
+    private class Connection {
+        final Socket socket;
+        final String name;
+        final Map<Long, Tile> inFlight = new HashMap<Long, Tile>();
+        DataInputStream in;
+        DataOutputStream out;
+        Semaphore credits;
+        int threads;
+        private boolean registered;
+        private boolean dead;
+
+        Connection(Socket socket) {
+            this.socket = socket;
+            this.name = socket.getRemoteSocketAddress().toString();
+        }
+
+        void receive() {
+            try {
+                this.socket.setTcpNoDelay(true);
+                this.socket.setSoTimeout(ClusterProtocol.READ_TIMEOUT_MILLIS);
+                this.in = new DataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+                this.out = new DataOutputStream(new BufferedOutputStream(this.socket.getOutputStream()));
+                if ((this.in.readInt() != ClusterProtocol.MAGIC) || (this.in.readInt() != ClusterProtocol.VERSION))
+                    throw new IOException("Not a cluster worker: " + this.name);
+                this.threads = this.in.readInt();
+                int numCredits = this.in.readInt();
+                if ((this.threads <= 0) || (numCredits <= 0))
+                    throw new IOException("Worker offers no capacity: " + this.name);
+                this.credits = new Semaphore(numCredits);
+                synchronized (connections) {
+                    synchronized (this) {
+                        if (this.dead || closed) {
+                            return;
+                        }
+                        this.registered = true;
+                    }
+                    connections.add(this);
+                    connections.notifyAll();
+                }
+                Thread sender = new Thread(new Runnable() {
+                    public void run() {
+                        send();
+                    }
+                }, "cluster-sender-" + this.name);
+                sender.setDaemon(true);
+                sender.start();
+                while (true) {
+                    readMessage();
+                }
+            } catch (IOException e) {
+                // the worker went away or broke the protocol; its tiles go to the others
+            } finally {
+                lost();
+            }
+        }
+
+        private void readMessage() throws IOException {
+            byte type = this.in.readByte();
+            if (type == ClusterProtocol.HEARTBEAT) {
+                return;
+            }
+            long id = this.in.readLong();
+            Tile tile;
+            synchronized (this) {
+                tile = this.inFlight.remove(id);
+            }
+            if (tile == null)
+                throw new IOException("Worker " + this.name + " answered unknown tile " + id);
+            if (type == ClusterProtocol.RESULT) {
+                long nanos = this.in.readLong();
+                int[] counts = new int[tile.width * tile.height];
+                ClusterProtocol.readCounts(this.in, counts, counts.length);
+                float[] fractions = null;
+                if (tile.batch.buffer.isSmooth()) {
+                    fractions = new float[counts.length];
+                    for (int k = 0; k < fractions.length; ++k) {
+                        fractions[k] = this.in.readFloat();
+                    }
+                }
+                this.credits.release();
+                tile.batch.complete(tile, counts, fractions, nanos);
+            } else if (type == ClusterProtocol.FAILED) {
+                String message = this.in.readUTF();
+                this.credits.release();
+                tile.batch.fail("Worker " + this.name + " failed tile at " + tile.x + "," + tile.y + ": " + message);
+            } else {
+                throw new IOException("Unknown message " + type + " from worker " + this.name);
+            }
+        }
+
+        private void send() {
+            try {
+                while (!isDead()) {
+                    if (!this.credits.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        continue;
+                    }
+                    Tile tile = pending.pollFirst(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if ((tile == null) || !tile.batch.isActive()) {
+                        this.credits.release();
+                        continue;
+                    }
+                    synchronized (this) {
+                        if (this.dead) {
+                            pending.addFirst(tile);
+                            return;
+                        }
+                        tile.sentNanos = System.nanoTime();
+                        this.inFlight.put(tile.id, tile);
+                    }
+                    tile.write(this.out);
+                    this.out.flush();
+                    dispatchedTiles.incrementAndGet();
+                }
+            } catch (IOException e) {
+                // handled by lost
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lost();
+            }
+        }
+
+        synchronized boolean isDead() {
+            return dead;
+        }
+
+        synchronized boolean holdsTileSentBefore(long nanos) {
+            for (Tile tile : this.inFlight.values()) {
+                if (tile.sentNanos - nanos < 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Close the connection and queue the tiles the worker held again.
+         */
+        void lost() {
+            List<Tile> orphans;
+            boolean wasRegistered;
+            synchronized (this) {
+                if (this.dead) {
+                    return;
+                }
+                this.dead = true;
+                wasRegistered = this.registered;
+                orphans = new ArrayList<Tile>(this.inFlight.values());
+                this.inFlight.clear();
+            }
+            try {
+                this.socket.close();
+            } catch (IOException e) {
+                // already gone
+            }
+            if (wasRegistered) {
+                synchronized (connections) {
+                    connections.remove(this);
+                }
+                if (!closed) {
+                    lostWorkers.incrementAndGet();
+                }
+            }
+            for (Tile tile : orphans) {
+                if (++tile.attempts >= MAX_ATTEMPTS) {
+                    tile.batch.fail("Tile at " + tile.x + "," + tile.y + " lost with " + tile.attempts + " workers");
+                } else if (tile.batch.isActive()) {
+                    pending.addFirst(tile);
+                    redispatchedTiles.incrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package mandelbrot.model;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 
@@ -11,11 +12,12 @@ import java.text.DecimalFormat;
  */
 public class BigComplex {
     private static final DecimalFormat DEFAULT_FORMAT = new DecimalFormat("#.###");
-    private static final int DEFAULT_SCALE = 10;
+    public static final int DEFAULT_SCALE = 10;
     private static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_EVEN;
 
     private final BigDecimal re;
     private final BigDecimal im;
+    private final int scale;
 
     public BigComplex() {
         this(BigDecimal.ZERO, BigDecimal.ZERO);
@@ -26,20 +28,84 @@ public class BigComplex {
     }
 
     public BigComplex(BigDecimal x, BigDecimal y) {
-        this.re = x.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
-        this.im = y.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+        this(x, y, DEFAULT_SCALE);
+    }
+
+    /**
+     * @param x real part
+     * @param y imaginary part
+     * @param scale number of decimal places kept; results of arithmetic keep
+     *              the larger scale of their operands
+     */
+    public BigComplex(BigDecimal x, BigDecimal y, int scale) {
+        this.re = x.setScale(scale, DEFAULT_ROUNDING_MODE);
+        this.im = y.setScale(scale, DEFAULT_ROUNDING_MODE);
+        this.scale = scale;
     }
 
     public BigComplex(BigComplex other) {
-        this(other.re, other.im);
+        this(other.re, other.im, other.scale);
+    }
+
+    public BigDecimal getRe() {
+        return re;
+    }
+
+    public BigDecimal getIm() {
+        return im;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Complex toComplex() {
+        return new Complex(re.doubleValue(), im.doubleValue());
     }
 
+    public BigComplex withScale(int newScale) {
+        return new BigComplex(this.re, this.im, newScale);
+    }
+
+    /**
+     * @return |z| computed to the scale of this number, without a detour through double
+     */
     public BigDecimal magnitude() {
-        return new BigDecimal(Math.sqrt(re.multiply(re).add(im.multiply(im)).doubleValue()));
+        BigDecimal magnitudeSquared = this.magnitudeSquared();
+        if (magnitudeSquared.signum() == 0) {
+            return BigDecimal.ZERO.setScale(this.scale);
+        }
+        int integerDigits = Math.max(magnitudeSquared.precision() - magnitudeSquared.scale(), 1);
+        MathContext context = new MathContext(integerDigits + this.scale + 1, DEFAULT_ROUNDING_MODE);
+        return magnitudeSquared.sqrt(context).setScale(this.scale, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * @return |z|^2 in full precision
+     */
+    public BigDecimal magnitudeSquared() {
+        return this.re.multiply(this.re).add(this.im.multiply(this.im));
+    }
+
+    /**
+     * Bailout test on the squared magnitude, so no square root is taken.
+     * @param bound bailout magnitude
+     * @return true if |z| is not less than bound
+     */
+    public boolean isOutside(BigDecimal bound) {
+        return this.magnitudeSquared().compareTo(bound.multiply(bound)) >= 0;
+    }
+
+    /**
+     * Square with three multiplies: (a + bi)^2 = a^2 - b^2 + 2abi.
+     */
+    public BigComplex square() {
+        BigDecimal product = this.re.multiply(this.im);
+        return new BigComplex(this.re.multiply(this.re).subtract(this.im.multiply(this.im)), product.add(product), this.scale);
     }
 
     public BigComplex conjugate() {
-        return new BigComplex(this.re, this.im.negate());
+        return new BigComplex(this.re, this.im.negate(), this.scale);
     }
 
     public BigComplex add(BigComplex x) {
@@ -75,27 +141,27 @@ public class BigComplex {
     }
 
     public static BigComplex add(BigComplex x, BigComplex y) {
-        return new BigComplex(x.re.add(y.re), x.im.add(y.im));
+        return new BigComplex(x.re.add(y.re), x.im.add(y.im), Math.max(x.scale, y.scale));
     }
 
     public static BigComplex add(BigComplex x, BigDecimal c) {
-        return new BigComplex(x.re.add(c), x.im);
+        return new BigComplex(x.re.add(c), x.im, x.scale);
     }
 
     public static BigComplex sub(BigComplex x, BigComplex y) {
-        return new BigComplex(x.re.subtract(y.re), x.im.subtract(y.im));
+        return new BigComplex(x.re.subtract(y.re), x.im.subtract(y.im), Math.max(x.scale, y.scale));
     }
 
     public static BigComplex sub(BigComplex x, BigDecimal c) {
-        return new BigComplex((x.re.subtract(c)), x.im);
+        return new BigComplex((x.re.subtract(c)), x.im, x.scale);
     }
 
     public static BigComplex mul(BigComplex x, BigComplex y) {
-        return new BigComplex(x.re.multiply(y.re).subtract(x.im.multiply(y.im)), x.re.multiply(y.im).add(x.im.multiply(y.re)));
+        return new BigComplex(x.re.multiply(y.re).subtract(x.im.multiply(y.im)), x.re.multiply(y.im).add(x.im.multiply(y.re)), Math.max(x.scale, y.scale));
     }
 
     public static BigComplex mul(BigComplex x, BigDecimal c) {
-        return new BigComplex(c.multiply(x.re), c.multiply(x.im));
+        return new BigComplex(c.multiply(x.re), c.multiply(x.im), x.scale);
     }
 
     public static BigComplex div(BigComplex x, BigComplex y) {
@@ -103,7 +169,7 @@ public class BigComplex {
     }
 
     public static BigComplex div(BigComplex x, BigDecimal c) {
-        return new BigComplex(x.re.divide(c), x.im.divide(c));
+        return new BigComplex(x.re.divide(c, x.scale, DEFAULT_ROUNDING_MODE), x.im.divide(c, x.scale, DEFAULT_ROUNDING_MODE), x.scale);
     }
 
 
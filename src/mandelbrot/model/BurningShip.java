@@ -0,0 +1,62 @@
+package mandelbrot.model;
+
+/**
+ * BurningShip iterates z = (|Re z| + i|Im z|)^2 + c, starting from c as the
+ * Mandelbrot set does.  Folding z into the first quadrant before squaring
+ * turns the square's cross term into 2|Re z Im z|.  The set is not symmetric
+ * about the real axis; the ship is upright with the imaginary axis pointing
+ * down, i.e. with a lower right corner above the upper left one.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Burning_Ship_fractal
+ * @since 10/18/26
+ */
+public final class BurningShip extends EscapeTimeFunction {
+    public BurningShip() {
+        super(2);
+    }
+
+    public int getNumIterations(double re, double im, int maxIterations, double bound) {
+        return iterate(re, im, maxIterations, bound * bound);
+    }
+
+    public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+        final double bound2 = bound * bound;
+        for (int k = 0; k < length; ++k) {
+            counts[offset + k] = iterate(re[k], im[k], maxIterations, bound2);
+        }
+    }
+
+    private static int iterate(double re0, double im0, int maxIterations, double bound2) {
+        int numIterations = 0;
+        double re = re0;
+        double im = im0;
+        double re2;
+        double im2;
+        do {
+            double reNext = re * re - im * im + re0;
+            im = 2.0 * Math.abs(re * im) + im0;
+            re = reNext;
+            re2 = re * re;
+            im2 = im * im;
+            ++numIterations;
+        } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
+        return numIterations;
+    }
+
+    @Override
+    protected double getMagnitude2(double re0, double im0, int numIterations) {
+        double re = re0;
+        double im = im0;
+        for (int i = 0; i < numIterations; ++i) {
+            double reNext = re * re - im * im + re0;
+            im = 2.0 * Math.abs(re * im) + im0;
+            re = reNext;
+        }
+        return re * re + im * im;
+    }
+
+    @Override
+    public String toString() {
+        return "burning-ship";
+    }
+}
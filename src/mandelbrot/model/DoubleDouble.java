@@ -0,0 +1,188 @@
+package mandelbrot.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * DoubleDouble is an immutable real number held as the unevaluated sum of two
+ * doubles, hi + lo with |lo| at most half an ulp of hi, for about 106 bits
+ * of significand: enough for coordinates a double cannot resolve at a cost
+ * of a few double operations per operation.  Sums and products are made
+ * exact with the error-free transformations (two-sum, and two-product by a
+ * fused multiply-add) and then renormalized.
+ * @author Michael
+ * @link https://www.davidhbailey.com/dhbpapers/qd.pdf
+ * @since 10/18/26
+ */
+public final class DoubleDouble implements Comparable<DoubleDouble> {
+    public static final DoubleDouble ZERO = new DoubleDouble(0.0);
+    public static final DoubleDouble ONE = new DoubleDouble(1.0);
+    private static final MathContext DECIMAL_CONTEXT = new MathContext(32);
+
+    private final double hi;
+    private final double lo;
+
+    public DoubleDouble(double value) {
+        this.hi = value;
+        this.lo = 0.0;
+    }
+
+    /**
+     * @param hi leading part
+     * @param lo trailing part; the pair is renormalized, so any split of the value will do
+     */
+    public DoubleDouble(double hi, double lo) {
+        double sum = hi + lo;
+        double virtual = sum - hi;
+        this.hi = sum;
+        this.lo = (hi - (sum - virtual)) + (lo - virtual);
+    }
+
+    public static DoubleDouble valueOf(BigDecimal value) {
+        double hi = value.doubleValue();
+        return new DoubleDouble(hi, value.subtract(new BigDecimal(hi)).doubleValue());
+    }
+
+    public double getHi() {
+        return hi;
+    }
+
+    public double getLo() {
+        return lo;
+    }
+
+    public double doubleValue() {
+        return hi;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return new BigDecimal(this.hi).add(new BigDecimal(this.lo));
+    }
+
+    public int signum() {
+        return (this.hi != 0.0) ? (int) Math.signum(this.hi) : (int) Math.signum(this.lo);
+    }
+
+    public DoubleDouble negate() {
+        return new DoubleDouble(-this.hi, -this.lo);
+    }
+
+    public DoubleDouble abs() {
+        return (signum() < 0) ? negate() : this;
+    }
+
+    public DoubleDouble add(DoubleDouble x) {
+        double s = this.hi + x.hi;
+        double v = s - this.hi;
+        double e = (this.hi - (s - v)) + (x.hi - v);
+        double t = this.lo + x.lo;
+        double w = t - this.lo;
+        double f = (this.lo - (t - w)) + (x.lo - w);
+        e += t;
+        double h = s + e;
+        e = e - (h - s);
+        e += f;
+        return new DoubleDouble(h, e);
+    }
+
+    public DoubleDouble add(double c) {
+        double s = this.hi + c;
+        double v = s - this.hi;
+        double e = (this.hi - (s - v)) + (c - v) + this.lo;
+        return new DoubleDouble(s, e);
+    }
+
+    public DoubleDouble subtract(DoubleDouble x) {
+        return add(x.negate());
+    }
+
+    public DoubleDouble subtract(double c) {
+        return add(-c);
+    }
+
+    public DoubleDouble multiply(DoubleDouble x) {
+        double p = this.hi * x.hi;
+        double e = Math.fma(this.hi, x.hi, -p) + (this.hi * x.lo + this.lo * x.hi);
+        return new DoubleDouble(p, e);
+    }
+
+    public DoubleDouble multiply(double c) {
+        double p = this.hi * c;
+        double e = Math.fma(this.hi, c, -p) + this.lo * c;
+        return new DoubleDouble(p, e);
+    }
+
+    /**
+     * Square with one two-product fewer than multiply(this).
+     */
+    public DoubleDouble square() {
+        double p = this.hi * this.hi;
+        double e = Math.fma(this.hi, this.hi, -p) + 2.0 * this.hi * this.lo;
+        return new DoubleDouble(p, e);
+    }
+
+    /**
+     * Long division: three double quotients, each correcting the remainder of the last.
+     */
+    public DoubleDouble divide(DoubleDouble x) {
+        if (x.signum() == 0)
+            throw new ArithmeticException("Division by zero");
+
+        double q1 = this.hi / x.hi;
+        DoubleDouble remainder = subtract(x.multiply(q1));
+        double q2 = remainder.hi / x.hi;
+        remainder = remainder.subtract(x.multiply(q2));
+        double q3 = remainder.hi / x.hi;
+        return new DoubleDouble(q1, q2).add(q3);
+    }
+
+    public DoubleDouble divide(double c) {
+        return divide(new DoubleDouble(c));
+    }
+
+    /**
+     * One Newton step from the double square root, which doubles its precision.
+     */
+    public DoubleDouble sqrt() {
+        if (this.signum() < 0)
+            throw new ArithmeticException("Square root of a negative number");
+        if (this.signum() == 0) {
+            return ZERO;
+        }
+        double root = Math.sqrt(this.hi);
+        DoubleDouble residual = subtract(new DoubleDouble(root).square());
+        return new DoubleDouble(root, residual.hi / (2.0 * root));
+    }
+
+    public int compareTo(DoubleDouble other) {
+        int hiOrder = Double.compare(this.hi, other.hi);
+        return (hiOrder != 0) ? hiOrder : Double.compare(this.lo, other.lo);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleDouble)) {
+            return false;
+        }
+
+        DoubleDouble that = (DoubleDouble) o;
+        return (Double.compare(this.hi, that.hi) == 0) && (Double.compare(this.lo, that.lo) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        long bits = Double.doubleToLongBits(this.hi) * 31 + Double.doubleToLongBits(this.lo);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * @return the value to 32 significant digits
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().round(DECIMAL_CONTEXT).stripTrailingZeros().toString();
+    }
+}
@@ -0,0 +1,181 @@
+package mandelbrot.model;
+
+/**
+ * DoubleDoubleComplex is a complex number with DoubleDouble parts, between
+ * Complex and BigComplex: about 32 significant digits, enough for zooms
+ * down to a pixel spacing of about 1e-28 times the coordinates, at a small
+ * multiple of the cost of doubles rather than the hundreds of BigDecimal.
+ * It offers the operations of Complex and BigComplex; DoubleDoubleMandelbrot
+ * iterates on the same arithmetic inlined on primitives.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DoubleDoubleComplex {
+    private final DoubleDouble re;
+    private final DoubleDouble im;
+
+    public DoubleDoubleComplex() {
+        this(DoubleDouble.ZERO, DoubleDouble.ZERO);
+    }
+
+    public DoubleDoubleComplex(double re, double im) {
+        this(new DoubleDouble(re), new DoubleDouble(im));
+    }
+
+    public DoubleDoubleComplex(DoubleDouble re, DoubleDouble im) {
+        if ((re == null) || (im == null))
+            throw new IllegalArgumentException("Parts cannot be null");
+
+        this.re = re;
+        this.im = im;
+    }
+
+    public DoubleDoubleComplex(Complex z) {
+        this(z.getRe(), z.getIm());
+    }
+
+    /**
+     * @param z value to round to double-double precision
+     */
+    public DoubleDoubleComplex(BigComplex z) {
+        this(DoubleDouble.valueOf(z.getRe()), DoubleDouble.valueOf(z.getIm()));
+    }
+
+    public DoubleDouble getRe() {
+        return re;
+    }
+
+    public DoubleDouble getIm() {
+        return im;
+    }
+
+    public Complex toComplex() {
+        return new Complex(this.re.doubleValue(), this.im.doubleValue());
+    }
+
+    public BigComplex toBigComplex(int scale) {
+        return new BigComplex(this.re.toBigDecimal(), this.im.toBigDecimal(), scale);
+    }
+
+    public DoubleDouble magnitude() {
+        return magnitudeSquared().sqrt();
+    }
+
+    public DoubleDouble magnitudeSquared() {
+        return this.re.square().add(this.im.square());
+    }
+
+    /**
+     * Bailout test on the squared magnitude, so no square root is taken.
+     * @param bound bailout magnitude
+     * @return true if |z| is not less than bound
+     */
+    public boolean isOutside(double bound) {
+        return magnitudeSquared().compareTo(new DoubleDouble(bound).square()) >= 0;
+    }
+
+    /**
+     * Square with three multiplies: (a + bi)^2 = a^2 - b^2 + 2abi.
+     */
+    public DoubleDoubleComplex square() {
+        return new DoubleDoubleComplex(this.re.square().subtract(this.im.square()), this.re.multiply(this.im).multiply(2.0));
+    }
+
+    public DoubleDoubleComplex conjugate() {
+        return new DoubleDoubleComplex(this.re, this.im.negate());
+    }
+
+    public DoubleDoubleComplex add(DoubleDoubleComplex x) {
+        return DoubleDoubleComplex.add(this, x);
+    }
+
+    public DoubleDoubleComplex add(DoubleDouble c) {
+        return DoubleDoubleComplex.add(this, c);
+    }
+
+    public DoubleDoubleComplex sub(DoubleDoubleComplex x) {
+        return DoubleDoubleComplex.sub(this, x);
+    }
+
+    public DoubleDoubleComplex sub(DoubleDouble c) {
+        return DoubleDoubleComplex.sub(this, c);
+    }
+
+    public DoubleDoubleComplex mul(DoubleDoubleComplex x) {
+        return DoubleDoubleComplex.mul(this, x);
+    }
+
+    public DoubleDoubleComplex mul(DoubleDouble c) {
+        return DoubleDoubleComplex.mul(this, c);
+    }
+
+    public DoubleDoubleComplex div(DoubleDoubleComplex x) {
+        return DoubleDoubleComplex.div(this, x);
+    }
+
+    public DoubleDoubleComplex div(DoubleDouble c) {
+        return DoubleDoubleComplex.div(this, c);
+    }
+
+    public static DoubleDoubleComplex add(DoubleDoubleComplex x, DoubleDoubleComplex y) {
+        return new DoubleDoubleComplex(x.re.add(y.re), x.im.add(y.im));
+    }
+
+    public static DoubleDoubleComplex add(DoubleDoubleComplex x, DoubleDouble c) {
+        return new DoubleDoubleComplex(x.re.add(c), x.im);
+    }
+
+    public static DoubleDoubleComplex sub(DoubleDoubleComplex x, DoubleDoubleComplex y) {
+        return new DoubleDoubleComplex(x.re.subtract(y.re), x.im.subtract(y.im));
+    }
+
+    public static DoubleDoubleComplex sub(DoubleDoubleComplex x, DoubleDouble c) {
+        return new DoubleDoubleComplex(x.re.subtract(c), x.im);
+    }
+
+    public static DoubleDoubleComplex mul(DoubleDoubleComplex x, DoubleDoubleComplex y) {
+        return new DoubleDoubleComplex(x.re.multiply(y.re).subtract(x.im.multiply(y.im)),
+                x.re.multiply(y.im).add(x.im.multiply(y.re)));
+    }
+
+    public static DoubleDoubleComplex mul(DoubleDoubleComplex x, DoubleDouble c) {
+        return new DoubleDoubleComplex(x.re.multiply(c), x.im.multiply(c));
+    }
+
+    public static DoubleDoubleComplex div(DoubleDoubleComplex x, DoubleDoubleComplex y) {
+        return DoubleDoubleComplex.div(DoubleDoubleComplex.mul(x, y.conjugate()), y.magnitudeSquared());
+    }
+
+    public static DoubleDoubleComplex div(DoubleDoubleComplex x, DoubleDouble c) {
+        return new DoubleDoubleComplex(x.re.divide(c), x.im.divide(c));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleDoubleComplex)) {
+            return false;
+        }
+
+        DoubleDoubleComplex that = (DoubleDoubleComplex) o;
+        return this.re.equals(that.re) && this.im.equals(that.im);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.re.hashCode() + this.im.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('(');
+        sb.append(this.re);
+        if (this.im.signum() != 0)
+            sb.append(',').append(this.im).append('i');
+        sb.append(')');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package mandelbrot.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DoubleDoubleMandelbrot is the escape-time kernel for zooms between double
+ * and arbitrary precision.  Every point carries its own double-double orbit,
+ * so unlike perturbation there are no reference orbits and no glitches; the
+ * DoubleDouble arithmetic is inlined on primitives so the loop allocates
+ * nothing.  Sums renormalize once rather than accurately, which keeps about
+ * 104 bits, and only the leading parts take part in the bailout test.
+ * There is no cardioid and bulb test: it would be evaluated in doubles and
+ * misclassify points near the boundary at the depths this kernel is for.
+ * Periodicity shortcuts go to the calling thread's ShortcutTally as well, so
+ * they show up in the frame statistics like those of the double kernels.
+ * @author Michael
+ * @link https://www.davidhbailey.com/dhbpapers/qd.pdf
+ * @since 10/18/26
+ */
+public class DoubleDoubleMandelbrot {
+    public static final double PERIODICITY_EPSILON = 1.0e-28;
+
+    private final boolean periodicityChecking;
+    private final LongAdder periodicShortcuts = new LongAdder();
+
+    public DoubleDoubleMandelbrot() {
+        this(true);
+    }
+
+    /**
+     * @param periodicityChecking stop iterating once the orbit is found to repeat
+     */
+    public DoubleDoubleMandelbrot(boolean periodicityChecking) {
+        this.periodicityChecking = periodicityChecking;
+    }
+
+    public boolean isPeriodicityChecking() {
+        return periodicityChecking;
+    }
+
+    /**
+     * @return points found periodic before the iteration limit since the kernel was created
+     */
+    public long getPeriodicShortcuts() {
+        return this.periodicShortcuts.sum();
+    }
+
+    public int getNumIterations(DoubleDoubleComplex z0, int maxIterations, double bound) {
+        return this.getNumIterations(z0.getRe().getHi(), z0.getRe().getLo(), z0.getIm().getHi(), z0.getIm().getLo(),
+                maxIterations, bound);
+    }
+
+    /**
+     * Iterate z = z*z + z0 with each part held as a (hi, lo) pair of doubles.
+     * Products are exact by fused multiply-add before the low order terms are
+     * folded in.
+     */
+    public int getNumIterations(double reHi0, double reLo0, double imHi0, double imLo0, int maxIterations, double bound) {
+        final double bound2 = bound * bound;
+        int numIterations = 0;
+
+        double reHi = reHi0;
+        double reLo = reLo0;
+        double imHi = imHi0;
+        double imLo = imLo0;
+        double savedReHi = reHi0;
+        double savedReLo = reLo0;
+        double savedImHi = imHi0;
+        double savedImLo = imLo0;
+        int period = 0;
+        int interval = 1;
+        do {
+            // re^2 and im^2
+            double re2Hi = reHi * reHi;
+            double re2Lo = Math.fma(reHi, reHi, -re2Hi) + 2.0 * reHi * reLo;
+            double im2Hi = imHi * imHi;
+            double im2Lo = Math.fma(imHi, imHi, -im2Hi) + 2.0 * imHi * imLo;
+            // 2 re im, doubling is exact
+            double reImHi = reHi * imHi;
+            double reImLo = Math.fma(reHi, imHi, -reImHi) + (reHi * imLo + reLo * imHi);
+            reImHi *= 2.0;
+            reImLo *= 2.0;
+
+            // re = re^2 - im^2 + re0
+            double s = re2Hi - im2Hi;
+            double v = s - re2Hi;
+            double e = ((re2Hi - (s - v)) + (-im2Hi - v)) + (re2Lo - im2Lo);
+            double hi = s + e;
+            double lo = e - (hi - s);
+            s = hi + reHi0;
+            v = s - hi;
+            e = ((hi - (s - v)) + (reHi0 - v)) + (lo + reLo0);
+            reHi = s + e;
+            reLo = e - (reHi - s);
+
+            // im = 2 re im + im0
+            s = reImHi + imHi0;
+            v = s - reImHi;
+            e = ((reImHi - (s - v)) + (imHi0 - v)) + (reImLo + imLo0);
+            imHi = s + e;
+            imLo = e - (imHi - s);
+            ++numIterations;
+
+            if (this.periodicityChecking) {
+                if ((Math.abs((reHi - savedReHi) + (reLo - savedReLo)) < PERIODICITY_EPSILON)
+                        && (Math.abs((imHi - savedImHi) + (imLo - savedImLo)) < PERIODICITY_EPSILON)) {
+                    this.periodicShortcuts.increment();
+                    ShortcutTally.current().countPeriodic(1, maxIterations - numIterations);
+                    return maxIterations;
+                }
+                if (++period == interval) {
+                    period = 0;
+                    interval <<= 1;
+                    savedReHi = reHi;
+                    savedReLo = reLo;
+                    savedImHi = imHi;
+                    savedImLo = imLo;
+                }
+            }
+        } while ((numIterations < maxIterations) && (reHi * reHi + imHi * imHi < bound2));
+
+        return numIterations;
+    }
+}
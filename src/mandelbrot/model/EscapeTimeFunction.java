@@ -0,0 +1,74 @@
+package mandelbrot.model;
+
+/**
+ * EscapeTimeFunction holds what the escape-time fractals share: the Complex
+ * overloads, the inside test and the smooth escape fraction.  Subclasses
+ * supply the primitive kernels.  Each one should keep its loop over points
+ * in its own getNumIterations(double[], ...) and call a private static
+ * iteration method from it, so the renderer makes one virtual call per row
+ * and everything inside the row is inlined for that one fractal.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Escape-time_algorithm
+ * @since 10/18/26
+ */
+public abstract class EscapeTimeFunction implements IterativeFunction {
+    private final int degree;
+
+    /**
+     * @param degree power of z in the map, which sets how fast escaping orbits grow
+     */
+    protected EscapeTimeFunction(int degree) {
+        if (degree < 2)
+            throw new IllegalArgumentException("Degree must be at least 2");
+
+        this.degree = degree;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public int getNumIterations(Complex z0) {
+        return this.getNumIterations(z0, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    public int getNumIterations(Complex z0, int maxIterations, double bound) {
+        return this.getNumIterations(z0.getRe(), z0.getIm(), maxIterations, bound);
+    }
+
+    /**
+     * For a map of degree d, |z| at escape lies between bound and about
+     * bound^d, so log_d(ln|z| / ln bound) runs from 0 to 1 across one band.
+     * @link http://linas.org/art-gallery/escape/smooth.html
+     */
+    public float getEscapeFraction(double re, double im, int numIterations, double bound) {
+        if (bound <= 1.0) {
+            return 0.0f;
+        }
+        double magnitude2 = this.getMagnitude2(re, im, numIterations);
+        // also catches an orbit replayed past its escape until it overflowed to NaN
+        if (!(magnitude2 >= bound * bound)) {
+            return 0.0f;
+        }
+        double fraction = 1.0 - Math.log(0.5 * Math.log(magnitude2) / Math.log(bound)) / Math.log(this.degree);
+        return Math.max(0.0f, Math.min((float) fraction, Math.nextDown(1.0f)));
+    }
+
+    /**
+     * Replay an orbit for smooth coloring.
+     * @return |z|^2 after the given number of iterations from the starting point
+     */
+    protected abstract double getMagnitude2(double re, double im, int numIterations);
+
+    public boolean isInside(Complex z0) {
+        return this.isInside(z0, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    public boolean isInside(Complex z0, int maxIterations, double bound) {
+        return this.isInside(z0.getRe(), z0.getIm(), maxIterations, bound);
+    }
+
+    public boolean isInside(double re, double im, int maxIterations, double bound) {
+        return (this.getNumIterations(re, im, maxIterations, bound) >= maxIterations);
+    }
+}
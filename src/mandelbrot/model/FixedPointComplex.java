@@ -0,0 +1,137 @@
+package mandelbrot.model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * FixedPointComplex is a mutable arbitrary precision complex number for inner
+ * loops.  Both parts are BigIntegers holding the value times 2^fractionBits,
+ * so a product is one BigInteger multiply and a shift, with none of the
+ * BigDecimal scale bookkeeping and no rescale after every operation.  The
+ * arithmetic methods update this instance in place and return it.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Fixed-point_arithmetic
+ * @since 10/18/26
+ */
+public class FixedPointComplex {
+    private static final double BITS_PER_DIGIT = Math.log(10.0) / Math.log(2.0);
+    private static final int GUARD_BITS = 8;
+
+    private final int fractionBits;
+    private BigInteger re;
+    private BigInteger im;
+    private double cachedBound = Double.NaN;
+    private BigInteger cachedBound2;
+
+    public FixedPointComplex(int fractionBits) {
+        this(BigInteger.ZERO, BigInteger.ZERO, fractionBits);
+    }
+
+    public FixedPointComplex(BigComplex z) {
+        this(z, bitsForScale(z.getScale()));
+    }
+
+    public FixedPointComplex(BigComplex z, int fractionBits) {
+        this(toFixed(z.getRe(), fractionBits), toFixed(z.getIm(), fractionBits), fractionBits);
+    }
+
+    public FixedPointComplex(FixedPointComplex other) {
+        this(other.re, other.im, other.fractionBits);
+    }
+
+    private FixedPointComplex(BigInteger re, BigInteger im, int fractionBits) {
+        if (fractionBits <= 0)
+            throw new IllegalArgumentException("Fraction bits must be positive");
+
+        this.re = re;
+        this.im = im;
+        this.fractionBits = fractionBits;
+    }
+
+    /**
+     * @param scale decimal places to represent
+     * @return binary fraction bits covering that many decimal places
+     */
+    public static int bitsForScale(int scale) {
+        return (int) Math.ceil(Math.max(scale, 1) * BITS_PER_DIGIT) + GUARD_BITS;
+    }
+
+    private static BigInteger toFixed(BigDecimal value, int fractionBits) {
+        return value.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(fractionBits)))
+                .setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+    }
+
+    private double toDouble(BigInteger value) {
+        int excess = value.bitLength() - 62;
+        if (excess > 0) {
+            return Math.scalb((double) value.shiftRight(excess).longValue(), excess - this.fractionBits);
+        }
+        return Math.scalb((double) value.longValue(), -this.fractionBits);
+    }
+
+    public int getFractionBits() {
+        return fractionBits;
+    }
+
+    public double getRe() {
+        return toDouble(re);
+    }
+
+    public double getIm() {
+        return toDouble(im);
+    }
+
+    public FixedPointComplex set(FixedPointComplex other) {
+        this.re = other.re;
+        this.im = other.im;
+        return this;
+    }
+
+    public FixedPointComplex add(FixedPointComplex other) {
+        this.re = this.re.add(other.re);
+        this.im = this.im.add(other.im);
+        return this;
+    }
+
+    public FixedPointComplex mul(FixedPointComplex other) {
+        BigInteger nextRe = this.re.multiply(other.re).subtract(this.im.multiply(other.im)).shiftRight(this.fractionBits);
+        this.im = this.re.multiply(other.im).add(this.im.multiply(other.re)).shiftRight(this.fractionBits);
+        this.re = nextRe;
+        return this;
+    }
+
+    /**
+     * Square in place with three multiplies: (a + bi)^2 = a^2 - b^2 + 2abi.
+     */
+    public FixedPointComplex square() {
+        BigInteger nextRe = this.re.multiply(this.re).subtract(this.im.multiply(this.im)).shiftRight(this.fractionBits);
+        this.im = this.re.multiply(this.im).shiftRight(this.fractionBits - 1);
+        this.re = nextRe;
+        return this;
+    }
+
+    /**
+     * Full precision bailout test; no square root and no conversion to double.
+     * @param bound bailout magnitude
+     * @return true if |z| is not less than bound
+     */
+    public boolean isOutside(double bound) {
+        BigInteger magnitudeSquared = this.re.multiply(this.re).add(this.im.multiply(this.im));
+        if (Double.compare(bound, this.cachedBound) != 0) {
+            this.cachedBound2 = toFixed(new BigDecimal(bound).pow(2), 2 * this.fractionBits);
+            this.cachedBound = bound;
+        }
+        return magnitudeSquared.compareTo(this.cachedBound2) >= 0;
+    }
+
+    public BigComplex toBigComplex(int scale) {
+        BigDecimal divisor = new BigDecimal(BigInteger.ONE.shiftLeft(this.fractionBits));
+        return new BigComplex(new BigDecimal(this.re).divide(divisor), new BigDecimal(this.im).divide(divisor), scale);
+    }
+
+    @Override
+    public String toString() {
+        return toBigComplex(BigComplex.DEFAULT_SCALE).toString();
+    }
+}
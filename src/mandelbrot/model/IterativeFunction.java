@@ -10,7 +10,45 @@ public interface IterativeFunction {
 
     int getNumIterations(Complex z0, int maxIterations, double bound);
 
+    /**
+     * Primitive escape-time kernel; the Complex overloads delegate here.
+     * @param re real part of the starting point
+     * @param im imaginary part of the starting point
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @return number of iterations before the orbit escapes, capped at maxIterations
+     */
+    int getNumIterations(double re, double im, int maxIterations, double bound);
+
+    /**
+     * Escape counts for a run of points, typically one row of a tile.  Keeping
+     * the loop over points inside the implementation lets each kernel
+     * specialize it, e.g. to iterate several points per instruction.
+     * @param re real parts of the starting points
+     * @param im imaginary parts of the starting points
+     * @param length number of points
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param counts destination for the escape counts
+     * @param offset index in counts for the first point
+     */
+    void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset);
+
+    /**
+     * Fractional part of the continuous escape count, for smooth coloring.
+     * The orbit is replayed for an escape count already computed, and the
+     * final magnitude places the point between that count and the next.
+     * @param re real part of the starting point
+     * @param im imaginary part of the starting point
+     * @param numIterations escape count returned by getNumIterations for this point
+     * @param bound bailout magnitude used for that count
+     * @return fraction in [0, 1) to add to the count; 0 for points that did not escape
+     */
+    float getEscapeFraction(double re, double im, int numIterations, double bound);
+
     boolean isInside(Complex z0);
 
     boolean isInside(Complex z0, int maxIterations, double bound);
+
+    boolean isInside(double re, double im, int maxIterations, double bound);
 }
@@ -0,0 +1,71 @@
+package mandelbrot.model;
+
+/**
+ * Julia iterates z = z*z + c for a constant c, starting from the pixel's
+ * point; each c gives a different set.  The point c itself has the same
+ * orbit here as in the Mandelbrot set, so its escape count is the same.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Julia_set
+ * @since 10/18/26
+ */
+public final class Julia extends EscapeTimeFunction {
+    private final double cRe;
+    private final double cIm;
+
+    public Julia(Complex c) {
+        this(c.getRe(), c.getIm());
+    }
+
+    public Julia(double cRe, double cIm) {
+        super(2);
+        this.cRe = cRe;
+        this.cIm = cIm;
+    }
+
+    public Complex getC() {
+        return new Complex(cRe, cIm);
+    }
+
+    public int getNumIterations(double re, double im, int maxIterations, double bound) {
+        return iterate(re, im, this.cRe, this.cIm, maxIterations, bound * bound);
+    }
+
+    public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+        final double cRe = this.cRe;
+        final double cIm = this.cIm;
+        final double bound2 = bound * bound;
+        for (int k = 0; k < length; ++k) {
+            counts[offset + k] = iterate(re[k], im[k], cRe, cIm, maxIterations, bound2);
+        }
+    }
+
+    private static int iterate(double re, double im, double cRe, double cIm, int maxIterations, double bound2) {
+        int numIterations = 0;
+        double re2;
+        double im2;
+        do {
+            double reNext = re * re - im * im + cRe;
+            im = re * im + im * re + cIm;
+            re = reNext;
+            re2 = re * re;
+            im2 = im * im;
+            ++numIterations;
+        } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
+        return numIterations;
+    }
+
+    @Override
+    protected double getMagnitude2(double re, double im, int numIterations) {
+        for (int i = 0; i < numIterations; ++i) {
+            double reNext = re * re - im * im + this.cRe;
+            im = re * im + im * re + this.cIm;
+            re = reNext;
+        }
+        return re * re + im * im;
+    }
+
+    @Override
+    public String toString() {
+        return "julia:" + cRe + "," + cIm;
+    }
+}
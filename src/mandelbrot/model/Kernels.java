@@ -0,0 +1,100 @@
+package mandelbrot.model;
+
+/**
+ * Kernels picks the escape-time implementation at runtime.  The vectorized
+ * kernel is used when it was asked for and the jdk.incubator.vector module is
+ * present (java --add-modules jdk.incubator.vector); otherwise the scalar
+ * Mandelbrot is returned.  The system property mandelbrot.kernel=scalar
+ * turns the vector kernel off.  forName picks the fractal for a frame, which
+ * the renderers then hold for the whole frame.
+ * @author Michael
+ * @since 10/18/26
+ */
+public final class Kernels {
+    public static final String KERNEL_PROPERTY = "mandelbrot.kernel";
+    public static final String FRACTAL_PROPERTY = "mandelbrot.fractal";
+    public static final String DEFAULT_FRACTAL = "mandelbrot";
+    private static final String VECTOR_CLASS_NAME = "mandelbrot.model.VectorMandelbrot";
+    private static final boolean VECTOR_AVAILABLE = probeVector();
+
+    private Kernels() {
+    }
+
+    private static boolean probeVector() {
+        try {
+            Mandelbrot kernel = (Mandelbrot) Class.forName(VECTOR_CLASS_NAME).getDeclaredConstructor().newInstance();
+            double[] re = new double[16];
+            double[] im = new double[16];
+            kernel.getNumIterations(re, im, re.length, 1, Mandelbrot.DEFAULT_BOUND, new int[re.length], 0);
+            return true;
+        } catch (LinkageError e) {
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * @return the kernel chosen by the mandelbrot.kernel system property, vector by default
+     */
+    public static Mandelbrot mandelbrot() {
+        return mandelbrot(!"scalar".equalsIgnoreCase(System.getProperty(KERNEL_PROPERTY, "vector")));
+    }
+
+    public static Mandelbrot mandelbrot(boolean vectorized) {
+        return mandelbrot(vectorized, true, true);
+    }
+
+    /**
+     * @param vectorized use the Vector API kernel if it is available
+     * @param interiorTests skip iteration for points in the main cardioid or the period-2 bulb
+     * @param periodicityChecking stop iterating once the orbit is found to repeat
+     * @return the kernel
+     */
+    public static Mandelbrot mandelbrot(boolean vectorized, boolean interiorTests, boolean periodicityChecking) {
+        if (vectorized && VECTOR_AVAILABLE) {
+            try {
+                return (Mandelbrot) Class.forName(VECTOR_CLASS_NAME)
+                        .getDeclaredConstructor(boolean.class, boolean.class)
+                        .newInstance(interiorTests, periodicityChecking);
+            } catch (Exception e) {
+                throw new IllegalStateException("Vector kernel could not be created", e);
+            }
+        }
+        return new Mandelbrot(interiorTests, periodicityChecking);
+    }
+
+    /**
+     * @param spec mandelbrot, julia:re,im, multibrot:degree or burning-ship
+     * @return the kernel for the fractal; the Mandelbrot set comes from mandelbrot()
+     */
+    public static IterativeFunction forName(String spec) {
+        String name = spec;
+        String argument = null;
+        int colon = spec.indexOf(':');
+        if (colon >= 0) {
+            name = spec.substring(0, colon);
+            argument = spec.substring(colon + 1);
+        }
+
+        if ("mandelbrot".equals(name) && (argument == null)) {
+            return mandelbrot();
+        } else if ("burning-ship".equals(name) && (argument == null)) {
+            return new BurningShip();
+        } else if ("multibrot".equals(name) && (argument != null)) {
+            int degree = Integer.parseInt(argument.trim());
+            return (degree == 2) ? mandelbrot() : Multibrot.forDegree(degree);
+        } else if ("julia".equals(name) && (argument != null)) {
+            int comma = argument.indexOf(',');
+            if (comma < 0)
+                throw new IllegalArgumentException("Julia constant must be re,im: " + spec);
+            return new Julia(Double.parseDouble(argument.substring(0, comma).trim()),
+                    Double.parseDouble(argument.substring(comma + 1).trim()));
+        }
+        throw new IllegalArgumentException("Unknown fractal: " + spec);
+    }
+}
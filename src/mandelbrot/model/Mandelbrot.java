@@ -1,46 +1,240 @@
 package mandelbrot.model;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
- * Mandelbrot
+ * Mandelbrot is the escape-time kernel of z = z^2 + c.  It shares the
+ * Complex overloads and the smooth escape fraction with the other
+ * EscapeTimeFunction kernels and adds the two shortcuts that only the
+ * Mandelbrot set allows: the cardioid and bulb test and periodicity checking.
+ * Its inside test keeps the answer it has always given for orbits that stay
+ * on the bailout circle.
  * @author Michael
  * @link http://warp.povusers.org/Mandelbrot/
+ * @link http://en.wikipedia.org/wiki/Mandelbrot_set#Optimizations
  * @since 2/27/11
  */
-public class Mandelbrot implements IterativeFunction {
+public class Mandelbrot extends EscapeTimeFunction {
     public static final double DEFAULT_BOUND = 2.0;
     public static final int MAX_ITERATIONS = 50;
+    public static final double PERIODICITY_EPSILON = 1.0e-14;
+
+    private final boolean interiorTests;
+    private final boolean periodicityChecking;
+    private final LongAdder interiorShortcuts = new LongAdder();
+    private final LongAdder periodicShortcuts = new LongAdder();
+    private final LongAdder skippedIterations = new LongAdder();
+
+    public Mandelbrot() {
+        this(true, true);
+    }
+
+    /**
+     * @param interiorTests skip iteration for points in the main cardioid or the period-2 bulb
+     * @param periodicityChecking stop iterating once the orbit is found to repeat
+     */
+    public Mandelbrot(boolean interiorTests, boolean periodicityChecking) {
+        super(2);
+        this.interiorTests = interiorTests;
+        this.periodicityChecking = periodicityChecking;
+    }
+
+    public boolean isInteriorTests() {
+        return interiorTests;
+    }
+
+    public boolean isPeriodicityChecking() {
+        return periodicityChecking;
+    }
+
+    /**
+     * @return points answered by the cardioid and bulb test since the kernel was created
+     */
+    public long getInteriorShortcuts() {
+        return this.interiorShortcuts.sum();
+    }
+
+    /**
+     * @return points found periodic before the iteration limit since the kernel was created
+     */
+    public long getPeriodicShortcuts() {
+        return this.periodicShortcuts.sum();
+    }
 
-    public int getNumIterations(Complex z0) {
-        return this.getNumIterations(z0, MAX_ITERATIONS, DEFAULT_BOUND);
+    /**
+     * @return iterations the shortcuts saved: the difference between the counts
+     * reported for short-circuited points and the iterations actually run for them
+     */
+    public long getSkippedIterations() {
+        return this.skippedIterations.sum();
     }
 
-    public int getNumIterations(Complex z0, int maxIterations, double bound) {
+    /**
+     * Count shortcuts both here, for the kernel's lifetime, and in the calling
+     * thread's ShortcutTally, for the frame the thread is rendering.
+     */
+    protected void countInteriorShortcuts(int numPoints, int maxIterations) {
+        long skipped = (long) numPoints * maxIterations;
+        this.interiorShortcuts.add(numPoints);
+        this.skippedIterations.add(skipped);
+        ShortcutTally.current().countInterior(numPoints, skipped);
+    }
+
+    protected void countPeriodicShortcuts(int numPoints, long skippedIterations) {
+        this.periodicShortcuts.add(numPoints);
+        this.skippedIterations.add(skippedIterations);
+        ShortcutTally.current().countPeriodic(numPoints, skippedIterations);
+    }
+
+    /**
+     * Analytic test for the two largest components of the set, where every
+     * point would otherwise run to the iteration limit.
+     * @param re real part
+     * @param im imaginary part
+     * @return true if the point is inside the main cardioid or the period-2 bulb
+     */
+    public static boolean isInMainCardioidOrBulb(double re, double im) {
+        double im2 = im * im;
+        double x = re - 0.25;
+        double q = x * x + im2;
+        if (q * (q + x) < 0.25 * im2) {
+            return true;
+        }
+        double xb = re + 1.0;
+        return (xb * xb + im2 < 0.0625);
+    }
+
+    /**
+     * Iterate z = z*z + z0 on primitives only; the bailout compares the squared
+     * magnitude so there is no sqrt and no allocation in the loop.
+     */
+    public int getNumIterations(double re0, double im0, int maxIterations, double bound) {
+        if (this.interiorTests && (bound >= DEFAULT_BOUND) && isInMainCardioidOrBulb(re0, im0)) {
+            countInteriorShortcuts(1, maxIterations);
+            return maxIterations;
+        }
+        if (this.periodicityChecking) {
+            return getNumIterationsWithPeriodicity(re0, im0, maxIterations, bound);
+        }
+
+        final double bound2 = bound * bound;
         int numIterations = 0;
 
-        Complex znext = new Complex(z0);
+        double re = re0;
+        double im = im0;
+        double re2;
+        double im2;
         do {
-            znext = znext.mul(znext).add(z0);
+            double reNext = re * re - im * im + re0;
+            im = re * im + im * re + im0;
+            re = reNext;
+            re2 = re * re;
+            im2 = im * im;
             ++numIterations;
-        } while ((numIterations < maxIterations) && (znext.magnitude() < bound));
+        } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
 
         return numIterations;
     }
 
-    public boolean isInside(Complex z0) {
-        return isInside(z0, MAX_ITERATIONS, DEFAULT_BOUND);
+    /**
+     * Brent's cycle detection: the orbit is compared with a saved point that is
+     * replaced at power-of-two intervals.  Once the orbit comes back to the saved
+     * point it is periodic and will never escape.
+     */
+    private int getNumIterationsWithPeriodicity(double re0, double im0, int maxIterations, double bound) {
+        final double bound2 = bound * bound;
+        int numIterations = 0;
+
+        double re = re0;
+        double im = im0;
+        double savedRe = re0;
+        double savedIm = im0;
+        int period = 0;
+        int interval = 1;
+        double re2;
+        double im2;
+        do {
+            double reNext = re * re - im * im + re0;
+            im = re * im + im * re + im0;
+            re = reNext;
+            re2 = re * re;
+            im2 = im * im;
+            ++numIterations;
+
+            if ((Math.abs(re - savedRe) < PERIODICITY_EPSILON) && (Math.abs(im - savedIm) < PERIODICITY_EPSILON)) {
+                countPeriodicShortcuts(1, maxIterations - numIterations);
+                return maxIterations;
+            }
+            if (++period == interval) {
+                period = 0;
+                interval <<= 1;
+                savedRe = re;
+                savedIm = im;
+            }
+        } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
+
+        return numIterations;
     }
 
-    public boolean isInside(Complex z0, int maxIterations, double bound) {
+    public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+        for (int k = 0; k < length; ++k) {
+            counts[offset + k] = getNumIterations(re[k], im[k], maxIterations, bound);
+        }
+    }
+
+    @Override
+    protected double getMagnitude2(double re0, double im0, int numIterations) {
+        double re = re0;
+        double im = im0;
+        for (int i = 0; i < numIterations; ++i) {
+            double reNext = re * re - im * im + re0;
+            im = re * im + im * re + im0;
+            re = reNext;
+        }
+        return re * re + im * im;
+    }
+
+    /**
+     * Unlike the escape count, which stops an orbit once it reaches the bound,
+     * the inside test lets an orbit stay on the bound, so points such as
+     * c = -2, whose orbit sits on the bailout circle for ever, are inside.
+     */
+    @Override
+    public boolean isInside(double re0, double im0, int maxIterations, double bound) {
+        if (this.interiorTests && (bound >= DEFAULT_BOUND) && isInMainCardioidOrBulb(re0, im0)) {
+            return true;
+        }
+
+        final double bound2 = bound * bound;
         boolean inside = true;
 
-        Complex z = new Complex(z0);
+        double re = re0;
+        double im = im0;
+        double savedRe = re0;
+        double savedIm = im0;
+        int period = 0;
+        int interval = 1;
         for (int i = 0; i < maxIterations; ++i) {
-            if (z.magnitude() > bound) {
+            if (re * re + im * im > bound2) {
                 inside = false;
                 break;
             }
 
-            z = z.mul(z).add(z0);
+            double reNext = re * re - im * im + re0;
+            im = re * im + im * re + im0;
+            re = reNext;
+
+            if (this.periodicityChecking) {
+                if ((Math.abs(re - savedRe) < PERIODICITY_EPSILON) && (Math.abs(im - savedIm) < PERIODICITY_EPSILON)) {
+                    break;
+                }
+                if (++period == interval) {
+                    period = 0;
+                    interval <<= 1;
+                    savedRe = re;
+                    savedIm = im;
+                }
+            }
         }
 
         return inside;
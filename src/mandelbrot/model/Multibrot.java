@@ -0,0 +1,215 @@
+package mandelbrot.model;
+
+/**
+ * Multibrot iterates z = z^d + c, starting from c as the Mandelbrot set does.
+ * Use forDegree to obtain one: the cube and the fourth power have their own
+ * classes with the power written out as multiplies, and any other degree
+ * raises z to the power by repeated squaring.  Each is a separate final
+ * class so that a renderer holding one sees a single implementation.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Multibrot_set
+ * @since 10/18/26
+ */
+public abstract class Multibrot extends EscapeTimeFunction {
+    protected Multibrot(int degree) {
+        super(degree);
+    }
+
+    /**
+     * @param degree power of z, at least 2; degree 2 is the Mandelbrot set
+     * @return the kernel for the degree
+     */
+    public static Multibrot forDegree(int degree) {
+        if (degree < 2)
+            throw new IllegalArgumentException("Degree must be at least 2");
+
+        if (degree == 3) {
+            return new Cubic();
+        } else if (degree == 4) {
+            return new Quartic();
+        }
+        return new General(degree);
+    }
+
+    @Override
+    public String toString() {
+        return "multibrot:" + getDegree();
+    }
+
+    /**
+     * z^3 = (x^3 - 3xy^2) + i(3x^2y - y^3).
+     */
+    static final class Cubic extends Multibrot {
+        Cubic() {
+            super(3);
+        }
+
+        public int getNumIterations(double re, double im, int maxIterations, double bound) {
+            return iterate(re, im, maxIterations, bound * bound);
+        }
+
+        public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+            final double bound2 = bound * bound;
+            for (int k = 0; k < length; ++k) {
+                counts[offset + k] = iterate(re[k], im[k], maxIterations, bound2);
+            }
+        }
+
+        private static int iterate(double re0, double im0, int maxIterations, double bound2) {
+            int numIterations = 0;
+            double re = re0;
+            double im = im0;
+            double re2 = re * re;
+            double im2 = im * im;
+            do {
+                double reNext = re * (re2 - 3.0 * im2) + re0;
+                im = im * (3.0 * re2 - im2) + im0;
+                re = reNext;
+                re2 = re * re;
+                im2 = im * im;
+                ++numIterations;
+            } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
+            return numIterations;
+        }
+
+        @Override
+        protected double getMagnitude2(double re0, double im0, int numIterations) {
+            double re = re0;
+            double im = im0;
+            for (int i = 0; i < numIterations; ++i) {
+                double re2 = re * re;
+                double im2 = im * im;
+                double reNext = re * (re2 - 3.0 * im2) + re0;
+                im = im * (3.0 * re2 - im2) + im0;
+                re = reNext;
+            }
+            return re * re + im * im;
+        }
+    }
+
+    /**
+     * z^4 = (z^2)^2, two complex squares.
+     */
+    static final class Quartic extends Multibrot {
+        Quartic() {
+            super(4);
+        }
+
+        public int getNumIterations(double re, double im, int maxIterations, double bound) {
+            return iterate(re, im, maxIterations, bound * bound);
+        }
+
+        public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+            final double bound2 = bound * bound;
+            for (int k = 0; k < length; ++k) {
+                counts[offset + k] = iterate(re[k], im[k], maxIterations, bound2);
+            }
+        }
+
+        private static int iterate(double re0, double im0, int maxIterations, double bound2) {
+            int numIterations = 0;
+            double re = re0;
+            double im = im0;
+            double re2 = re * re;
+            double im2 = im * im;
+            do {
+                double sqRe = re2 - im2;
+                double sqIm = 2.0 * re * im;
+                re = sqRe * sqRe - sqIm * sqIm + re0;
+                im = 2.0 * sqRe * sqIm + im0;
+                re2 = re * re;
+                im2 = im * im;
+                ++numIterations;
+            } while ((numIterations < maxIterations) && (re2 + im2 < bound2));
+            return numIterations;
+        }
+
+        @Override
+        protected double getMagnitude2(double re0, double im0, int numIterations) {
+            double re = re0;
+            double im = im0;
+            for (int i = 0; i < numIterations; ++i) {
+                double sqRe = re * re - im * im;
+                double sqIm = 2.0 * re * im;
+                re = sqRe * sqRe - sqIm * sqIm + re0;
+                im = 2.0 * sqRe * sqIm + im0;
+            }
+            return re * re + im * im;
+        }
+    }
+
+    /**
+     * Any degree, by binary exponentiation on primitives: about log2(d)
+     * complex multiplies per iteration and no allocation.
+     */
+    static final class General extends Multibrot {
+        General(int degree) {
+            super(degree);
+        }
+
+        public int getNumIterations(double re, double im, int maxIterations, double bound) {
+            return iterate(re, im, getDegree(), maxIterations, bound * bound);
+        }
+
+        public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+            final int degree = getDegree();
+            final double bound2 = bound * bound;
+            for (int k = 0; k < length; ++k) {
+                counts[offset + k] = iterate(re[k], im[k], degree, maxIterations, bound2);
+            }
+        }
+
+        private static int iterate(double re0, double im0, int degree, int maxIterations, double bound2) {
+            int numIterations = 0;
+            double re = re0;
+            double im = im0;
+            double magnitude2;
+            do {
+                double powRe = 1.0;
+                double powIm = 0.0;
+                double baseRe = re;
+                double baseIm = im;
+                for (int e = degree; e > 0; e >>= 1) {
+                    if ((e & 1) != 0) {
+                        double t = powRe * baseRe - powIm * baseIm;
+                        powIm = powRe * baseIm + powIm * baseRe;
+                        powRe = t;
+                    }
+                    double t = baseRe * baseRe - baseIm * baseIm;
+                    baseIm = 2.0 * baseRe * baseIm;
+                    baseRe = t;
+                }
+                re = powRe + re0;
+                im = powIm + im0;
+                magnitude2 = re * re + im * im;
+                ++numIterations;
+            } while ((numIterations < maxIterations) && (magnitude2 < bound2));
+            return numIterations;
+        }
+
+        @Override
+        protected double getMagnitude2(double re0, double im0, int numIterations) {
+            double re = re0;
+            double im = im0;
+            for (int i = 0; i < numIterations; ++i) {
+                double powRe = 1.0;
+                double powIm = 0.0;
+                double baseRe = re;
+                double baseIm = im;
+                for (int e = getDegree(); e > 0; e >>= 1) {
+                    if ((e & 1) != 0) {
+                        double t = powRe * baseRe - powIm * baseIm;
+                        powIm = powRe * baseIm + powIm * baseRe;
+                        powRe = t;
+                    }
+                    double t = baseRe * baseRe - baseIm * baseIm;
+                    baseIm = 2.0 * baseRe * baseIm;
+                    baseRe = t;
+                }
+                re = powRe + re0;
+                im = powIm + im0;
+            }
+            return re * re + im * im;
+        }
+    }
+}
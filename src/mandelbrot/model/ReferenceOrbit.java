@@ -0,0 +1,119 @@
+package mandelbrot.model;
+
+/**
+ * ReferenceOrbit is the Mandelbrot orbit of a single point computed in
+ * arbitrary precision and stored as doubles.  The orbit values stay within the
+ * bailout radius, so double precision is enough to hold them; it is only the
+ * starting point that needs the extra digits.  Neighbouring points are then
+ * iterated as small double precision deltas from this orbit.
+ * @author Michael
+ * @link http://www.science.eclipse.co.uk/sft_maths.pdf
+ * @since 10/18/26
+ */
+public class ReferenceOrbit {
+    private final BigComplex c;
+    private final double[] re;
+    private final double[] im;
+    private final int numIterations;
+
+    /**
+     * Iterate z = z*z + c from z = c, as Mandelbrot does, in fixed point
+     * arithmetic carrying the scale of c.
+     * @param c reference point
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     */
+    public ReferenceOrbit(BigComplex c, int maxIterations, double bound) {
+        if (c == null)
+            throw new IllegalArgumentException("Reference point cannot be null");
+
+        final double bound2 = bound * bound;
+        double[] orbitRe = new double[maxIterations + 1];
+        double[] orbitIm = new double[maxIterations + 1];
+
+        FixedPointComplex c0 = new FixedPointComplex(c);
+        FixedPointComplex z = new FixedPointComplex(c0);
+        orbitRe[0] = z.getRe();
+        orbitIm[0] = z.getIm();
+        int n = 0;
+        double mag2;
+        do {
+            z.square().add(c0);
+            ++n;
+            orbitRe[n] = z.getRe();
+            orbitIm[n] = z.getIm();
+            mag2 = orbitRe[n] * orbitRe[n] + orbitIm[n] * orbitIm[n];
+        } while ((n < maxIterations) && (mag2 < bound2));
+
+        this.c = c;
+        this.re = orbitRe;
+        this.im = orbitIm;
+        this.numIterations = n;
+    }
+
+    public BigComplex getC() {
+        return c;
+    }
+
+    /**
+     * @return escape count of the reference point itself; the orbit holds
+     * values for indices 0 through this count inclusive
+     */
+    public int getNumIterations() {
+        return numIterations;
+    }
+
+    public double getRe(int n) {
+        return re[n];
+    }
+
+    public double getIm(int n) {
+        return im[n];
+    }
+
+    /**
+     * Iterate the point c + (dcRe, dcIm) as a perturbation of this orbit:
+     * d' = 2 Z d + d*d + dc, with z = Z + d.  A point is reported as glitched
+     * when |z| becomes tiny compared with |Z|, where the delta has lost its
+     * precision, or when it outlives the reference orbit.
+     * @param dcRe real offset of the point from the reference
+     * @param dcIm imaginary offset of the point from the reference
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param glitchTolerance squared ratio |z|^2 / |Z|^2 below which the point is glitched
+     * @return escape count, or -1 if the result cannot be trusted
+     */
+    public int getNumIterations(double dcRe, double dcIm, int maxIterations, double bound, double glitchTolerance) {
+        final double bound2 = bound * bound;
+        final double[] orbitRe = this.re;
+        final double[] orbitIm = this.im;
+        final int orbitLength = this.numIterations;
+
+        double dRe = dcRe;
+        double dIm = dcIm;
+        int n = 0;
+        double mag2;
+        do {
+            if (n >= orbitLength) {
+                return -1;
+            }
+            double zRe = orbitRe[n];
+            double zIm = orbitIm[n];
+            double nextRe = 2.0 * (zRe * dRe - zIm * dIm) + (dRe * dRe - dIm * dIm) + dcRe;
+            dIm = 2.0 * (zRe * dIm + zIm * dRe) + 2.0 * dRe * dIm + dcIm;
+            dRe = nextRe;
+            ++n;
+
+            double refRe = orbitRe[n];
+            double refIm = orbitIm[n];
+            double re = refRe + dRe;
+            double im = refIm + dIm;
+            mag2 = re * re + im * im;
+            if (mag2 < glitchTolerance * (refRe * refRe + refIm * refIm)) {
+                return -1;
+            }
+        } while ((n < maxIterations) && (mag2 < bound2));
+
+        return n;
+    }
+}
@@ -0,0 +1,65 @@
+package mandelbrot.model;
+
+/**
+ * ShortcutTally counts the shortcuts a kernel takes on one thread.  The
+ * kernel's own counters are shared by every render using it, so a renderer
+ * that wants the shortcuts of one frame reads the tally of the worker thread
+ * before and after each tile of that frame; a tile runs on one thread from
+ * start to end, so the difference belongs to that tile alone.  The tally is
+ * only ever touched by its own thread and needs no synchronization.
+ * @author Michael
+ * @since 10/18/26
+ */
+public final class ShortcutTally {
+    private static final ThreadLocal<ShortcutTally> CURRENT = new ThreadLocal<ShortcutTally>() {
+        @Override
+        protected ShortcutTally initialValue() {
+            return new ShortcutTally();
+        }
+    };
+
+    private long interiorShortcuts;
+    private long periodicShortcuts;
+    private long skippedIterations;
+
+    private ShortcutTally() {
+    }
+
+    /**
+     * @return the tally of the calling thread
+     */
+    public static ShortcutTally current() {
+        return CURRENT.get();
+    }
+
+    void countInterior(int numPoints, long skippedIterations) {
+        this.interiorShortcuts += numPoints;
+        this.skippedIterations += skippedIterations;
+    }
+
+    void countPeriodic(int numPoints, long skippedIterations) {
+        this.periodicShortcuts += numPoints;
+        this.skippedIterations += skippedIterations;
+    }
+
+    /**
+     * @return points answered by the cardioid and bulb test on this thread
+     */
+    public long getInteriorShortcuts() {
+        return interiorShortcuts;
+    }
+
+    /**
+     * @return points found periodic before the iteration limit on this thread
+     */
+    public long getPeriodicShortcuts() {
+        return periodicShortcuts;
+    }
+
+    /**
+     * @return iterations the shortcuts on this thread reported without running
+     */
+    public long getSkippedIterations() {
+        return skippedIterations;
+    }
+}
@@ -0,0 +1,117 @@
+package mandelbrot.model;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorMandelbrot iterates as many neighbouring points at once as the CPU
+ * has double lanes, using the JDK Vector API.  Each lane is masked off as its
+ * point escapes and the batch ends when every lane has escaped or the limit
+ * is reached.  The arithmetic is the same sequence of IEEE operations as the
+ * scalar kernel, so the counts are identical.  Points in the main cardioid or
+ * period-2 bulb start masked off.  Periodicity checking follows the scalar
+ * Brent schedule; all lanes of a batch start together, so they share one
+ * schedule and only the saved points differ per lane.  Points past the last
+ * full vector use the scalar path.
+ * <p>
+ * This class needs the jdk.incubator.vector module; use Kernels to obtain it,
+ * which falls back to the scalar Mandelbrot when the module is absent.
+ * @author Michael
+ * @link https://openjdk.org/jeps/414
+ * @since 10/18/26
+ */
+public class VectorMandelbrot extends Mandelbrot {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    public VectorMandelbrot() {
+        super();
+    }
+
+    public VectorMandelbrot(boolean interiorTests, boolean periodicityChecking) {
+        super(interiorTests, periodicityChecking);
+    }
+
+    public static int getLaneCount() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+        final int lanes = SPECIES.length();
+        final int upperBound = SPECIES.loopBound(length);
+        final double bound2 = bound * bound;
+        final boolean interior = this.isInteriorTests() && (bound >= DEFAULT_BOUND);
+        final boolean periodic = this.isPeriodicityChecking();
+        final double[] laneCounts = new double[lanes];
+
+        int k = 0;
+        for (; k < upperBound; k += lanes) {
+            DoubleVector cr = DoubleVector.fromArray(SPECIES, re, k);
+            DoubleVector ci = DoubleVector.fromArray(SPECIES, im, k);
+            DoubleVector zr = cr;
+            DoubleVector zi = ci;
+            DoubleVector count = DoubleVector.zero(SPECIES);
+            VectorMask<Double> active = SPECIES.maskAll(true);
+            if (interior) {
+                VectorMask<Double> inside = isInMainCardioidOrBulb(cr, ci);
+                count = count.blend(maxIterations, inside);
+                active = inside.not();
+                int numInside = inside.trueCount();
+                if (numInside > 0) {
+                    countInteriorShortcuts(numInside, maxIterations);
+                }
+            }
+
+            DoubleVector savedRe = cr;
+            DoubleVector savedIm = ci;
+            int period = 0;
+            int interval = 1;
+            for (int n = 0; (n < maxIterations) && active.anyTrue(); ++n) {
+                DoubleVector nextRe = zr.mul(zr).sub(zi.mul(zi)).add(cr);
+                DoubleVector nextIm = zr.mul(zi).add(zi.mul(zr)).add(ci);
+                zr = zr.blend(nextRe, active);
+                zi = zi.blend(nextIm, active);
+                count = count.add(1.0, active);
+                if (periodic) {
+                    VectorMask<Double> cycled = zr.sub(savedRe).abs().compare(VectorOperators.LT, PERIODICITY_EPSILON)
+                            .and(zi.sub(savedIm).abs().compare(VectorOperators.LT, PERIODICITY_EPSILON))
+                            .and(active);
+                    if (cycled.anyTrue()) {
+                        int numCycled = cycled.trueCount();
+                        countPeriodicShortcuts(numCycled, (long) numCycled * (maxIterations - n - 1));
+                        count = count.blend(maxIterations, cycled);
+                        active = active.and(cycled.not());
+                    }
+                    if (++period == interval) {
+                        period = 0;
+                        interval <<= 1;
+                        savedRe = zr;
+                        savedIm = zi;
+                    }
+                }
+                DoubleVector magnitude2 = zr.mul(zr).add(zi.mul(zi));
+                active = active.and(magnitude2.compare(VectorOperators.LT, bound2));
+            }
+
+            count.intoArray(laneCounts, 0);
+            for (int lane = 0; lane < lanes; ++lane) {
+                counts[offset + k + lane] = (int) laneCounts[lane];
+            }
+        }
+        for (; k < length; ++k) {
+            counts[offset + k] = getNumIterations(re[k], im[k], maxIterations, bound);
+        }
+    }
+
+    private static VectorMask<Double> isInMainCardioidOrBulb(DoubleVector re, DoubleVector im) {
+        DoubleVector im2 = im.mul(im);
+        DoubleVector x = re.sub(0.25);
+        DoubleVector q = x.mul(x).add(im2);
+        VectorMask<Double> cardioid = q.mul(q.add(x)).compare(VectorOperators.LT, im2.mul(0.25));
+        DoubleVector xb = re.add(1.0);
+        VectorMask<Double> bulb = xb.mul(xb).add(im2).compare(VectorOperators.LT, 0.0625);
+        return cardioid.or(bulb);
+    }
+}
@@ -0,0 +1,229 @@
+package mandelbrot.render;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.view.PixelMapper;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AdaptiveSupersampler colors rendered escape counts with anti-aliasing
+ * where it shows.  Most of a frame is smooth, so a pixel keeps the color of
+ * its one sample unless the count of one of its four neighbours differs by
+ * more than the threshold.  Those edge pixels are sampled again over a
+ * maxSamples x maxSamples grid across the pixel, SAMPLES_PER_ROUND samples
+ * at a time in ordered-dither order so every round covers the pixel evenly,
+ * and refinement stops once a round moves the average color by no more than
+ * the tolerance in any channel.  The result is close to full supersampling
+ * at the grid's density while only the edges pay for it.  Samples are
+ * centred on the pixel's own sample, so edge pixels do not shift against
+ * their neighbours.
+ * @author Michael
+ * @link https://en.wikipedia.org/wiki/Supersampling
+ * @link https://en.wikipedia.org/wiki/Ordered_dithering
+ * @since 10/18/26
+ */
+public class AdaptiveSupersampler {
+    public static final int DEFAULT_THRESHOLD = 2;
+    public static final int DEFAULT_MAX_SAMPLES = 4;
+    public static final int DEFAULT_TOLERANCE = 8;
+    public static final int SAMPLES_PER_ROUND = 4;
+
+    private final IterativeFunction function;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int tolerance;
+    private final double[] offsetX;
+    private final double[] offsetY;
+    private final LongAdder edgePixels = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    public AdaptiveSupersampler(IterativeFunction function, int parallelism) {
+        this(function, parallelism, DEFAULT_THRESHOLD, DEFAULT_MAX_SAMPLES, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param function kernel the counts were rendered with
+     * @param parallelism worker threads
+     * @param threshold largest difference from a neighbour's count that needs no extra samples
+     * @param maxSamples edge of the sample grid for an edge pixel; a power of two, at least 2
+     * @param tolerance largest change of the average color, per 8-bit channel, that ends the refinement
+     */
+    public AdaptiveSupersampler(IterativeFunction function, int parallelism, int threshold, int maxSamples, int tolerance) {
+        if (function == null)
+            throw new IllegalArgumentException("Function cannot be null");
+        if ((parallelism <= 0) || (threshold < 0) || (tolerance < 0))
+            throw new IllegalArgumentException("Parallelism must be positive and threshold and tolerance not negative");
+        if ((maxSamples < 2) || (Integer.bitCount(maxSamples) != 1))
+            throw new IllegalArgumentException("Sample grid must be a power of two, at least 2");
+
+        this.function = function;
+        this.pool = new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+        this.tolerance = tolerance;
+        this.offsetX = new double[maxSamples * maxSamples];
+        this.offsetY = new double[maxSamples * maxSamples];
+        for (int b = 0; b < maxSamples; ++b) {
+            for (int a = 0; a < maxSamples; ++a) {
+                int rank = bayer(a, b, maxSamples);
+                this.offsetX[rank] = (a + 0.5) / maxSamples - 0.5;
+                this.offsetY[rank] = (b + 0.5) / maxSamples - 0.5;
+            }
+        }
+    }
+
+    /**
+     * @return rank of grid cell (a, b) in the n x n ordered-dither matrix;
+     * every run of four ranks from a multiple of four spreads over the grid
+     */
+    static int bayer(int a, int b, int n) {
+        int rank = 0;
+        for (int bit = 1; bit < n; bit <<= 1) {
+            int digit = ((((a ^ b) & bit) != 0) ? 2 : 0) + (((b & bit) != 0) ? 1 : 0);
+            // the finest level of the grid gives the most significant digit, so consecutive ranks land far apart
+            rank = (rank << 2) | digit;
+        }
+        return rank;
+    }
+
+    /**
+     * Color rows of a rendered buffer, sampling edge pixels again.
+     * @param mapper mapping the buffer was rendered with
+     * @param buffer escape counts; rows just outside the colored ones are used as neighbours
+     * @param firstRow first frame row to color
+     * @param numRows number of rows to color
+     * @param maxIterations iteration limit the buffer was rendered with
+     * @param bound bailout magnitude
+     * @param palette colors
+     * @param smooth blend by fractional counts; the buffer's own fractions are used if it has them
+     * @param rgb destination for numRows rows of buffer.getWidth() packed colors
+     * @param token checked before each tile
+     */
+    public void render(PixelMapper mapper, IterationBuffer buffer, int firstRow, int numRows, int maxIterations,
+                       double bound, Palette palette, boolean smooth, int[] rgb, CancellationToken token) {
+        if ((mapper == null) || (buffer == null) || (palette == null) || (rgb == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer, palette, destination and token cannot be null");
+        if ((firstRow < buffer.getY()) || (numRows <= 0) || (firstRow + numRows > buffer.getY() + buffer.getHeight()))
+            throw new IllegalArgumentException("Rows must lie within the buffer");
+
+        this.pool.invoke(new SampleTask(mapper, buffer, firstRow, maxIterations, bound, palette, smooth, rgb, token,
+                buffer.getX(), firstRow, buffer.getWidth(), numRows));
+    }
+
+    /**
+     * @return pixels that were sampled again
+     */
+    public long getEdgePixels() {
+        return this.edgePixels.sum();
+    }
+
+    /**
+     * @return extra samples taken for the edge pixels
+     */
+    public long getSamples() {
+        return this.samples.sum();
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private boolean isEdge(IterationBuffer buffer, int i, int j) {
+        int[] counts = buffer.getCounts();
+        int width = buffer.getWidth();
+        int k = (j - buffer.getY()) * width + (i - buffer.getX());
+        int count = counts[k];
+        return ((i > buffer.getX()) && (Math.abs(counts[k - 1] - count) > this.threshold))
+                || ((i + 1 < buffer.getX() + width) && (Math.abs(counts[k + 1] - count) > this.threshold))
+                || ((j > buffer.getY()) && (Math.abs(counts[k - width] - count) > this.threshold))
+                || ((j + 1 < buffer.getY() + buffer.getHeight()) && (Math.abs(counts[k + width] - count) > this.threshold));
+    }
+
+    /**
+     * @return the average color of the samples taken across pixel (i, j)
+     */
+    private int refine(PixelMapper mapper, int i, int j, int color, int maxIterations, double bound, Palette palette,
+                       boolean smooth) {
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        int numSamples = 0;
+        int previous = color;
+        while (numSamples < this.offsetX.length) {
+            for (int end = numSamples + SAMPLES_PER_ROUND; numSamples < end; ++numSamples) {
+                double x = i + this.offsetX[numSamples];
+                double y = j + this.offsetY[numSamples];
+                double re = mapper.getRe(x, y);
+                double im = mapper.getIm(x, y);
+                int count = this.function.getNumIterations(re, im, maxIterations, bound);
+                int sample = smooth ? palette.getColor(count, this.function.getEscapeFraction(re, im, count, bound))
+                        : palette.getColor(count);
+                red += (sample >> 16) & 0xff;
+                green += (sample >> 8) & 0xff;
+                blue += sample & 0xff;
+            }
+            int half = numSamples / 2;
+            int average = (((red + half) / numSamples) << 16) | (((green + half) / numSamples) << 8) | ((blue + half) / numSamples);
+            boolean stable = (Math.abs(((average >> 16) & 0xff) - ((previous >> 16) & 0xff)) <= this.tolerance)
+                    && (Math.abs(((average >> 8) & 0xff) - ((previous >> 8) & 0xff)) <= this.tolerance)
+                    && (Math.abs((average & 0xff) - (previous & 0xff)) <= this.tolerance);
+            previous = average;
+            if (stable) {
+                break;
+            }
+        }
+        this.samples.add(numSamples);
+        return previous;
+    }
+
+    private class SampleTask extends RegionTask {
+        private final PixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int firstRow;
+        private final int maxIterations;
+        private final double bound;
+        private final Palette palette;
+        private final boolean smooth;
+        private final int[] rgb;
+
+        SampleTask(PixelMapper mapper, IterationBuffer buffer, int firstRow, int maxIterations, double bound, Palette palette,
+                   boolean smooth, int[] rgb, CancellationToken token, int x, int y, int width, int height) {
+            super(x, y, width, height, TileRenderer.DEFAULT_TILE_SIZE, token);
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.firstRow = firstRow;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+            this.palette = palette;
+            this.smooth = smooth;
+            this.rgb = rgb;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new SampleTask(this.mapper, this.buffer, this.firstRow, this.maxIterations, this.bound, this.palette,
+                    this.smooth, this.rgb, getToken(), x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            int[] counts = this.buffer.getCounts();
+            float[] fractions = (this.smooth && this.buffer.isSmooth()) ? this.buffer.getFractions() : null;
+            int bufferWidth = this.buffer.getWidth();
+            long numEdges = 0;
+            for (int j = this.y; j < this.y + this.height; ++j) {
+                for (int i = this.x; i < this.x + this.width; ++i) {
+                    int k = (j - this.buffer.getY()) * bufferWidth + (i - this.buffer.getX());
+                    int color = (fractions != null) ? this.palette.getColor(counts[k], fractions[k])
+                            : this.palette.getColor(counts[k]);
+                    if (isEdge(this.buffer, i, j)) {
+                        color = refine(this.mapper, i, j, color, this.maxIterations, this.bound, this.palette, this.smooth);
+                        ++numEdges;
+                    }
+                    this.rgb[(j - this.firstRow) * bufferWidth + (i - this.buffer.getX())] = color;
+                }
+            }
+            edgePixels.add(numEdges);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package mandelbrot.render;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * CancellationToken lets the owner of a render abandon it part way through.
+ * Renderers poll the token between tiles, so a cancelled render stops within
+ * one tile's worth of work and throws a CancellationException to its caller.
+ * A FrameStats attached to the token has every tile of the render timed into it.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+    private volatile FrameStats stats;
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return statistics the renderers time their tiles into, or null
+     */
+    public FrameStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @param stats statistics for the renders that follow, or null to stop timing
+     */
+    public void setStats(FrameStats stats) {
+        this.stats = stats;
+    }
+
+    public void throwIfCancelled() {
+        if (this.cancelled)
+            throw new CancellationException("Render cancelled");
+    }
+}
@@ -0,0 +1,136 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.DoubleDouble;
+import mandelbrot.model.DoubleDoubleMandelbrot;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.BigPixelMapper;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * DoubleDoubleRenderer renders the Mandelbrot set with DoubleDoubleMandelbrot
+ * for regions too small for doubles but not for double-double, a pixel
+ * spacing down to about 1e-28 times the coordinates.  Pixel coordinates are
+ * taken from the arbitrary precision corners of a BigPixelMapper once per
+ * frame and stepped in double-double, so the per-pixel work is primitive.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DoubleDoubleRenderer {
+    private final DoubleDoubleMandelbrot function;
+    private final ForkJoinPool pool;
+    private final int tileSize;
+
+    public DoubleDoubleRenderer() {
+        this(Runtime.getRuntime().availableProcessors(), TileRenderer.DEFAULT_TILE_SIZE);
+    }
+
+    public DoubleDoubleRenderer(int parallelism, int tileSize) {
+        this(new DoubleDoubleMandelbrot(), parallelism, tileSize);
+    }
+
+    public DoubleDoubleRenderer(DoubleDoubleMandelbrot function, int parallelism, int tileSize) {
+        if (function == null)
+            throw new IllegalArgumentException("Iterative function cannot be null");
+        if ((parallelism <= 0) || (tileSize <= 0))
+            throw new IllegalArgumentException("Parallelism and tile size must be positive");
+
+        this.function = function;
+        this.pool = new ForkJoinPool(parallelism);
+        this.tileSize = tileSize;
+    }
+
+    public DoubleDoubleMandelbrot getFunction() {
+        return function;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public IterationBuffer render(BigPixelMapper mapper) {
+        return this.render(mapper, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    public IterationBuffer render(BigPixelMapper mapper, int maxIterations, double bound) {
+        IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+        this.render(mapper, buffer, maxIterations, bound, new CancellationToken());
+        return buffer;
+    }
+
+    /**
+     * Render the pixels covered by the buffer.
+     * @param mapper arbitrary precision pixel mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param token checked before each tile is computed
+     */
+    public void render(BigPixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+        if ((mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer and token cannot be null");
+
+        // the steps are exact in BigDecimal; rounded to double-double they drift far less than a pixel across the frame
+        BigComplex upperLeft = mapper.getUpperLeft();
+        BigComplex diagonal = mapper.map(1, 1);
+        DoubleDouble reStep = DoubleDouble.valueOf(diagonal.getRe().subtract(upperLeft.getRe()));
+        DoubleDouble imStep = DoubleDouble.valueOf(diagonal.getIm().subtract(upperLeft.getIm()));
+        this.pool.invoke(new DoubleDoubleTask(buffer, maxIterations, bound, DoubleDouble.valueOf(upperLeft.getRe()),
+                DoubleDouble.valueOf(upperLeft.getIm()), reStep, imStep, token,
+                buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private class DoubleDoubleTask extends RegionTask {
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+        private final DoubleDouble originRe;
+        private final DoubleDouble originIm;
+        private final DoubleDouble reStep;
+        private final DoubleDouble imStep;
+
+        DoubleDoubleTask(IterationBuffer buffer, int maxIterations, double bound, DoubleDouble originRe, DoubleDouble originIm,
+                         DoubleDouble reStep, DoubleDouble imStep, CancellationToken token, int x, int y, int width, int height) {
+            super(x, y, width, height, tileSize, token);
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+            this.originRe = originRe;
+            this.originIm = originIm;
+            this.reStep = reStep;
+            this.imStep = imStep;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new DoubleDoubleTask(buffer, maxIterations, bound, originRe, originIm, reStep, imStep, getToken(),
+                    x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            int[] counts = this.buffer.getCounts();
+            int stride = this.buffer.getWidth();
+            double[] imHi = new double[this.width];
+            double[] imLo = new double[this.width];
+            for (int i = 0; i < this.width; ++i) {
+                DoubleDouble im = this.originIm.add(this.imStep.multiply(this.x + i));
+                imHi[i] = im.getHi();
+                imLo[i] = im.getLo();
+            }
+            for (int j = this.y; j < this.y + this.height; ++j) {
+                int rowOffset = (j - this.buffer.getY()) * stride - this.buffer.getX();
+                DoubleDouble re = this.originRe.add(this.reStep.multiply(j));
+                for (int i = 0; i < this.width; ++i) {
+                    counts[rowOffset + this.x + i] = function.getNumIterations(re.getHi(), re.getLo(), imHi[i], imLo[i],
+                            this.maxIterations, this.bound);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package mandelbrot.render;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * FrameStats measures one rendered frame: wall time, pixels per second,
+ * iterations actually run, how many pixels were interior, escaped or
+ * short-circuited, per-tile latency percentiles and how busy the worker
+ * threads were.  Attach it to the frame's CancellationToken and the
+ * renderers time every tile into it; count every buffer of the frame once it
+ * is rendered.  Pixels short-circuited by the kernel (cardioid and bulb test,
+ * periodicity checking) are added per tile from the worker thread's
+ * ShortcutTally, so renders sharing the kernel do not leak into the frame.
+ * The precision the frame was iterated in is recorded too; it is DOUBLE
+ * unless the renderer says otherwise.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class FrameStats {
+    private final String label;
+    private long startNanos;
+    private long wallNanos;
+    private int parallelism = 1;
+    private long interiorShortcuts;
+    private long periodicShortcuts;
+    private long skippedIterations;
+    private long numPixels;
+    private long numInterior;
+    private long countSum;
+    private long fillShortcuts;
+    private long fillIterations;
+    private long busyNanos;
+    private long[] tileNanos = new long[64];
+    private int numTiles;
+    private Precision precision = Precision.DOUBLE;
+    private int precisionDigits = Precision.DOUBLE.getDigits();
+
+    /**
+     * @param label names the frame in the log, e.g. its output file
+     */
+    public FrameStats(String label) {
+        this.label = label;
+    }
+
+    public synchronized void begin() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @param parallelism worker threads of the renderer, for the utilization
+     */
+    public synchronized void end(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+
+        this.wallNanos = System.nanoTime() - this.startNanos;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Add the pixels of a finished buffer of the frame.
+     * @param buffer escape counts
+     * @param maxIterations iteration limit the buffer was rendered with
+     */
+    public void count(IterationBuffer buffer, int maxIterations) {
+        long sum = 0;
+        int interior = 0;
+        for (int value : buffer.getCounts()) {
+            sum += value;
+            if (value >= maxIterations) {
+                ++interior;
+            }
+        }
+        synchronized (this) {
+            this.numPixels += buffer.getCounts().length;
+            this.numInterior += interior;
+            this.countSum += sum;
+        }
+    }
+
+    /**
+     * Called by the renderers for each tile computed.
+     * @param nanos time the tile took
+     */
+    public synchronized void recordTile(long nanos) {
+        if (this.numTiles == this.tileNanos.length) {
+            this.tileNanos = Arrays.copyOf(this.tileNanos, 2 * this.numTiles);
+        }
+        this.tileNanos[this.numTiles++] = nanos;
+        this.busyNanos += nanos;
+    }
+
+    /**
+     * Called by the renderers for each tile computed with a kernel that counts shortcuts.
+     * @param nanos time the tile took
+     * @param interiorShortcuts points of the tile answered by the cardioid and bulb test
+     * @param periodicShortcuts points of the tile found periodic
+     * @param skippedIterations iterations those shortcuts reported without running
+     */
+    public synchronized void recordTile(long nanos, long interiorShortcuts, long periodicShortcuts, long skippedIterations) {
+        this.recordTile(nanos);
+        this.interiorShortcuts += interiorShortcuts;
+        this.periodicShortcuts += periodicShortcuts;
+        this.skippedIterations += skippedIterations;
+    }
+
+    /**
+     * Called by renderers that fill pixels without computing them.
+     * @param numPixels pixels filled
+     * @param iterations sum of the counts filled in
+     */
+    public synchronized void recordFill(long numPixels, long iterations) {
+        this.fillShortcuts += numPixels;
+        this.fillIterations += iterations;
+    }
+
+    /**
+     * @param precision arithmetic the frame is iterated in
+     * @param digits significant decimal digits of that arithmetic for this frame
+     */
+    public synchronized void setPrecision(Precision precision, int digits) {
+        if ((precision == null) || (digits <= 0))
+            throw new IllegalArgumentException("Precision cannot be null and digits must be positive");
+
+        this.precision = precision;
+        this.precisionDigits = digits;
+    }
+
+    public synchronized Precision getPrecision() {
+        return precision;
+    }
+
+    public synchronized int getPrecisionDigits() {
+        return precisionDigits;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public synchronized double getWallMillis() {
+        return this.wallNanos / 1.0e6;
+    }
+
+    public synchronized long getPixels() {
+        return numPixels;
+    }
+
+    public synchronized double getPixelsPerSecond() {
+        return (this.wallNanos > 0) ? this.numPixels * 1.0e9 / this.wallNanos : 0.0;
+    }
+
+    /**
+     * @return iterations actually run: the sum of the counts less those the
+     * shortcuts reported without running
+     */
+    public synchronized long getIterations() {
+        return this.countSum - this.skippedIterations - this.fillIterations;
+    }
+
+    /**
+     * @return pixels at the iteration limit, whether iterated or short-circuited
+     */
+    public synchronized long getInteriorPixels() {
+        return numInterior;
+    }
+
+    public synchronized long getEscapedPixels() {
+        return this.numPixels - this.numInterior;
+    }
+
+    public synchronized long getInteriorShortcuts() {
+        return interiorShortcuts;
+    }
+
+    public synchronized long getPeriodicShortcuts() {
+        return periodicShortcuts;
+    }
+
+    public synchronized long getFillShortcuts() {
+        return fillShortcuts;
+    }
+
+    public synchronized long getShortcutPixels() {
+        return this.interiorShortcuts + this.periodicShortcuts + this.fillShortcuts;
+    }
+
+    public synchronized int getTiles() {
+        return numTiles;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return tile latency at the percentile by the nearest-rank method; 0 if no tile was timed
+     */
+    public synchronized double getTileMillis(double percentile) {
+        if ((percentile < 0.0) || (percentile > 100.0))
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        if (this.numTiles == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(this.tileNanos, this.numTiles);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1.0e6;
+    }
+
+    /**
+     * @return share of the workers' time spent in tiles over the frame's wall time
+     */
+    public synchronized double getUtilization() {
+        return (this.wallNanos > 0) ? Math.min(1.0, (double) this.busyNanos / ((double) this.wallNanos * this.parallelism)) : 0.0;
+    }
+
+    public synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the frame as one line of JSON, without a line terminator
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"frame\":").append(quote(this.label));
+        json.append(",\"wall_ms\":").append(format(getWallMillis()));
+        json.append(",\"precision\":").append(quote(this.precision.name().toLowerCase(Locale.ROOT)));
+        json.append(",\"precision_digits\":").append(this.precisionDigits);
+        json.append(",\"pixels\":").append(this.numPixels);
+        json.append(",\"pixels_per_second\":").append(format(getPixelsPerSecond()));
+        json.append(",\"iterations\":").append(getIterations());
+        json.append(",\"interior\":").append(this.numInterior);
+        json.append(",\"escaped\":").append(getEscapedPixels());
+        json.append(",\"shortcut_cardioid\":").append(this.interiorShortcuts);
+        json.append(",\"shortcut_periodic\":").append(this.periodicShortcuts);
+        json.append(",\"shortcut_fill\":").append(this.fillShortcuts);
+        json.append(",\"tiles\":").append(this.numTiles);
+        json.append(",\"tile_ms_p50\":").append(format(getTileMillis(50.0)));
+        json.append(",\"tile_ms_p90\":").append(format(getTileMillis(90.0)));
+        json.append(",\"tile_ms_p99\":").append(format(getTileMillis(99.0)));
+        json.append(",\"tile_ms_max\":").append(format(getTileMillis(100.0)));
+        json.append(",\"parallelism\":").append(this.parallelism);
+        json.append(",\"utilization\":").append(format(getUtilization()));
+        return json.append('}').toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if ((c == '"') || (c == '\\')) {
+                quoted.append('\\').append(c);
+            } else if (c < ' ') {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
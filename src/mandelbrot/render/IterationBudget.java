@@ -0,0 +1,137 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+
+/**
+ * IterationBudget picks the iteration limit for a frame.  The first guess
+ * grows with the zoom depth; it is then corrected from the escape-count
+ * histogram of a coarse preview of the same frame.  If a noticeable share of
+ * pixels escape in the top half of the budget, more would escape with a
+ * higher one, so the budget doubles.  If every pixel that escapes does so in
+ * the bottom quarter, the budget shrinks to twice the largest escape count.
+ * Pixels that never escape are cut short by the kernel's periodicity
+ * checking, so a generous budget costs little on the interior.
+ * @author Michael
+ * @link http://en.wikibooks.org/wiki/Fractals/Iterations_in_the_complex_plane/Mandelbrot_set#Maximal_number_of_iterations
+ * @since 10/18/26
+ */
+public class IterationBudget {
+    public static final int DEFAULT_MIN_ITERATIONS = Mandelbrot.MAX_ITERATIONS;
+    public static final int DEFAULT_MAX_ITERATIONS = 1 << 20;
+    public static final int ITERATIONS_PER_ZOOM_DOUBLING = 100;
+    public static final double WORLD_SPAN = 4.0;
+    public static final double TAIL_SHARE = 0.001;
+    public static final int PREVIEW_STEP = 8;
+    private static final int MAX_ROUNDS = 6;
+
+    private final int minIterations;
+    private final int maxIterations;
+
+    public IterationBudget() {
+        this(DEFAULT_MIN_ITERATIONS, DEFAULT_MAX_ITERATIONS);
+    }
+
+    public IterationBudget(int minIterations, int maxIterations) {
+        if ((minIterations <= 0) || (maxIterations < minIterations))
+            throw new IllegalArgumentException("Budget range must be positive and ordered");
+
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return first guess from the zoom depth: the minimum at the full view,
+     * plus ITERATIONS_PER_ZOOM_DOUBLING for every halving of the view span
+     */
+    public int forZoom(PixelMapper mapper) {
+        double span = Math.min(mapper.getXStep().magnitude() * mapper.getWidth(),
+                mapper.getYStep().magnitude() * mapper.getHeight());
+        double doublings = Math.max(0.0, Math.log(WORLD_SPAN / span) / Math.log(2.0));
+        return clamp(this.minIterations + (long) (ITERATIONS_PER_ZOOM_DOUBLING * doublings));
+    }
+
+    /**
+     * Correct a budget from the counts it produced.
+     * @param counts escape counts rendered with the budget
+     * @param budget iteration limit used for those counts
+     * @return the corrected budget; unchanged if no pixel escaped
+     */
+    public int adjust(IterationBuffer counts, int budget) {
+        int[] values = counts.getCounts();
+        int maxEscaped = -1;
+        int numLate = 0;
+        for (int value : values) {
+            if (value < budget) {
+                maxEscaped = Math.max(maxEscaped, value);
+                if (2 * value > budget) {
+                    ++numLate;
+                }
+            }
+        }
+        if (maxEscaped < 0) {
+            return clamp(budget);
+        }
+        if (numLate > TAIL_SHARE * values.length) {
+            return clamp(2L * budget);
+        }
+        if (4L * maxEscaped < budget) {
+            return clamp(2L * maxEscaped);
+        }
+        return clamp(budget);
+    }
+
+    /**
+     * Choose the budget for a frame: start from the zoom depth and correct it
+     * from previews rendered at 1/PREVIEW_STEP resolution until it stops growing.
+     * @param renderer renderer for the previews
+     * @param mapper the frame
+     * @param bound bailout magnitude
+     * @param token checked by the preview renders
+     * @return the iteration limit to render the frame with
+     */
+    public int choose(Renderer renderer, PixelMapper mapper, double bound, CancellationToken token) {
+        PixelMapper preview = PixelMapper.affine(
+                Math.max(1, mapper.getWidth() / PREVIEW_STEP), Math.max(1, mapper.getHeight() / PREVIEW_STEP),
+                mapper.getUpperLeft(), Complex.mul(mapper.getXStep(), PREVIEW_STEP), Complex.mul(mapper.getYStep(), PREVIEW_STEP));
+        IterationBuffer counts = new IterationBuffer(preview.getWidth(), preview.getHeight());
+        int budget = forZoom(mapper);
+        for (int round = 0; round < MAX_ROUNDS; ++round) {
+            renderer.render(preview, counts, budget, bound, token);
+            int next = adjust(counts, budget);
+            if (next <= budget) {
+                return next;
+            }
+            budget = next;
+        }
+        return budget;
+    }
+
+    /**
+     * @return share of the pixels whose count reached the budget, i.e. that are
+     * drawn as interior
+     */
+    public static double saturation(IterationBuffer counts, int budget) {
+        int[] values = counts.getCounts();
+        int numSaturated = 0;
+        for (int value : values) {
+            if (value >= budget) {
+                ++numSaturated;
+            }
+        }
+        return (double) numSaturated / values.length;
+    }
+
+    public int getMinIterations() {
+        return minIterations;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    private int clamp(long budget) {
+        return (int) Math.max(this.minIterations, Math.min(budget, this.maxIterations));
+    }
+}
@@ -0,0 +1,90 @@
+package mandelbrot.render;
+
+/**
+ * IterationBuffer holds the escape counts for a rectangular block of pixels,
+ * stored row-major.  The block may be a whole frame or a tile within one;
+ * (x, y) is the position of its upper left pixel in frame coordinates.
+ * A buffer made for smooth coloring also holds the fractional part of each
+ * escape count, filled in by the renderers that support it.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class IterationBuffer {
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final int[] counts;
+    private final float[] fractions;
+
+    public IterationBuffer(int width, int height) {
+        this(0, 0, width, height);
+    }
+
+    public IterationBuffer(int x, int y, int width, int height) {
+        this(x, y, width, height, false);
+    }
+
+    /**
+     * @param smooth also keep fractional escape counts
+     */
+    public IterationBuffer(int x, int y, int width, int height, boolean smooth) {
+        if ((width <= 0) || (height <= 0))
+            throw new IllegalArgumentException("Buffer dimensions must be positive");
+
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.counts = new int[width * height];
+        this.fractions = smooth ? new float[width * height] : null;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the backing row-major array; index (j - y) * width + (i - x)
+     */
+    public int[] getCounts() {
+        return counts;
+    }
+
+    /**
+     * @return the backing row-major fractions, indexed like the counts, or
+     * null if the buffer is not for smooth coloring
+     */
+    public float[] getFractions() {
+        return fractions;
+    }
+
+    public boolean isSmooth() {
+        return this.fractions != null;
+    }
+
+    /**
+     * @param i frame column
+     * @param j frame row
+     * @return escape count at that pixel
+     */
+    public int get(int i, int j) {
+        return this.counts[(j - this.y) * this.width + (i - this.x)];
+    }
+
+    public void set(int i, int j, int numIterations) {
+        this.counts[(j - this.y) * this.width + (i - this.x)] = numIterations;
+    }
+}
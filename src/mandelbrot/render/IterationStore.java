@@ -0,0 +1,211 @@
+package mandelbrot.render;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * IterationStore keeps the escape counts of a frame too large for the heap in
+ * a file.  The file is tile-major: each tile of tileSize x tileSize counts is
+ * contiguous, and a row of tiles forms one contiguous band.  Tiles are written
+ * and rows are read with positional FileChannel calls through two direct
+ * buffers allocated once per store: one holds a tile, the other a few rows of
+ * every tile of a band, so sequential rows cost one read per tile every
+ * ROWS_PER_READ rows.  Nothing is memory mapped, so the number of tiles is not
+ * limited by the process's mapping count.  Edge tiles are padded to the full
+ * tile size to keep every offset a simple product.
+ * @author Michael
+ * @link http://docs.oracle.com/javase/7/docs/api/java/nio/channels/FileChannel.html
+ * @since 10/18/26
+ */
+public class IterationStore implements Closeable {
+    public static final int DEFAULT_TILE_SIZE = 256;
+    public static final int ROWS_PER_READ = 16;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int tilesAcross;
+    private final int tilesDown;
+    private final int rowsPerRead;
+    private ByteBuffer tileBytes;
+    private ByteBuffer rowBytes;
+    private IntBuffer rows;
+    private int firstRow = -1;
+    private int numRows;
+
+    public IterationStore(File file, int width, int height) throws IOException {
+        this(file, width, height, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Create or reopen a store.  An existing file of the right size is reused,
+     * so a finished render can be colored again without recomputing it.
+     * @param file backing file
+     * @param width frame width in pixels
+     * @param height frame height in pixels
+     * @param tileSize edge of the square tiles
+     */
+    public IterationStore(File file, int width, int height, int tileSize) throws IOException {
+        if (file == null)
+            throw new IllegalArgumentException("Store file cannot be null");
+        if ((width <= 0) || (height <= 0) || (tileSize <= 0))
+            throw new IllegalArgumentException("Store dimensions and tile size must be positive");
+
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.tilesAcross = (width + tileSize - 1) / tileSize;
+        this.tilesDown = (height + tileSize - 1) / tileSize;
+        this.rowsPerRead = Math.min(ROWS_PER_READ, tileSize);
+        this.file = new RandomAccessFile(file, "rw");
+        this.channel = this.file.getChannel();
+        long length = this.tilesDown * getBandBytes();
+        if (this.file.length() != length) {
+            this.file.setLength(length);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getTilesAcross() {
+        return tilesAcross;
+    }
+
+    public int getTilesDown() {
+        return tilesDown;
+    }
+
+    /**
+     * @param tileX tile column
+     * @param tileY tile row
+     * @return an empty buffer positioned over the tile, clipped to the frame
+     */
+    public IterationBuffer newTile(int tileX, int tileY) {
+        int x = tileX * this.tileSize;
+        int y = tileY * this.tileSize;
+        return new IterationBuffer(x, y, Math.min(this.tileSize, this.width - x), Math.min(this.tileSize, this.height - y));
+    }
+
+    /**
+     * Copy a tile obtained from newTile into the file.
+     * @param tile rendered tile
+     */
+    public synchronized void write(IterationBuffer tile) throws IOException {
+        if ((tile.getX() % this.tileSize != 0) || (tile.getY() % this.tileSize != 0)
+                || (tile.getWidth() > this.tileSize) || (tile.getHeight() > this.tileSize))
+            throw new IllegalArgumentException("Buffer is not a tile of this store: " + tile.getX() + "," + tile.getY());
+
+        if (this.tileBytes == null) {
+            this.tileBytes = ByteBuffer.allocateDirect((int) getTileBytes());
+        }
+        IntBuffer counts = this.tileBytes.clear().asIntBuffer();
+        int[] source = tile.getCounts();
+        for (int j = 0; j < tile.getHeight(); ++j) {
+            counts.position(j * this.tileSize);
+            counts.put(source, j * tile.getWidth(), tile.getWidth());
+        }
+        // the padding rows below an edge tile are never read, so they are not written
+        this.tileBytes.clear().limit(4 * tile.getHeight() * this.tileSize);
+        writeFully(this.tileBytes, tileOffset(tile.getX() / this.tileSize, tile.getY() / this.tileSize));
+        if ((this.firstRow >= tile.getY()) && (this.firstRow < tile.getY() + this.tileSize)) {
+            this.firstRow = -1;
+        }
+    }
+
+    /**
+     * Read one frame row.  Rows are cheapest read in order, since each read
+     * fetches the following rows of the band as well.
+     * @param j frame row
+     * @param counts destination for width counts
+     */
+    public synchronized void readRow(int j, int[] counts) throws IOException {
+        if ((j < 0) || (j >= this.height))
+            throw new IllegalArgumentException("Row out of range: " + j);
+
+        if ((this.firstRow < 0) || (j < this.firstRow) || (j >= this.firstRow + this.numRows)) {
+            readRows(j);
+        }
+        int rowInRead = j - this.firstRow;
+        for (int tileX = 0; tileX < this.tilesAcross; ++tileX) {
+            int x = tileX * this.tileSize;
+            this.rows.position((tileX * this.rowsPerRead + rowInRead) * this.tileSize);
+            this.rows.get(counts, x, Math.min(this.tileSize, this.width - x));
+        }
+    }
+
+    /**
+     * Fetch the rows of every tile in the band of row j, starting at the
+     * ROWS_PER_READ boundary at or before j and stopping at the tile edge.
+     */
+    private void readRows(int j) throws IOException {
+        if (this.rowBytes == null) {
+            this.rowBytes = ByteBuffer.allocateDirect(4 * this.tilesAcross * this.rowsPerRead * this.tileSize);
+            this.rows = this.rowBytes.asIntBuffer();
+        }
+        int tileY = j / this.tileSize;
+        int start = (j - tileY * this.tileSize) / this.rowsPerRead * this.rowsPerRead;
+        int count = Math.min(this.rowsPerRead, this.tileSize - start);
+        this.firstRow = -1;
+        for (int tileX = 0; tileX < this.tilesAcross; ++tileX) {
+            int position = 4 * tileX * this.rowsPerRead * this.tileSize;
+            this.rowBytes.clear().position(position);
+            this.rowBytes.limit(position + 4 * count * this.tileSize);
+            readFully(this.rowBytes, tileOffset(tileX, tileY) + 4L * start * this.tileSize);
+        }
+        this.firstRow = tileY * this.tileSize + start;
+        this.numRows = count;
+    }
+
+    private void writeFully(ByteBuffer bytes, long offset) throws IOException {
+        long position = offset;
+        while (bytes.hasRemaining()) {
+            position += this.channel.write(bytes, position);
+        }
+    }
+
+    private void readFully(ByteBuffer bytes, long offset) throws IOException {
+        long position = offset;
+        while (bytes.hasRemaining()) {
+            int read = this.channel.read(bytes, position);
+            if (read < 0)
+                throw new EOFException("Store file is shorter than its tiles at " + position);
+            position += read;
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        this.firstRow = -1;
+        this.channel.close();
+        this.file.close();
+    }
+
+    private long getTileBytes() {
+        return 4L * this.tileSize * this.tileSize;
+    }
+
+    private long getBandBytes() {
+        return this.tilesAcross * getTileBytes();
+    }
+
+    private long tileOffset(int tileX, int tileY) {
+        return tileY * getBandBytes() + tileX * getTileBytes();
+    }
+}
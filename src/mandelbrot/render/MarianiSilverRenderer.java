@@ -0,0 +1,205 @@
+package mandelbrot.render;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ShortcutTally;
+import mandelbrot.view.PixelMapper;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * MarianiSilverRenderer iterates only the border of a rectangle.  If every
+ * border pixel has the same count the interior is filled with it; otherwise
+ * the rectangle is cut in two along its longer side and both halves are
+ * handled the same way in parallel.  Because the Mandelbrot set is full, a
+ * border of interior points encloses only interior points, so with a
+ * Mandelbrot kernel the set itself is filled at any rectangle size.  Other
+ * kernels, such as the burning ship, have no such guarantee and their
+ * interior rectangles are treated like escape bands.  An escape band is a
+ * ring around the set and a rectangle whose border lies in one band may
+ * still enclose the set, so band rectangles are only filled once they are no
+ * larger than maxFillSize.
+ * @author Michael
+ * @link http://mrob.com/pub/muency/marianisilveralgorithm.html
+ * @since 10/18/26
+ */
+public class MarianiSilverRenderer implements Renderer {
+    public static final int DEFAULT_MIN_SIZE = 6;
+    public static final int DEFAULT_MAX_FILL_SIZE = 32;
+    private static final int UNCOMPUTED = -1;
+
+    private final IterativeFunction function;
+    private final ForkJoinPool pool;
+    private final int minSize;
+    private final int maxFillSize;
+    private final boolean fullSet;
+
+    public MarianiSilverRenderer() {
+        this(new Mandelbrot());
+    }
+
+    public MarianiSilverRenderer(IterativeFunction function) {
+        this(function, Runtime.getRuntime().availableProcessors(), DEFAULT_MIN_SIZE, DEFAULT_MAX_FILL_SIZE);
+    }
+
+    /**
+     * @param function iterated function
+     * @param parallelism number of worker threads
+     * @param minSize rectangles this narrow are computed pixel by pixel
+     * @param maxFillSize largest rectangle side that may be filled from an escaped border, or
+     * from any border unless the function is a Mandelbrot
+     */
+    public MarianiSilverRenderer(IterativeFunction function, int parallelism, int minSize, int maxFillSize) {
+        if (function == null)
+            throw new IllegalArgumentException("Iterative function cannot be null");
+        if ((parallelism <= 0) || (minSize < 3))
+            throw new IllegalArgumentException("Parallelism must be positive and minimum size at least 3");
+
+        this.function = function;
+        this.pool = new ForkJoinPool(parallelism);
+        this.minSize = minSize;
+        this.maxFillSize = maxFillSize;
+        this.fullSet = (function instanceof Mandelbrot);
+    }
+
+    public IterativeFunction getFunction() {
+        return function;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public IterationBuffer render(PixelMapper mapper, int maxIterations, double bound) {
+        IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+        this.render(mapper, buffer, maxIterations, bound, new CancellationToken());
+        return buffer;
+    }
+
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+        if ((mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer and token cannot be null");
+
+        Arrays.fill(buffer.getCounts(), UNCOMPUTED);
+        this.pool.invoke(new RectangleTask(mapper, buffer, maxIterations, bound, token,
+                buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private class RectangleTask extends RecursiveAction {
+        private final PixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+        private final CancellationToken token;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        RectangleTask(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token,
+                      int x, int y, int width, int height) {
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+            this.token = token;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        protected void compute() {
+            this.token.throwIfCancelled();
+
+            FrameStats stats = this.token.getStats();
+            ShortcutTally tally = ShortcutTally.current();
+            long interior = tally.getInteriorShortcuts();
+            long periodic = tally.getPeriodicShortcuts();
+            long skipped = tally.getSkippedIterations();
+            long start = System.nanoTime();
+            RectangleTask[] halves = this.computeOwnPixels(stats);
+            if (stats != null) {
+                stats.recordTile(System.nanoTime() - start, tally.getInteriorShortcuts() - interior,
+                        tally.getPeriodicShortcuts() - periodic, tally.getSkippedIterations() - skipped);
+            }
+            if (halves != null) {
+                invokeAll(halves[0], halves[1]);
+            }
+        }
+
+        /**
+         * Compute this rectangle's border, or all of it if it is small, and fill
+         * it if the border is uniform.
+         * @return the two halves still to compute, or null if the rectangle is done
+         */
+        private RectangleTask[] computeOwnPixels(FrameStats stats) {
+            if ((this.width < minSize) || (this.height < minSize)) {
+                for (int j = y; j < y + height; ++j) {
+                    for (int i = x; i < x + width; ++i) {
+                        countAt(i, j);
+                    }
+                }
+                return null;
+            }
+
+            int right = x + width - 1;
+            int bottom = y + height - 1;
+            int first = countAt(x, y);
+            boolean uniform = true;
+            for (int i = x; i < x + width; ++i) {
+                uniform &= (countAt(i, y) == first);
+                uniform &= (countAt(i, bottom) == first);
+            }
+            for (int j = y + 1; j < bottom; ++j) {
+                uniform &= (countAt(x, j) == first);
+                uniform &= (countAt(right, j) == first);
+            }
+
+            uniform &= ((fullSet && (first >= this.maxIterations)) || ((this.width <= maxFillSize) && (this.height <= maxFillSize)));
+            if (uniform) {
+                int[] counts = this.buffer.getCounts();
+                int stride = this.buffer.getWidth();
+                for (int j = y + 1; j < bottom; ++j) {
+                    int offset = (j - this.buffer.getY()) * stride - this.buffer.getX();
+                    Arrays.fill(counts, offset + x + 1, offset + right, first);
+                }
+                if (stats != null) {
+                    long numFilled = (long) (this.width - 2) * (this.height - 2);
+                    stats.recordFill(numFilled, numFilled * first);
+                }
+                return null;
+            } else if (this.width >= this.height) {
+                int half = this.width / 2;
+                return new RectangleTask[] {
+                        new RectangleTask(mapper, buffer, maxIterations, bound, token, x, y, half, height),
+                        new RectangleTask(mapper, buffer, maxIterations, bound, token, x + half, y, width - half, height)};
+            } else {
+                int half = this.height / 2;
+                return new RectangleTask[] {
+                        new RectangleTask(mapper, buffer, maxIterations, bound, token, x, y, width, half),
+                        new RectangleTask(mapper, buffer, maxIterations, bound, token, x, y + half, width, height - half)};
+            }
+        }
+
+        /**
+         * Escape count of a pixel, iterating it only the first time it is needed.
+         * A rectangle only touches pixels inside itself, so no two tasks race on one.
+         */
+        private int countAt(int i, int j) {
+            int count = this.buffer.get(i, j);
+            if (count == UNCOMPUTED) {
+                count = function.getNumIterations(this.mapper.getRe(i, j), this.mapper.getIm(i, j), this.maxIterations, this.bound);
+                this.buffer.set(i, j, count);
+            }
+            return count;
+        }
+    }
+}
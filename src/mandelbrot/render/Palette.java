@@ -0,0 +1,259 @@
+package mandelbrot.render;
+
+import java.util.Arrays;
+
+/**
+ * Palette maps escape counts to packed 0xRRGGBB colors.  Counts at or beyond
+ * the end of the palette are black, so a palette with one entry per iteration
+ * paints the set itself black.  Palettes are built without any AWT classes so
+ * they can be used on headless machines.  Smooth coloring blends each entry
+ * with the next according to the fractional part of the escape count.
+ * @author Michael
+ * @link http://stackoverflow.com/questions/223971/how-to-generate-spectrum-color-palettes
+ * @since 10/18/26
+ */
+public class Palette {
+    public static final float DEFAULT_SATURATION = 0.85f;
+    public static final float DEFAULT_BRIGHTNESS = 1.0f;
+
+    private final int[] colors;
+
+    public Palette(int[] colors) {
+        if ((colors == null) || (colors.length == 0))
+            throw new IllegalArgumentException("Palette must have at least one color");
+
+        this.colors = colors.clone();
+    }
+
+    /**
+     * Hues evenly spaced around the color wheel, as MandelbrotPanel has always used.
+     * @param n number of colors
+     * @return spectrum palette
+     */
+    public static Palette spectrum(int n) {
+        int[] colors = new int[n];
+        for (int i = 0; i < n; ++i) {
+            colors[i] = hsbToRgb((float) i / (float) n, DEFAULT_SATURATION, DEFAULT_BRIGHTNESS);
+        }
+        return new Palette(colors);
+    }
+
+    /**
+     * @param n number of colors
+     * @return palette ramping from black to white
+     */
+    public static Palette grayscale(int n) {
+        int[] colors = new int[n];
+        for (int i = 0; i < n; ++i) {
+            int level = (n > 1) ? (255 * i / (n - 1)) : 255;
+            colors[i] = (level << 16) | (level << 8) | level;
+        }
+        return new Palette(colors);
+    }
+
+    /**
+     * Look up a palette by name, e.g. "spectrum" or "grayscale:256".  The size
+     * defaults to the given number of colors when the name does not specify one.
+     * @param spec palette name with an optional ":size" suffix
+     * @param defaultSize size used when none is given
+     * @return the palette
+     */
+    public static Palette forName(String spec, int defaultSize) {
+        String name = spec;
+        int size = defaultSize;
+        int colon = spec.indexOf(':');
+        if (colon >= 0) {
+            name = spec.substring(0, colon);
+            size = Integer.parseInt(spec.substring(colon + 1));
+        }
+        if (size <= 0)
+            throw new IllegalArgumentException("Palette size must be positive: " + spec);
+
+        if ("spectrum".equals(name)) {
+            return spectrum(size);
+        } else if ("grayscale".equals(name)) {
+            return grayscale(size);
+        }
+        throw new IllegalArgumentException("Unknown palette: " + spec);
+    }
+
+    /**
+     * Same conversion as java.awt.Color.HSBtoRGB, without the alpha byte.
+     */
+    static int hsbToRgb(float hue, float saturation, float brightness) {
+        int r = 0;
+        int g = 0;
+        int b = 0;
+        if (saturation == 0.0f) {
+            r = g = b = (int) (brightness * 255.0f + 0.5f);
+        } else {
+            float h = (hue - (float) Math.floor(hue)) * 6.0f;
+            float f = h - (float) Math.floor(h);
+            float p = brightness * (1.0f - saturation);
+            float q = brightness * (1.0f - saturation * f);
+            float t = brightness * (1.0f - (saturation * (1.0f - f)));
+            switch ((int) h) {
+                case 0:
+                    r = (int) (brightness * 255.0f + 0.5f);
+                    g = (int) (t * 255.0f + 0.5f);
+                    b = (int) (p * 255.0f + 0.5f);
+                    break;
+                case 1:
+                    r = (int) (q * 255.0f + 0.5f);
+                    g = (int) (brightness * 255.0f + 0.5f);
+                    b = (int) (p * 255.0f + 0.5f);
+                    break;
+                case 2:
+                    r = (int) (p * 255.0f + 0.5f);
+                    g = (int) (brightness * 255.0f + 0.5f);
+                    b = (int) (t * 255.0f + 0.5f);
+                    break;
+                case 3:
+                    r = (int) (p * 255.0f + 0.5f);
+                    g = (int) (q * 255.0f + 0.5f);
+                    b = (int) (brightness * 255.0f + 0.5f);
+                    break;
+                case 4:
+                    r = (int) (t * 255.0f + 0.5f);
+                    g = (int) (p * 255.0f + 0.5f);
+                    b = (int) (brightness * 255.0f + 0.5f);
+                    break;
+                case 5:
+                    r = (int) (brightness * 255.0f + 0.5f);
+                    g = (int) (p * 255.0f + 0.5f);
+                    b = (int) (q * 255.0f + 0.5f);
+                    break;
+            }
+        }
+        return (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Stretch or shrink the palette to a new number of entries, so the same
+     * colors span a different iteration budget.
+     * @param n number of entries
+     * @return this palette if it already has n entries, otherwise a resampled copy
+     */
+    public Palette resample(int n) {
+        if (n <= 0)
+            throw new IllegalArgumentException("Palette size must be positive");
+        if (n == this.colors.length) {
+            return this;
+        }
+
+        int[] resampled = new int[n];
+        for (int i = 0; i < n; ++i) {
+            resampled[i] = this.colors[(int) ((long) i * this.colors.length / n)];
+        }
+        return new Palette(resampled);
+    }
+
+    public int size() {
+        return colors.length;
+    }
+
+    public int getColor(int numIterations) {
+        return ((numIterations >= 0) && (numIterations < this.colors.length)) ? this.colors[numIterations] : 0;
+    }
+
+    /**
+     * @param numIterations whole part of the escape count
+     * @param fraction fractional part, in [0, 1)
+     * @return the color for the count blended toward the next entry by the fraction
+     */
+    public int getColor(int numIterations, float fraction) {
+        if ((numIterations < 0) || (numIterations >= this.colors.length)) {
+            return 0;
+        }
+        int from = this.colors[numIterations];
+        int to = (numIterations + 1 < this.colors.length) ? this.colors[numIterations + 1] : from;
+        return blend(from, to, (int) (fraction * 256.0f));
+    }
+
+    /**
+     * @param weight weight of the second color, 0 to 256
+     */
+    private static int blend(int from, int to, int weight) {
+        int rb = (from & 0xff00ff) * (256 - weight) + (to & 0xff00ff) * weight;
+        int g = (from & 0x00ff00) * (256 - weight) + (to & 0x00ff00) * weight;
+        return ((rb >>> 8) & 0xff00ff) | ((g >>> 8) & 0x00ff00);
+    }
+
+    /**
+     * Color one row of an iteration buffer, smoothly if the buffer holds fractions.
+     * @param buffer escape counts
+     * @param j frame row to color
+     * @param rgb destination for buffer.getWidth() packed colors
+     */
+    public void colorRow(IterationBuffer buffer, int j, int[] rgb) {
+        this.colorRow(buffer, j, rgb, 0, buffer.isSmooth());
+    }
+
+    /**
+     * Color one row of an iteration buffer into part of a larger array, such
+     * as the pixels of an image.
+     * @param buffer escape counts
+     * @param j frame row to color
+     * @param rgb destination for buffer.getWidth() packed colors
+     * @param rgbOffset index in rgb for the first color
+     * @param smooth blend by the fractional counts; ignored if the buffer has none
+     */
+    public void colorRow(IterationBuffer buffer, int j, int[] rgb, int rgbOffset, boolean smooth) {
+        int[] counts = buffer.getCounts();
+        int width = buffer.getWidth();
+        int offset = (j - buffer.getY()) * width;
+        if (smooth && buffer.isSmooth()) {
+            float[] fractions = buffer.getFractions();
+            for (int i = 0; i < width; ++i) {
+                rgb[rgbOffset + i] = getColor(counts[offset + i], fractions[offset + i]);
+            }
+        } else {
+            for (int i = 0; i < width; ++i) {
+                rgb[rgbOffset + i] = getColor(counts[offset + i]);
+            }
+        }
+    }
+
+    /**
+     * Color a run of escape counts.
+     * @param counts escape counts
+     * @param offset index in counts of the first one
+     * @param length number of counts to color
+     * @param rgb destination for length packed colors
+     */
+    public void colorRow(int[] counts, int offset, int length, int[] rgb) {
+        for (int i = 0; i < length; ++i) {
+            rgb[i] = getColor(counts[offset + i]);
+        }
+    }
+
+    /**
+     * Color a run of continuous escape counts.
+     * @param counts whole parts of the escape counts
+     * @param fractions fractional parts, indexed like the counts
+     * @param offset index of the first one
+     * @param length number of counts to color
+     * @param rgb destination for length packed colors
+     */
+    public void colorRow(int[] counts, float[] fractions, int offset, int length, int[] rgb) {
+        for (int i = 0; i < length; ++i) {
+            rgb[i] = getColor(counts[offset + i], fractions[offset + i]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Palette)) {
+            return false;
+        }
+        return Arrays.equals(this.colors, ((Palette) o).colors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.colors);
+    }
+}
@@ -0,0 +1,237 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ReferenceOrbit;
+import mandelbrot.view.BigPixelMapper;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * PerturbationRenderer renders regions far below double precision.  One
+ * reference orbit is computed with BigComplex at the centre of the region and
+ * every pixel is iterated as a double precision delta from it.  Pixels whose
+ * delta loses precision are flagged as glitched; a glitched pixel then becomes
+ * the next reference and only the glitched pixels are iterated again.  Pixels
+ * still glitched after the reference limit get their own orbit.
+ * @author Michael
+ * @link http://en.wikipedia.org/wiki/Plotting_algorithms_for_the_Mandelbrot_set#Perturbation_theory_and_series_approximation
+ * @since 10/18/26
+ */
+public class PerturbationRenderer {
+    public static final int DEFAULT_MAX_REFERENCES = 16;
+    public static final double DEFAULT_GLITCH_TOLERANCE = 1.0e-6;
+    private static final int GLITCHED = -1;
+
+    private final ForkJoinPool pool;
+    private final int tileSize;
+    private final int maxReferences;
+    private final double glitchTolerance;
+
+    public PerturbationRenderer() {
+        this(Runtime.getRuntime().availableProcessors(), TileRenderer.DEFAULT_TILE_SIZE);
+    }
+
+    public PerturbationRenderer(int parallelism, int tileSize) {
+        this(parallelism, tileSize, DEFAULT_MAX_REFERENCES, DEFAULT_GLITCH_TOLERANCE);
+    }
+
+    public PerturbationRenderer(int parallelism, int tileSize, int maxReferences, double glitchTolerance) {
+        if ((parallelism <= 0) || (tileSize <= 0) || (maxReferences <= 0))
+            throw new IllegalArgumentException("Parallelism, tile size and reference limit must be positive");
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.tileSize = tileSize;
+        this.maxReferences = maxReferences;
+        this.glitchTolerance = glitchTolerance;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public IterationBuffer render(BigPixelMapper mapper) {
+        return this.render(mapper, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    public IterationBuffer render(BigPixelMapper mapper, int maxIterations, double bound) {
+        IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+        this.render(mapper, buffer, maxIterations, bound, null, new CancellationToken());
+        return buffer;
+    }
+
+    /**
+     * Render the pixels covered by the buffer.
+     * @param mapper arbitrary precision pixel mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param reference first reference orbit to try, or null to compute one at the centre of the mapper
+     * @param token checked before each tile is computed
+     * @return number of reference orbits used
+     */
+    public int render(BigPixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                      ReferenceOrbit reference, CancellationToken token) {
+        if ((mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer and token cannot be null");
+
+        if (reference == null) {
+            reference = new ReferenceOrbit(mapper.getCenter(), maxIterations, bound);
+        }
+
+        Arrays.fill(buffer.getCounts(), GLITCHED);
+        int numReferences = 0;
+        while (true) {
+            token.throwIfCancelled();
+            ++numReferences;
+            this.pool.invoke(new PerturbationTask(mapper, buffer, maxIterations, bound, reference, token,
+                    buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+
+            int[] glitch = findReferencePixel(buffer);
+            if (glitch == null) {
+                break;
+            }
+            if (numReferences >= this.maxReferences) {
+                this.pool.invoke(new DirectTask(mapper, buffer, maxIterations, bound, token,
+                        buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+                break;
+            }
+            reference = new ReferenceOrbit(mapper.map(glitch[0], glitch[1]), maxIterations, bound);
+        }
+
+        return numReferences;
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Choose the glitched pixel nearest the centroid of all glitched pixels.
+     * @return frame coordinates of that pixel, or null if nothing is glitched
+     */
+    private static int[] findReferencePixel(IterationBuffer buffer) {
+        int[] counts = buffer.getCounts();
+        int width = buffer.getWidth();
+        long sumX = 0L;
+        long sumY = 0L;
+        int numGlitched = 0;
+        for (int k = 0; k < counts.length; ++k) {
+            if (counts[k] == GLITCHED) {
+                sumX += k % width;
+                sumY += k / width;
+                ++numGlitched;
+            }
+        }
+        if (numGlitched == 0) {
+            return null;
+        }
+
+        double cx = (double) sumX / numGlitched;
+        double cy = (double) sumY / numGlitched;
+        int best = -1;
+        double bestDistance = Double.MAX_VALUE;
+        for (int k = 0; k < counts.length; ++k) {
+            if (counts[k] == GLITCHED) {
+                double dx = (k % width) - cx;
+                double dy = (k / width) - cy;
+                double distance = dx * dx + dy * dy;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = k;
+                }
+            }
+        }
+        return new int[]{buffer.getX() + best % width, buffer.getY() + best / width};
+    }
+
+    private class PerturbationTask extends RegionTask {
+        private final BigPixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+        private final ReferenceOrbit reference;
+        private final Complex offset;
+
+        PerturbationTask(BigPixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                         ReferenceOrbit reference, CancellationToken token, int x, int y, int width, int height) {
+            this(mapper, buffer, maxIterations, bound, reference, mapper.offsetFrom(reference.getC()), token, x, y, width, height);
+        }
+
+        private PerturbationTask(BigPixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                                 ReferenceOrbit reference, Complex offset, CancellationToken token,
+                                 int x, int y, int width, int height) {
+            super(x, y, width, height, tileSize, token);
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+            this.reference = reference;
+            this.offset = offset;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new PerturbationTask(mapper, buffer, maxIterations, bound, reference, offset, getToken(), x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            int[] counts = this.buffer.getCounts();
+            int stride = this.buffer.getWidth();
+            double offsetRe = this.offset.getRe();
+            double offsetIm = this.offset.getIm();
+            double reStep = this.mapper.getReStep();
+            double imStep = this.mapper.getImStep();
+            for (int j = this.y; j < this.y + this.height; ++j) {
+                int rowOffset = (j - this.buffer.getY()) * stride - this.buffer.getX();
+                double dcRe = offsetRe + j * reStep;
+                for (int i = this.x; i < this.x + this.width; ++i) {
+                    if (counts[rowOffset + i] == GLITCHED) {
+                        double dcIm = offsetIm + i * imStep;
+                        counts[rowOffset + i] = this.reference.getNumIterations(dcRe, dcIm, this.maxIterations, this.bound, glitchTolerance);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Last resort for pixels no reference could resolve: iterate each one in
+     * arbitrary precision.
+     */
+    private class DirectTask extends RegionTask {
+        private final BigPixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+
+        DirectTask(BigPixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                   CancellationToken token, int x, int y, int width, int height) {
+            super(x, y, width, height, tileSize, token);
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new DirectTask(mapper, buffer, maxIterations, bound, getToken(), x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            for (int j = this.y; j < this.y + this.height; ++j) {
+                for (int i = this.x; i < this.x + this.width; ++i) {
+                    if (this.buffer.get(i, j) == GLITCHED) {
+                        BigComplex c = this.mapper.map(i, j);
+                        this.buffer.set(i, j, new ReferenceOrbit(c, this.maxIterations, this.bound).getNumIterations());
+                    }
+                }
+            }
+        }
+    }
+}
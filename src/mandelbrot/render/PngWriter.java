@@ -0,0 +1,176 @@
+package mandelbrot.render;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * PngWriter encodes a 24-bit RGB PNG one row at a time, so an image never has
+ * to be held in memory as a whole.  Compressed data is emitted as a sequence
+ * of IDAT chunks of bounded size as the rows arrive.  The image is completed
+ * by finish once every row is written; close always releases the deflater
+ * and the stream, so it belongs in a finally block, and an image that was
+ * not finished is left truncated for the caller to discard.
+ * @author Michael
+ * @link http://www.w3.org/TR/PNG/
+ * @since 10/18/26
+ */
+public class PngWriter implements Closeable {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int FILTER_SUB = 1;
+
+    private final DataOutputStream out;
+    private final int width;
+    private final int height;
+    private final byte[] scanline;
+    private final Deflater deflater;
+    private final DeflaterOutputStream compressed;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream(CHUNK_SIZE);
+    private int rowsWritten;
+    private boolean closed;
+
+    public PngWriter(OutputStream out, int width, int height) throws IOException {
+        if ((width <= 0) || (height <= 0))
+            throw new IllegalArgumentException("Image dimensions must be positive");
+
+        this.out = new DataOutputStream(out);
+        this.width = width;
+        this.height = height;
+        this.scanline = new byte[1 + 3 * width];
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        this.compressed = new DeflaterOutputStream(new ChunkingStream(), this.deflater, CHUNK_SIZE);
+
+        boolean started = false;
+        try {
+            this.out.write(SIGNATURE);
+            ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+            DataOutputStream headerData = new DataOutputStream(header);
+            headerData.writeInt(width);
+            headerData.writeInt(height);
+            headerData.writeByte(8);    // bit depth
+            headerData.writeByte(2);    // color type: truecolor
+            headerData.writeByte(0);    // compression: deflate
+            headerData.writeByte(0);    // filter method
+            headerData.writeByte(0);    // no interlace
+            writeChunk("IHDR", header.toByteArray(), header.size());
+            started = true;
+        } finally {
+            if (!started) {
+                close();
+            }
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param rgb packed 0xRRGGBB colors, at least width of them
+     */
+    public void writeRow(int[] rgb) throws IOException {
+        this.writeRow(rgb, 0);
+    }
+
+    /**
+     * Append the next row of the image.
+     * @param rgb packed 0xRRGGBB colors
+     * @param offset index of the first pixel of the row in rgb
+     */
+    public void writeRow(int[] rgb, int offset) throws IOException {
+        if (this.rowsWritten >= this.height)
+            throw new IllegalStateException("All " + this.height + " rows have been written");
+
+        byte[] line = this.scanline;
+        line[0] = FILTER_SUB;
+        int previous = 0;
+        for (int i = 0, k = 1; i < this.width; ++i, k += 3) {
+            int color = rgb[offset + i];
+            line[k] = (byte) ((color >> 16) - (previous >> 16));
+            line[k + 1] = (byte) ((color >> 8) - (previous >> 8));
+            line[k + 2] = (byte) (color - previous);
+            previous = color;
+        }
+        this.compressed.write(line);
+        ++this.rowsWritten;
+    }
+
+    /**
+     * Complete the image: the last compressed data and the end chunk.  Every
+     * row must have been written.  The stream stays open until close.
+     */
+    public void finish() throws IOException {
+        if (this.closed)
+            throw new IllegalStateException("The writer is closed");
+        if (this.rowsWritten != this.height)
+            throw new IllegalStateException("Only " + this.rowsWritten + " of " + this.height + " rows were written");
+
+        this.compressed.finish();
+        flushPending();
+        writeChunk("IEND", new byte[0], 0);
+        this.out.flush();
+    }
+
+    /**
+     * Release the deflater and close the stream, whether or not the image was
+     * finished.  Closing again does nothing.
+     */
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.deflater.end();
+        this.out.close();
+    }
+
+    private void flushPending() throws IOException {
+        if (this.pending.size() > 0) {
+            writeChunk("IDAT", this.pending.toByteArray(), this.pending.size());
+            this.pending.reset();
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes("US-ASCII");
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        this.out.writeInt(length);
+        this.out.write(typeBytes);
+        this.out.write(data, 0, length);
+        this.out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Collects deflated bytes and writes them out as an IDAT chunk whenever a
+     * chunk's worth has accumulated.
+     */
+    private class ChunkingStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            pending.write(b);
+            if (pending.size() >= CHUNK_SIZE) {
+                flushPending();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            pending.write(b, off, len);
+            if (pending.size() >= CHUNK_SIZE) {
+                flushPending();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+
+/**
+ * Precision is the arithmetic a frame is iterated in, chosen from the pixel
+ * spacing relative to the magnitude of the coordinates: a pixel has to be
+ * many ulps wide, or neighbouring pixels round to the same point and the
+ * frame turns into blocks.  Each precision is picked while it still keeps
+ * about three digits below the pixel spacing, so the cheapest one that is
+ * accurate wins: doubles, then double-double, then BigDecimal with as many
+ * digits as the zoom depth needs.
+ * @author Michael
+ * @since 10/18/26
+ */
+public enum Precision {
+    DOUBLE(16), DOUBLE_DOUBLE(32), ARBITRARY(0);
+
+    /**
+     * Smallest relative pixel spacing that doubles still resolve.
+     */
+    public static final double DOUBLE_SPACING_LIMIT = 1.0e-13;
+    /**
+     * Smallest relative pixel spacing that double-double still resolves.
+     */
+    public static final double DOUBLE_DOUBLE_SPACING_LIMIT = 1.0e-28;
+
+    private final int digits;
+
+    Precision(int digits) {
+        this.digits = digits;
+    }
+
+    /**
+     * @return significant decimal digits; 0 for ARBITRARY, whose digits depend on the frame
+     */
+    public int getDigits() {
+        return digits;
+    }
+
+    /**
+     * @param spacing distance between neighbouring pixels
+     * @param magnitude largest coordinate magnitude in the frame
+     * @return the cheapest precision that resolves the spacing
+     */
+    public static Precision forSpacing(double spacing, double magnitude) {
+        double relative = Math.abs(spacing) / Math.max(1.0, magnitude);
+        if (relative >= DOUBLE_SPACING_LIMIT) {
+            return DOUBLE;
+        }
+        return (relative >= DOUBLE_DOUBLE_SPACING_LIMIT) ? DOUBLE_DOUBLE : ARBITRARY;
+    }
+
+    public static Precision forMapper(PixelMapper mapper) {
+        return forSpacing(Math.min(mapper.getXStep().magnitude(), mapper.getYStep().magnitude()),
+                Math.max(magnitude(mapper.getUpperLeft()), magnitude(mapper.getLowerRight())));
+    }
+
+    public static Precision forMapper(BigPixelMapper mapper) {
+        return forSpacing(Math.min(Math.abs(mapper.getReStep()), Math.abs(mapper.getImStep())),
+                Math.max(magnitude(mapper.getUpperLeft().toComplex()), magnitude(mapper.getLowerRight().toComplex())));
+    }
+
+    /**
+     * @return significant digits the frame is iterated with: the fixed digits of
+     * DOUBLE and DOUBLE_DOUBLE, or the decimal places of the mapper for ARBITRARY
+     */
+    public int getDigits(BigPixelMapper mapper) {
+        return (this == ARBITRARY) ? mapper.getScale() : this.digits;
+    }
+
+    private static double magnitude(Complex z) {
+        return Math.max(Math.abs(z.getRe()), Math.abs(z.getIm()));
+    }
+}
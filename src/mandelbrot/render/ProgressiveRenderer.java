@@ -0,0 +1,201 @@
+package mandelbrot.render;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
+import mandelbrot.view.PixelMapper;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ProgressiveRenderer fills a frame in passes of decreasing sample spacing so
+ * that a coarse preview is available almost immediately.  The first pass
+ * computes every initialStep-th pixel in both directions; each later pass
+ * halves the spacing and computes only the pixels that no earlier pass has
+ * sampled.  Every sample is copied into the block of pixels it stands for
+ * until a finer pass replaces them, so after each pass the buffer holds a
+ * complete, blocky image that a listener can display.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ProgressiveRenderer implements Renderer {
+    public static final int DEFAULT_INITIAL_STEP = 8;
+
+    /**
+     * Receives the buffer after each pass.  Called on the rendering thread,
+     * with no tile still writing to the buffer.
+     */
+    public interface PassListener {
+        /**
+         * @param buffer escape counts, complete at the given sample spacing
+         * @param step sample spacing of the pass just finished; 1 for the final pass
+         */
+        void passCompleted(IterationBuffer buffer, int step);
+    }
+
+    private final IterativeFunction function;
+    private final ForkJoinPool pool;
+    private final int tileSize;
+    private final int initialStep;
+
+    public ProgressiveRenderer() {
+        this(Kernels.mandelbrot());
+    }
+
+    public ProgressiveRenderer(IterativeFunction function) {
+        this(function, Runtime.getRuntime().availableProcessors(), TileRenderer.DEFAULT_TILE_SIZE, DEFAULT_INITIAL_STEP);
+    }
+
+    public ProgressiveRenderer(IterativeFunction function, int parallelism, int tileSize, int initialStep) {
+        if (function == null)
+            throw new IllegalArgumentException("Iterative function cannot be null");
+        if ((parallelism <= 0) || (tileSize <= 0))
+            throw new IllegalArgumentException("Parallelism and tile size must be positive");
+        if ((initialStep <= 0) || (Integer.bitCount(initialStep) != 1))
+            throw new IllegalArgumentException("Initial step must be a positive power of two");
+
+        this.function = function;
+        this.pool = new ForkJoinPool(parallelism);
+        this.tileSize = tileSize;
+        this.initialStep = initialStep;
+    }
+
+    public IterativeFunction getFunction() {
+        return function;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public int getInitialStep() {
+        return initialStep;
+    }
+
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+        this.render(mapper, buffer, maxIterations, bound, token, null);
+    }
+
+    /**
+     * Render the pixels covered by the buffer pass by pass, notifying the
+     * listener after each one.
+     * @param mapper pixel to complex plane mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param token checked before each tile of every pass
+     * @param listener notified after each pass; may be null
+     * @throws java.util.concurrent.CancellationException if the token was cancelled
+     */
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound,
+                       CancellationToken token, PassListener listener) {
+        if ((mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer and token cannot be null");
+
+        for (int step = this.initialStep; step >= 1; step /= 2) {
+            this.pool.invoke(new PassTask(mapper, buffer, maxIterations, bound, token, step,
+                    buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+            if (listener != null) {
+                listener.passCompleted(buffer, step);
+            }
+        }
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Computes the samples of one pass that fall inside a tile.  Sample
+     * positions are measured from the buffer origin, so every pass lines up
+     * with the previous one whatever the tile boundaries are.  A sample's
+     * block may reach into the next tile, but never onto a pixel sampled
+     * there in the same pass, so tiles never write the same pixel.
+     */
+    private class PassTask extends RegionTask {
+        private final PixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+        private final int step;
+
+        PassTask(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token,
+                 int step, int x, int y, int width, int height) {
+            super(x, y, width, height, tileSize, token);
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+            this.step = step;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new PassTask(mapper, buffer, maxIterations, bound, getToken(), step, x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            int originX = this.buffer.getX();
+            int originY = this.buffer.getY();
+            int firstColumn = originX + roundUp(this.x - originX, this.step);
+            int firstRow = originY + roundUp(this.y - originY, this.step);
+            int numColumns = (this.x + this.width - firstColumn + this.step - 1) / this.step;
+            if (numColumns <= 0) {
+                return;
+            }
+            double[] re = new double[numColumns];
+            double[] im = new double[numColumns];
+            int[] counts = new int[numColumns];
+            int[] columns = new int[numColumns];
+            boolean firstPass = (this.step == initialStep);
+            for (int j = firstRow; j < this.y + this.height; j += this.step) {
+                // Rows on the previous pass's grid already hold its samples at even multiples of step.
+                boolean coarseRow = !firstPass && ((j - originY) % (2 * this.step) == 0);
+                int n = 0;
+                for (int i = firstColumn; i < this.x + this.width; i += this.step) {
+                    if (coarseRow && ((i - originX) % (2 * this.step) == 0)) {
+                        continue;
+                    }
+                    columns[n] = i;
+                    re[n] = this.mapper.getRe(i, j);
+                    im[n] = this.mapper.getIm(i, j);
+                    ++n;
+                }
+                if (n == 0) {
+                    continue;
+                }
+                function.getNumIterations(re, im, n, this.maxIterations, this.bound, counts, 0);
+                for (int k = 0; k < n; ++k) {
+                    float fraction = 0.0f;
+                    if (this.buffer.isSmooth() && (counts[k] < this.maxIterations)) {
+                        fraction = function.getEscapeFraction(re[k], im[k], counts[k], this.bound);
+                    }
+                    fillBlock(columns[k], j, counts[k], fraction);
+                }
+            }
+        }
+
+        private void fillBlock(int i, int j, int numIterations, float fraction) {
+            int[] counts = this.buffer.getCounts();
+            float[] fractions = this.buffer.getFractions();
+            int stride = this.buffer.getWidth();
+            int right = Math.min(i + this.step, this.buffer.getX() + stride);
+            int bottom = Math.min(j + this.step, this.buffer.getY() + this.buffer.getHeight());
+            for (int row = j; row < bottom; ++row) {
+                int offset = (row - this.buffer.getY()) * stride - this.buffer.getX();
+                for (int column = i; column < right; ++column) {
+                    counts[offset + column] = numIterations;
+                }
+                if (fractions != null) {
+                    for (int column = i; column < right; ++column) {
+                        fractions[offset + column] = fraction;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int step) {
+        return ((value + step - 1) / step) * step;
+    }
+}
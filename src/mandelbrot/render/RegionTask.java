@@ -0,0 +1,73 @@
+package mandelbrot.render;
+
+import mandelbrot.model.ShortcutTally;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * RegionTask halves a rectangle of pixels until each piece fits in one tile
+ * and hands the tiles to renderTile.  Forked halves sit in the worker's deque,
+ * where idle workers steal them.  The cancellation token is checked before
+ * every tile, and each tile is timed into the token's FrameStats if it has one,
+ * together with the kernel shortcuts the worker thread tallied during the tile.
+ * @author Michael
+ * @since 10/18/26
+ */
+abstract class RegionTask extends RecursiveAction {
+    protected final int x;
+    protected final int y;
+    protected final int width;
+    protected final int height;
+    private final int tileSize;
+    private final CancellationToken token;
+
+    RegionTask(int x, int y, int width, int height, int tileSize, CancellationToken token) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.token = token;
+    }
+
+    /**
+     * @return a task of the same kind covering the given sub-rectangle
+     */
+    protected abstract RegionTask split(int x, int y, int width, int height);
+
+    protected abstract void renderTile();
+
+    @Override
+    protected void compute() {
+        if (this.width > this.tileSize) {
+            int half = this.width / 2;
+            invokeAll(split(x, y, half, height), split(x + half, y, width - half, height));
+        } else if (this.height > this.tileSize) {
+            int half = this.height / 2;
+            invokeAll(split(x, y, width, half), split(x, y + half, width, height - half));
+        } else {
+            this.token.throwIfCancelled();
+            FrameStats stats = this.token.getStats();
+            if (stats == null) {
+                renderTile();
+            } else {
+                ShortcutTally tally = ShortcutTally.current();
+                long interior = tally.getInteriorShortcuts();
+                long periodic = tally.getPeriodicShortcuts();
+                long skipped = tally.getSkippedIterations();
+                long start = System.nanoTime();
+                renderTile();
+                stats.recordTile(System.nanoTime() - start, tally.getInteriorShortcuts() - interior,
+                        tally.getPeriodicShortcuts() - periodic, tally.getSkippedIterations() - skipped);
+            }
+        }
+    }
+
+    protected int getTileSize() {
+        return tileSize;
+    }
+
+    protected CancellationToken getToken() {
+        return token;
+    }
+}
@@ -0,0 +1,121 @@
+package mandelbrot.render;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RenderCache keeps recently rendered iteration buffers in least recently
+ * used order.  The bound is on memory footprint rather than entry count, so a
+ * few large frames and many small tiles share the same budget.  Hit, miss and
+ * eviction counters are kept for sizing the cache.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class RenderCache {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+    private static final int BUFFER_OVERHEAD_BYTES = 64;
+
+    private final long maxBytes;
+    private final LinkedHashMap<RenderKey, IterationBuffer> entries;
+    private long currentBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public RenderCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public RenderCache(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Cache size must be positive");
+
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<RenderKey, IterationBuffer>(16, 0.75f, true);
+    }
+
+    public static long footprint(IterationBuffer buffer) {
+        long cells = buffer.isSmooth() ? 2L * buffer.getCounts().length : buffer.getCounts().length;
+        return 4L * cells + BUFFER_OVERHEAD_BYTES;
+    }
+
+    /**
+     * @param key frame identity
+     * @return the cached buffer, or null on a miss
+     */
+    public synchronized IterationBuffer get(RenderKey key) {
+        IterationBuffer buffer = this.entries.get(key);
+        if (buffer == null) {
+            ++this.misses;
+        } else {
+            ++this.hits;
+        }
+        return buffer;
+    }
+
+    /**
+     * Add a buffer, evicting least recently used entries until the cache fits.
+     * A buffer larger than the whole cache is not stored.
+     * @param key frame identity
+     * @param buffer escape counts for the frame
+     */
+    public synchronized void put(RenderKey key, IterationBuffer buffer) {
+        long size = footprint(buffer);
+        if (size > this.maxBytes) {
+            return;
+        }
+
+        IterationBuffer previous = this.entries.put(key, buffer);
+        if (previous != null) {
+            this.currentBytes -= footprint(previous);
+        }
+        this.currentBytes += size;
+
+        Iterator<Map.Entry<RenderKey, IterationBuffer>> eldest = this.entries.entrySet().iterator();
+        while ((this.currentBytes > this.maxBytes) && eldest.hasNext()) {
+            Map.Entry<RenderKey, IterationBuffer> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            this.currentBytes -= footprint(entry.getValue());
+            eldest.remove();
+            ++this.evictions;
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.currentBytes = 0L;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("RenderCache{entries=%d bytes=%d/%d hits=%d misses=%d evictions=%d}",
+                this.entries.size(), this.currentBytes, this.maxBytes, this.hits, this.misses, this.evictions);
+    }
+}
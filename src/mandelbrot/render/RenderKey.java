@@ -0,0 +1,93 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.view.PixelMapper;
+
+/**
+ * RenderKey identifies a rendered frame: the pixel mapping, the pixel size
+ * and the iteration parameters.  Two frames with equal keys have identical
+ * escape counts.  The mapping is kept in its affine form, so rotated regions
+ * with the same corners do not collide.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class RenderKey {
+    private final Complex origin;
+    private final Complex xStep;
+    private final Complex yStep;
+    private final int width;
+    private final int height;
+    private final int maxIterations;
+    private final double bound;
+
+    public RenderKey(Complex upperLeft, Complex lowerRight, int width, int height, int maxIterations, double bound) {
+        this(new PixelMapper(width, height, upperLeft, lowerRight), width, height, maxIterations, bound);
+    }
+
+    public RenderKey(PixelMapper mapper, int width, int height, int maxIterations, double bound) {
+        if (mapper == null)
+            throw new IllegalArgumentException("Pixel mapper cannot be null");
+
+        this.origin = mapper.getUpperLeft();
+        this.xStep = mapper.getXStep();
+        this.yStep = mapper.getYStep();
+        this.width = width;
+        this.height = height;
+        this.maxIterations = maxIterations;
+        this.bound = bound;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public double getBound() {
+        return bound;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RenderKey)) {
+            return false;
+        }
+
+        RenderKey that = (RenderKey) o;
+
+        return (this.width == that.width)
+                && (this.height == that.height)
+                && (this.maxIterations == that.maxIterations)
+                && (Double.compare(this.bound, that.bound) == 0)
+                && this.origin.equals(that.origin)
+                && this.xStep.equals(that.xStep)
+                && this.yStep.equals(that.yStep);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = origin.hashCode();
+        result = 31 * result + xStep.hashCode();
+        result = 31 * result + yStep.hashCode();
+        result = 31 * result + width;
+        result = 31 * result + height;
+        result = 31 * result + maxIterations;
+        long temp = Double.doubleToLongBits(bound);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s+x%s+y%s %dx%d max=%d bound=%s", origin, xStep, yStep, width, height, maxIterations, bound);
+    }
+}
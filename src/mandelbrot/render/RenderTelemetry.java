@@ -0,0 +1,180 @@
+package mandelbrot.render;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+/**
+ * RenderTelemetry collects the FrameStats of finished frames.  It keeps
+ * running totals and the last frame for JMX clients such as jconsole, and
+ * can append every frame as one JSON line to a log.  Publishing is cheap
+ * enough to do for every frame; a failed log write is counted and the log
+ * abandoned rather than failing the render.
+ * @author Michael
+ * @link http://docs.oracle.com/javase/tutorial/jmx/mbeans/standard.html
+ * @link http://jsonlines.org/
+ * @since 10/18/26
+ */
+public class RenderTelemetry implements RenderTelemetryMBean, Closeable {
+    public static final String OBJECT_NAME = "mandelbrot:type=RenderTelemetry";
+
+    private Writer log;
+    private FrameStats last;
+    private long frameCount;
+    private long totalPixels;
+    private long totalIterations;
+    private double totalRenderMillis;
+    private long logFailures;
+    private ObjectName registeredName;
+
+    public RenderTelemetry() {
+        this(null);
+    }
+
+    /**
+     * @param log receives one JSON line per frame; may be null
+     */
+    public RenderTelemetry(Writer log) {
+        this.log = log;
+    }
+
+    /**
+     * Add a finished frame to the totals and the log.
+     * @param stats measurements of the frame, after FrameStats.end
+     */
+    public synchronized void publish(FrameStats stats) {
+        if (stats == null)
+            throw new IllegalArgumentException("Frame statistics cannot be null");
+
+        this.last = stats;
+        ++this.frameCount;
+        this.totalPixels += stats.getPixels();
+        this.totalIterations += stats.getIterations();
+        this.totalRenderMillis += stats.getWallMillis();
+        if (this.log != null) {
+            try {
+                this.log.write(stats.toJson());
+                this.log.write('\n');
+                this.log.flush();
+            } catch (IOException e) {
+                ++this.logFailures;
+                this.log = null;
+            }
+        }
+    }
+
+    /**
+     * Register with the platform MBean server under OBJECT_NAME, replacing
+     * any telemetry registered there before.
+     */
+    public synchronized void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        this.registeredName = name;
+    }
+
+    public synchronized void unregister() throws JMException {
+        if (this.registeredName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(this.registeredName)) {
+                server.unregisterMBean(this.registeredName);
+            }
+            this.registeredName = null;
+        }
+    }
+
+    /**
+     * Close the log; frames published afterwards are only kept in memory.
+     */
+    public synchronized void close() throws IOException {
+        if (this.log != null) {
+            Writer log = this.log;
+            this.log = null;
+            log.close();
+        }
+    }
+
+    public synchronized FrameStats getLast() {
+        return last;
+    }
+
+    public synchronized long getLogFailures() {
+        return logFailures;
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized long getTotalPixels() {
+        return totalPixels;
+    }
+
+    public synchronized long getTotalIterations() {
+        return totalIterations;
+    }
+
+    public synchronized double getTotalRenderMillis() {
+        return totalRenderMillis;
+    }
+
+    public synchronized double getLastWallMillis() {
+        return (this.last != null) ? this.last.getWallMillis() : 0.0;
+    }
+
+    public synchronized double getLastPixelsPerSecond() {
+        return (this.last != null) ? this.last.getPixelsPerSecond() : 0.0;
+    }
+
+    public synchronized long getLastIterations() {
+        return (this.last != null) ? this.last.getIterations() : 0L;
+    }
+
+    public synchronized long getLastInteriorPixels() {
+        return (this.last != null) ? this.last.getInteriorPixels() : 0L;
+    }
+
+    public synchronized long getLastEscapedPixels() {
+        return (this.last != null) ? this.last.getEscapedPixels() : 0L;
+    }
+
+    public synchronized long getLastShortcutPixels() {
+        return (this.last != null) ? this.last.getShortcutPixels() : 0L;
+    }
+
+    public synchronized double getLastTileMillisP50() {
+        return (this.last != null) ? this.last.getTileMillis(50.0) : 0.0;
+    }
+
+    public synchronized double getLastTileMillisP90() {
+        return (this.last != null) ? this.last.getTileMillis(90.0) : 0.0;
+    }
+
+    public synchronized double getLastTileMillisP99() {
+        return (this.last != null) ? this.last.getTileMillis(99.0) : 0.0;
+    }
+
+    public synchronized double getLastTileMillisMax() {
+        return (this.last != null) ? this.last.getTileMillis(100.0) : 0.0;
+    }
+
+    public synchronized double getLastUtilization() {
+        return (this.last != null) ? this.last.getUtilization() : 0.0;
+    }
+
+    public synchronized String getLastPrecision() {
+        return (this.last != null) ? this.last.getPrecision().name() : "";
+    }
+
+    public synchronized String getLastFrame() {
+        return (this.last != null) ? this.last.toJson() : "";
+    }
+}
@@ -0,0 +1,50 @@
+package mandelbrot.render;
+
+/**
+ * RenderTelemetryMBean is the management interface of RenderTelemetry: totals
+ * over every frame published and the measurements of the last one.  Times are
+ * in milliseconds.
+ * @author Michael
+ * @since 10/18/26
+ */
+public interface RenderTelemetryMBean {
+    long getFrameCount();
+
+    long getTotalPixels();
+
+    long getTotalIterations();
+
+    double getTotalRenderMillis();
+
+    double getLastWallMillis();
+
+    double getLastPixelsPerSecond();
+
+    long getLastIterations();
+
+    long getLastInteriorPixels();
+
+    long getLastEscapedPixels();
+
+    long getLastShortcutPixels();
+
+    double getLastTileMillisP50();
+
+    double getLastTileMillisP90();
+
+    double getLastTileMillisP99();
+
+    double getLastTileMillisMax();
+
+    double getLastUtilization();
+
+    /**
+     * @return arithmetic the last frame was iterated in, or an empty string before the first frame
+     */
+    String getLastPrecision();
+
+    /**
+     * @return the last frame as a JSON line, or an empty string before the first frame
+     */
+    String getLastFrame();
+}
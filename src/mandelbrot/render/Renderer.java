@@ -0,0 +1,31 @@
+package mandelbrot.render;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.view.PixelMapper;
+
+/**
+ * Renderer fills an IterationBuffer with escape counts for the pixels of a
+ * PixelMapper viewport that the buffer covers.
+ * @author Michael
+ * @since 10/18/26
+ */
+public interface Renderer {
+    /**
+     * @param mapper pixel to complex plane mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param token polled while rendering
+     * @throws java.util.concurrent.CancellationException if the token was cancelled
+     */
+    void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token);
+
+    IterativeFunction getFunction();
+
+    /**
+     * @return number of worker threads
+     */
+    int getParallelism();
+
+    void shutdown();
+}
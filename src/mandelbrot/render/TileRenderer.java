@@ -0,0 +1,151 @@
+package mandelbrot.render;
+
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * TileRenderer computes escape counts for a PixelMapper viewport without any
+ * Swing dependency.  The requested region is halved recursively until the
+ * pieces are no larger than one tile, and the pieces run on a ForkJoinPool so
+ * idle workers steal the outstanding halves from busy ones.
+ * @author Michael
+ * @link http://docs.oracle.com/javase/tutorial/essential/concurrency/forkjoin.html
+ * @since 10/18/26
+ */
+public class TileRenderer implements Renderer {
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private final IterativeFunction function;
+    private final ForkJoinPool pool;
+    private final int tileSize;
+
+    public TileRenderer() {
+        this(Kernels.mandelbrot());
+    }
+
+    public TileRenderer(IterativeFunction function) {
+        this(function, Runtime.getRuntime().availableProcessors(), DEFAULT_TILE_SIZE);
+    }
+
+    public TileRenderer(IterativeFunction function, int parallelism, int tileSize) {
+        if (function == null)
+            throw new IllegalArgumentException("Iterative function cannot be null");
+        if ((parallelism <= 0) || (tileSize <= 0))
+            throw new IllegalArgumentException("Parallelism and tile size must be positive");
+
+        this.function = function;
+        this.pool = new ForkJoinPool(parallelism);
+        this.tileSize = tileSize;
+    }
+
+    public IterativeFunction getFunction() {
+        return function;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public IterationBuffer render(PixelMapper mapper) {
+        return this.render(mapper, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    /**
+     * Render the full viewport of the mapper.
+     * @param mapper pixel to complex plane mapping
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @return escape counts for every pixel of the mapper
+     */
+    public IterationBuffer render(PixelMapper mapper, int maxIterations, double bound) {
+        IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+        this.render(mapper, buffer, maxIterations, bound);
+        return buffer;
+    }
+
+    /**
+     * Render the pixels covered by the buffer, which may be any sub-rectangle
+     * of the frame described by the mapper.
+     * @param mapper pixel to complex plane mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     */
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound) {
+        this.render(mapper, buffer, maxIterations, bound, new CancellationToken());
+    }
+
+    /**
+     * Render the pixels covered by the buffer, abandoning the work as soon as
+     * the token is cancelled.
+     * @param mapper pixel to complex plane mapping
+     * @param buffer destination; its position selects the region to render
+     * @param maxIterations iteration limit
+     * @param bound bailout magnitude
+     * @param token checked before each tile is computed
+     * @throws java.util.concurrent.CancellationException if the token was cancelled
+     */
+    public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+        if ((mapper == null) || (buffer == null) || (token == null))
+            throw new IllegalArgumentException("Mapper, buffer and token cannot be null");
+
+        this.pool.invoke(new TileTask(mapper, buffer, maxIterations, bound, token,
+                buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight()));
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private class TileTask extends RegionTask {
+        private final PixelMapper mapper;
+        private final IterationBuffer buffer;
+        private final int maxIterations;
+        private final double bound;
+
+        TileTask(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token,
+                 int x, int y, int width, int height) {
+            super(x, y, width, height, tileSize, token);
+            this.mapper = mapper;
+            this.buffer = buffer;
+            this.maxIterations = maxIterations;
+            this.bound = bound;
+        }
+
+        @Override
+        protected RegionTask split(int x, int y, int width, int height) {
+            return new TileTask(mapper, buffer, maxIterations, bound, getToken(), x, y, width, height);
+        }
+
+        @Override
+        protected void renderTile() {
+            IterativeFunction f = function;
+            int[] counts = this.buffer.getCounts();
+            float[] fractions = this.buffer.getFractions();
+            int stride = this.buffer.getWidth();
+            double[] re = new double[this.width];
+            double[] im = new double[this.width];
+            for (int j = this.y; j < this.y + this.height; ++j) {
+                this.mapper.mapRow(this.x, j, this.width, re, im);
+                int offset = (j - this.buffer.getY()) * stride + (this.x - this.buffer.getX());
+                f.getNumIterations(re, im, this.width, this.maxIterations, this.bound, counts, offset);
+                if (fractions != null) {
+                    for (int k = 0; k < this.width; ++k) {
+                        int numIterations = counts[offset + k];
+                        if (numIterations < this.maxIterations) {
+                            fractions[offset + k] = f.getEscapeFraction(re[k], im[k], numIterations, this.bound);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
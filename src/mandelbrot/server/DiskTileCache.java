@@ -0,0 +1,188 @@
+package mandelbrot.server;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DiskTileCache keeps encoded tiles as files under a directory, one file per
+ * key, and bounds the total size of the files.  The index of keys and sizes is
+ * held in least recently used order; on start-up it is rebuilt from the files
+ * already present, oldest first, so a restarted server keeps its tiles, and
+ * temporary files left by an interrupted store are deleted.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DiskTileCache {
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024L * 1024L;
+    private static final String SUFFIX = ".png";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final File directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries;
+    private long currentBytes;
+    private long evictions;
+
+    public DiskTileCache(File directory, long maxBytes) throws IOException {
+        if (directory == null)
+            throw new IllegalArgumentException("Cache directory cannot be null");
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Cache size must be positive");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Cannot create cache directory " + directory);
+
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<String, Long>(16, 0.75f, true);
+        this.load();
+    }
+
+    private void load() {
+        File[] files = this.directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> tiles = new ArrayList<File>();
+        for (File file : files) {
+            if (!file.isFile()) {
+                continue;
+            }
+            if (file.getName().endsWith(SUFFIX)) {
+                tiles.add(file);
+            } else if (file.getName().endsWith(TEMPORARY_SUFFIX)) {
+                // left by a process that died between writing a tile and renaming it
+                file.delete();
+            }
+        }
+        Collections.sort(tiles, new Comparator<File>() {
+            public int compare(File a, File b) {
+                return Long.valueOf(a.lastModified()).compareTo(b.lastModified());
+            }
+        });
+        for (File file : tiles) {
+            String name = file.getName();
+            this.entries.put(name.substring(0, name.length() - SUFFIX.length()), file.length());
+            this.currentBytes += file.length();
+        }
+        this.evict();
+    }
+
+    /**
+     * @param key tile identity; must be usable as a file name
+     * @return the stored bytes, or null if the tile is not cached
+     */
+    public byte[] get(String key) throws IOException {
+        synchronized (this) {
+            if (this.entries.get(key) == null) {
+                return null;
+            }
+        }
+        File file = fileFor(key);
+        byte[] data = new byte[(int) file.length()];
+        InputStream in;
+        try {
+            in = new FileInputStream(file);
+        } catch (IOException e) {
+            // evicted between the index lookup and the read
+            return null;
+        }
+        try {
+            int read = 0;
+            while (read < data.length) {
+                int n = in.read(data, read, data.length - read);
+                if (n < 0) {
+                    return null;
+                }
+                read += n;
+            }
+        } finally {
+            in.close();
+        }
+        return data;
+    }
+
+    /**
+     * Store a tile, evicting least recently used tiles until the cache fits.
+     * The file is written under a temporary name and renamed into place, so a
+     * reader never sees a partial tile.  A tile larger than the whole cache is
+     * not stored.
+     * @param key tile identity; must be usable as a file name
+     * @param data encoded tile
+     */
+    public void put(String key, byte[] data) throws IOException {
+        if (data.length > this.maxBytes) {
+            return;
+        }
+        File temporary = File.createTempFile("tile-" + key + "-", TEMPORARY_SUFFIX, this.directory);
+        OutputStream out = new FileOutputStream(temporary);
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+        File file = fileFor(key);
+        synchronized (this) {
+            if (!temporary.renameTo(file)) {
+                file.delete();
+                if (!temporary.renameTo(file)) {
+                    temporary.delete();
+                    throw new IOException("Cannot store tile " + file);
+                }
+            }
+            Long previous = this.entries.put(key, (long) data.length);
+            if (previous != null) {
+                this.currentBytes -= previous;
+            }
+            this.currentBytes += data.length;
+            this.evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+        while ((this.currentBytes > this.maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            fileFor(eldest.getKey()).delete();
+            this.currentBytes -= eldest.getValue();
+            iterator.remove();
+            ++this.evictions;
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(this.directory, key + SUFFIX);
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DiskTileCache[%s tiles=%d bytes=%d/%d evictions=%d]",
+                directory, entries.size(), currentBytes, maxBytes, evictions);
+    }
+}
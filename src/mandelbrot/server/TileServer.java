@@ -0,0 +1,214 @@
+package mandelbrot.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.Palette;
+import mandelbrot.render.TileRenderer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TileServer serves the TileService pyramid over HTTP for slippy-map viewers.
+ * GET /tiles/z/x/y.png returns one 256x256 tile and GET /metrics returns the
+ * request, cache and timing counters as plain text "name value" lines.
+ * Requests are handled on a cached thread pool; the rendering itself runs on
+ * the tile renderer's ForkJoinPool.
+ * @author Michael
+ * @link http://docs.oracle.com/javase/8/docs/jre/api/net/httpserver/spec/com/sun/net/httpserver/HttpServer.html
+ * @since 10/18/26
+ */
+public class TileServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_ITERATIONS = 500;
+    private static final Pattern TILE_PATH = Pattern.compile("/tiles/(\\d+)/(\\d+)/(\\d+)\\.png");
+    private static final String USAGE = "usage: TileServer [--port N] [--cache dir] [--cache-size MB] [--threads N]\n"
+            + "                  [--max-iterations N] [--palette spectrum|grayscale[:size]]";
+
+    private final TileService service;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong responses = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong responseNanos = new AtomicLong();
+    private final AtomicLong maxResponseNanos = new AtomicLong();
+
+    public TileServer(TileService service, int port) throws IOException {
+        if (service == null)
+            throw new IllegalArgumentException("Tile service cannot be null");
+
+        this.service = service;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/tiles/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                handleTile(exchange);
+            }
+        });
+        this.server.createContext("/metrics", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                send(exchange, 200, "text/plain; charset=utf-8", getMetrics().getBytes("UTF-8"));
+            }
+        });
+    }
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        String cacheDirectory = "tile-cache";
+        long cacheMegabytes = DiskTileCache.DEFAULT_MAX_BYTES / (1024L * 1024L);
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxIterations = DEFAULT_MAX_ITERATIONS;
+        String palette = "spectrum";
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                String option = args[i];
+                if (i + 1 >= args.length)
+                    throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                if ("--port".equals(option)) {
+                    port = Integer.parseInt(value);
+                } else if ("--cache".equals(option)) {
+                    cacheDirectory = value;
+                } else if ("--cache-size".equals(option)) {
+                    cacheMegabytes = Long.parseLong(value);
+                } else if ("--threads".equals(option)) {
+                    threads = Integer.parseInt(value);
+                } else if ("--max-iterations".equals(option)) {
+                    maxIterations = Integer.parseInt(value);
+                } else if ("--palette".equals(option)) {
+                    palette = value;
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+
+            DiskTileCache cache = new DiskTileCache(new File(cacheDirectory), cacheMegabytes * 1024L * 1024L);
+            TileRenderer renderer = new TileRenderer(Kernels.mandelbrot(), threads, TileRenderer.DEFAULT_TILE_SIZE);
+            TileService service = new TileService(renderer, cache, Palette.forName(palette, maxIterations),
+                    maxIterations, Mandelbrot.DEFAULT_BOUND);
+            TileServer server = new TileServer(service, port);
+            server.start();
+            System.out.printf("serving tiles on port %d, %s\n", port, cache);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    public void start() {
+        this.server.start();
+    }
+
+    public void stop() {
+        this.server.stop(0);
+        this.executor.shutdown();
+    }
+
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    private void handleTile(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Matcher matcher = TILE_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "GET only\n".getBytes("UTF-8"));
+                return;
+            }
+            if (!matcher.matches()) {
+                send(exchange, 404, "text/plain", "No such tile\n".getBytes("UTF-8"));
+                return;
+            }
+            int z;
+            long x;
+            long y;
+            try {
+                // from zoom 32 on there are more than 2^31 tiles per axis
+                z = Integer.parseInt(matcher.group(1));
+                x = Long.parseLong(matcher.group(2));
+                y = Long.parseLong(matcher.group(3));
+            } catch (NumberFormatException e) {
+                z = -1;
+                x = -1;
+                y = -1;
+            }
+            if (!TileService.isValid(z, x, y)) {
+                send(exchange, 404, "text/plain", "No such tile\n".getBytes("UTF-8"));
+                return;
+            }
+            byte[] tile;
+            try {
+                tile = this.service.getTile(z, x, y);
+            } catch (IOException e) {
+                this.errors.incrementAndGet();
+                send(exchange, 500, "text/plain", (e.getMessage() + "\n").getBytes("UTF-8"));
+                return;
+            }
+            send(exchange, 200, "image/png", tile);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            this.responses.incrementAndGet();
+            this.responseNanos.addAndGet(elapsed);
+            long max = this.maxResponseNanos.get();
+            while ((elapsed > max) && !this.maxResponseNanos.compareAndSet(max, elapsed)) {
+                max = this.maxResponseNanos.get();
+            }
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            out.write(body);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * @return counters as "name value" lines; times are in milliseconds
+     */
+    public String getMetrics() {
+        long responses = this.responses.get();
+        long requests = this.service.getRequests();
+        long renders = this.service.getRenders();
+        DiskTileCache cache = this.service.getCache();
+        StringBuilder metrics = new StringBuilder();
+        metrics.append("tile_responses ").append(responses).append('\n');
+        metrics.append("tile_errors ").append(this.errors.get()).append('\n');
+        metrics.append("tile_response_ms_mean ")
+                .append((responses > 0) ? this.responseNanos.get() / responses / 1.0e6 : 0.0).append('\n');
+        metrics.append("tile_response_ms_max ").append(this.maxResponseNanos.get() / 1.0e6).append('\n');
+        metrics.append("tile_requests ").append(requests).append('\n');
+        metrics.append("tile_cache_hits ").append(this.service.getCacheHits()).append('\n');
+        metrics.append("tile_cache_hit_ratio ")
+                .append((requests > 0) ? (double) this.service.getCacheHits() / requests : 0.0).append('\n');
+        metrics.append("tile_renders ").append(renders).append('\n');
+        metrics.append("tile_merged_requests ").append(this.service.getMerged()).append('\n');
+        metrics.append("tile_render_ms_mean ")
+                .append((renders > 0) ? this.service.getRenderNanos() / renders / 1.0e6 : 0.0).append('\n');
+        metrics.append("tile_cache_tiles ").append(cache.size()).append('\n');
+        metrics.append("tile_cache_bytes ").append(cache.getCurrentBytes()).append('\n');
+        metrics.append("tile_cache_max_bytes ").append(cache.getMaxBytes()).append('\n');
+        metrics.append("tile_cache_evictions ").append(cache.getEvictions()).append('\n');
+        return metrics.toString();
+    }
+}
@@ -0,0 +1,202 @@
+package mandelbrot.server;
+
+import mandelbrot.model.Complex;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PngWriter;
+import mandelbrot.render.Renderer;
+import mandelbrot.view.PixelMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TileService produces the PNG tiles of a slippy-map pyramid over the
+ * Mandelbrot set.  Zoom level z splits the square region from (-2+2i) to
+ * (+2-2i) into 2^z x 2^z tiles; tile column x runs along the imaginary axis
+ * and tile row y along the real axis, the same orientation as the panel.
+ * Tiles come from the disk cache when possible.  Otherwise they are rendered,
+ * and concurrent requests for a tile that is already being rendered wait for
+ * that render instead of starting their own.  Cache keys carry the iteration
+ * limit, bound and palette as well as the tile, so a server restarted with
+ * other settings on the same cache directory does not serve the old tiles.
+ * @author Michael
+ * @link http://wiki.openstreetmap.org/wiki/Slippy_map_tilenames
+ * @since 10/18/26
+ */
+public class TileService {
+    public static final int TILE_SIZE = 256;
+    /**
+     * Deepest level whose pixels doubles still resolve in every tile: at zoom z
+     * a pixel is 2^-(6+z) wide and the world corners have magnitude 2, so the
+     * relative spacing stays above Precision.DOUBLE_SPACING_LIMIT up to z = 36.
+     * Tiles are rendered in doubles only, and deeper ones would be blocks that
+     * the disk cache keeps for good.
+     */
+    public static final int MAX_ZOOM = 36;
+    public static final double WORLD_SIZE = 4.0;
+    private static final Complex WORLD_UPPER_LEFT = new Complex(-2.0, 2.0);
+
+    private final Renderer renderer;
+    private final DiskTileCache cache;
+    private final Palette palette;
+    private final int maxIterations;
+    private final double bound;
+    private final String keySuffix;
+    private final ConcurrentMap<String, FutureTask<byte[]>> inFlight = new ConcurrentHashMap<String, FutureTask<byte[]>>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong renders = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+
+    public TileService(Renderer renderer, DiskTileCache cache, Palette palette, int maxIterations, double bound) {
+        if ((renderer == null) || (cache == null) || (palette == null))
+            throw new IllegalArgumentException("Renderer, cache and palette cannot be null");
+        if (maxIterations <= 0)
+            throw new IllegalArgumentException("Iteration limit must be positive");
+
+        this.renderer = renderer;
+        this.cache = cache;
+        this.palette = palette;
+        this.maxIterations = maxIterations;
+        this.bound = bound;
+        this.keySuffix = String.format(Locale.ROOT, "-i%d-b%s-p%08x", maxIterations, bound, palette.hashCode());
+    }
+
+    /**
+     * @param z zoom level, 0 to MAX_ZOOM
+     * @param x tile column, 0 to 2^z - 1
+     * @param y tile row, 0 to 2^z - 1
+     * @return true if the pyramid has that tile
+     */
+    public static boolean isValid(int z, long x, long y) {
+        if ((z < 0) || (z > MAX_ZOOM)) {
+            return false;
+        }
+        long tiles = 1L << z;
+        return (x >= 0) && (x < tiles) && (y >= 0) && (y < tiles);
+    }
+
+    /**
+     * @return the viewport of one tile
+     */
+    public static PixelMapper mapperFor(int z, long x, long y) {
+        if (!isValid(z, x, y))
+            throw new IllegalArgumentException(String.format("No tile %d/%d/%d", z, x, y));
+
+        double span = WORLD_SIZE / (1L << z);
+        Complex upperLeft = new Complex(WORLD_UPPER_LEFT.getRe() + y * span, WORLD_UPPER_LEFT.getIm() - x * span);
+        Complex lowerRight = new Complex(upperLeft.getRe() + span, upperLeft.getIm() - span);
+        return new PixelMapper(TILE_SIZE, TILE_SIZE, upperLeft, lowerRight);
+    }
+
+    /**
+     * @return the encoded PNG for a tile, from the cache or freshly rendered
+     */
+    public byte[] getTile(final int z, final long x, final long y) throws IOException {
+        if (!isValid(z, x, y))
+            throw new IllegalArgumentException(String.format("No tile %d/%d/%d", z, x, y));
+
+        this.requests.incrementAndGet();
+        final String key = z + "-" + x + "-" + y + this.keySuffix;
+        byte[] data = this.cache.get(key);
+        if (data != null) {
+            this.cacheHits.incrementAndGet();
+            return data;
+        }
+
+        FutureTask<byte[]> task = new FutureTask<byte[]>(new Callable<byte[]>() {
+            public byte[] call() throws IOException {
+                // another request may have finished this tile since the lookup above
+                byte[] cached = cache.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+                byte[] rendered = render(mapperFor(z, x, y));
+                cache.put(key, rendered);
+                return rendered;
+            }
+        });
+        FutureTask<byte[]> running = this.inFlight.putIfAbsent(key, task);
+        if (running == null) {
+            running = task;
+            try {
+                task.run();
+            } finally {
+                // only after the tile is in the cache, so a later request finds one or the other
+                this.inFlight.remove(key, task);
+            }
+        } else {
+            this.merged.incrementAndGet();
+        }
+
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for tile " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException("Rendering tile " + key + " failed", e.getCause());
+        }
+    }
+
+    private byte[] render(PixelMapper mapper) throws IOException {
+        long start = System.nanoTime();
+        IterationBuffer buffer = new IterationBuffer(TILE_SIZE, TILE_SIZE);
+        this.renderer.render(mapper, buffer, this.maxIterations, this.bound, new CancellationToken());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PngWriter png = new PngWriter(out, TILE_SIZE, TILE_SIZE);
+        try {
+            int[] rgb = new int[TILE_SIZE];
+            for (int j = 0; j < TILE_SIZE; ++j) {
+                this.palette.colorRow(buffer, j, rgb);
+                png.writeRow(rgb);
+            }
+            png.finish();
+        } finally {
+            png.close();
+        }
+        this.renders.incrementAndGet();
+        this.renderNanos.addAndGet(System.nanoTime() - start);
+        return out.toByteArray();
+    }
+
+    public DiskTileCache getCache() {
+        return cache;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getRenders() {
+        return renders.get();
+    }
+
+    /**
+     * @return requests that waited for a render already in progress
+     */
+    public long getMerged() {
+        return merged.get();
+    }
+
+    public long getRenderNanos() {
+        return renderNanos.get();
+    }
+}
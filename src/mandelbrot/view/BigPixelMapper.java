@@ -0,0 +1,147 @@
+package mandelbrot.view;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * BigPixelMapper is the arbitrary precision counterpart of PixelMapper, for
+ * regions too small to describe with double corners.  It uses the same
+ * orientation: x runs along the imaginary axis and y along the real axis.
+ * The corners are kept as BigComplex values; the spacing between pixels and
+ * the offset of a pixel from a nearby reference point are small enough to be
+ * doubles, which is what the perturbation renderer works with.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class BigPixelMapper {
+    private static final int GUARD_DIGITS = 10;
+
+    private final int width;
+    private final int height;
+    private final BigComplex upperLeft;
+    private final BigComplex lowerRight;
+    private final int scale;
+    private final BigDecimal reStep;
+    private final BigDecimal imStep;
+
+    public BigPixelMapper(int width, int height, BigComplex upperLeft, BigComplex lowerRight) {
+        if ((lowerRight == null) || (upperLeft == null))
+            throw new IllegalArgumentException("Complex region bounds cannot be null");
+
+        this.width = ((width <= 0) ? MandelbrotPanel.DEFAULT_WIDTH : width);
+        this.height = ((height <= 0) ? MandelbrotPanel.DEFAULT_HEIGHT : height);
+        BigDecimal span = lowerRight.getRe().subtract(upperLeft.getRe()).abs()
+                .max(lowerRight.getIm().subtract(upperLeft.getIm()).abs());
+        this.scale = requiredScale(span, Math.max(this.width, this.height));
+        this.upperLeft = new BigComplex(upperLeft.getRe(), upperLeft.getIm(), this.scale);
+        this.lowerRight = new BigComplex(lowerRight.getRe(), lowerRight.getIm(), this.scale);
+        this.reStep = this.lowerRight.getRe().subtract(this.upperLeft.getRe())
+                .divide(BigDecimal.valueOf(this.height), this.scale, RoundingMode.HALF_EVEN);
+        this.imStep = this.lowerRight.getIm().subtract(this.upperLeft.getIm())
+                .divide(BigDecimal.valueOf(this.width), this.scale, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Arbitrary precision copy of an axis-aligned PixelMapper.  Its origin and
+     * steps are converted exactly, so the pixels land where the doubles put
+     * them rather than where corners recomputed in doubles would.
+     * @param mapper mapper without rotation
+     */
+    public BigPixelMapper(PixelMapper mapper) {
+        this(mapper.getWidth(), mapper.getHeight(), new BigDecimal(axisAligned(mapper).getUpperLeft().getRe()),
+                new BigDecimal(mapper.getUpperLeft().getIm()), new BigDecimal(mapper.getYStep().getRe()),
+                new BigDecimal(mapper.getXStep().getIm()));
+    }
+
+    private BigPixelMapper(int width, int height, BigDecimal originRe, BigDecimal originIm, BigDecimal reStep, BigDecimal imStep) {
+        this.width = width;
+        this.height = height;
+        BigDecimal span = reStep.multiply(BigDecimal.valueOf(height)).abs()
+                .max(imStep.multiply(BigDecimal.valueOf(width)).abs());
+        this.scale = requiredScale(span, Math.max(width, height));
+        // the guard digits of the scale keep the rounding of the origin far below a pixel
+        this.upperLeft = new BigComplex(originRe, originIm, this.scale);
+        this.reStep = reStep;
+        this.imStep = imStep;
+        this.lowerRight = this.map(width, height);
+    }
+
+    /**
+     * Decimal places needed to resolve one pixel of a region, plus guard digits.
+     * @param span extent of the region along its longer side
+     * @param pixels number of pixels along that side
+     * @return scale for BigDecimal coordinates in the region
+     */
+    public static int requiredScale(BigDecimal span, int pixels) {
+        if (span.signum() == 0) {
+            return BigComplex.DEFAULT_SCALE + GUARD_DIGITS;
+        }
+        int digitsInSpan = span.precision() - span.scale();
+        int digitsInPixel = (int) Math.ceil(Math.log10(Math.max(pixels, 1)));
+        return Math.max(BigComplex.DEFAULT_SCALE, digitsInPixel - digitsInSpan + GUARD_DIGITS);
+    }
+
+    private static PixelMapper axisAligned(PixelMapper mapper) {
+        if ((mapper.getXStep().getRe() != 0.0) || (mapper.getYStep().getIm() != 0.0))
+            throw new IllegalArgumentException("Only an axis-aligned mapper has an arbitrary precision counterpart");
+
+        return mapper;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public BigComplex getUpperLeft() {
+        return upperLeft;
+    }
+
+    public BigComplex getLowerRight() {
+        return lowerRight;
+    }
+
+    /**
+     * @return distance along the real axis between neighbouring rows
+     */
+    public double getReStep() {
+        return reStep.doubleValue();
+    }
+
+    /**
+     * @return distance along the imaginary axis between neighbouring columns
+     */
+    public double getImStep() {
+        return imStep.doubleValue();
+    }
+
+    public BigComplex getCenter() {
+        return this.map(this.width / 2, this.height / 2);
+    }
+
+    public BigComplex map(int x, int y) {
+        BigDecimal re = this.upperLeft.getRe().add(this.reStep.multiply(BigDecimal.valueOf(y)));
+        BigDecimal im = this.upperLeft.getIm().add(this.imStep.multiply(BigDecimal.valueOf(x)));
+        return new BigComplex(re, im, this.scale);
+    }
+
+    /**
+     * Offset of the upper left corner from a reference point.  Pixel (x, y) then
+     * lies at reference + (offsetRe + y * reStep, offsetIm + x * imStep).
+     * @param reference point near the region
+     * @return difference between the upper left corner and the reference
+     */
+    public Complex offsetFrom(BigComplex reference) {
+        return this.upperLeft.sub(reference).toComplex();
+    }
+}
@@ -0,0 +1,66 @@
+package mandelbrot.view;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.LinkedList;
+
+/**
+ * FramePool hands out TYPE_INT_RGB images for the panel to color into and
+ * takes back the ones that are no longer displayed, so repaints and
+ * progressive passes reuse a few frames instead of allocating a new image
+ * each time.  Frames of a different size than requested are dropped.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class FramePool {
+    public static final int DEFAULT_MAX_FRAMES = 2;
+
+    private final int maxFrames;
+    private final LinkedList<BufferedImage> frames = new LinkedList<BufferedImage>();
+
+    public FramePool() {
+        this(DEFAULT_MAX_FRAMES);
+    }
+
+    public FramePool(int maxFrames) {
+        if (maxFrames <= 0)
+            throw new IllegalArgumentException("Pool size must be positive");
+
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * @return a frame of the given size, recycled if one is available; its contents are undefined
+     */
+    public synchronized BufferedImage take(int width, int height) {
+        while (!this.frames.isEmpty()) {
+            BufferedImage frame = this.frames.removeFirst();
+            if ((frame.getWidth() == width) && (frame.getHeight() == height)) {
+                return frame;
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Return a frame that is no longer displayed or written.
+     * @param frame frame from take, or null
+     */
+    public synchronized void recycle(BufferedImage frame) {
+        if ((frame != null) && (frame.getType() == BufferedImage.TYPE_INT_RGB) && (this.frames.size() < this.maxFrames)
+                && !this.frames.contains(frame)) {
+            this.frames.addLast(frame);
+        }
+    }
+
+    public synchronized int size() {
+        return this.frames.size();
+    }
+
+    /**
+     * @return the backing array of a frame, row-major with one packed 0xRRGGBB per pixel
+     */
+    public static int[] pixels(BufferedImage frame) {
+        return ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -1,22 +1,52 @@
 package mandelbrot.view;
 
 import mandelbrot.model.Complex;
-import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Kernels;
 import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.IterationBudget;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.Precision;
+import mandelbrot.render.ProgressiveRenderer;
+import mandelbrot.render.RenderCache;
+import mandelbrot.render.RenderKey;
+import mandelbrot.render.RenderTelemetry;
 
 import javax.imageio.ImageIO;
+import javax.management.JMException;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * MandelbrotPanel
+ * <p>
+ * Mouse and window events are logged at FINE and FINER through
+ * java.util.logging, and the measurements of each rendered frame are
+ * published to a RenderTelemetry MBean; -Dmandelbrot.telemetry=file
+ * also appends them to that file as JSON lines.  -Dmandelbrot.fractal
+ * selects another fractal, as accepted by Kernels.forName.
+ * <p>
+ * Each frame of the Mandelbrot set is iterated in the cheapest Precision
+ * that resolves its pixels, shown in the status line: zoomed past what
+ * doubles resolve, frames are rendered with double-double or perturbation,
+ * without progressive previews, rather than as blocks.  The viewport itself
+ * is kept in doubles, which bounds how far the panel can zoom.
  * @author Michael
  * @link http://users.rcn.com/ziring/mandel_applet.html
  * @link http://download.oracle.com/javase/tutorial/uiswing/events/mousemotionlistener.html
@@ -24,19 +54,54 @@ import java.util.List;
  */
 public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotionListener, WindowListener {
     private static final boolean COLOR_DISPLAY = true;
+    private static final Logger LOG = Logger.getLogger(MandelbrotPanel.class.getName());
+    public static final String TELEMETRY_PROPERTY = "mandelbrot.telemetry";
     public static final int DEFAULT_WIDTH = 700;
     public static final int DEFAULT_HEIGHT = 700;
     public static final int DEFAULT_NUM_COLORS = 50;
-
-    private List<Integer> colors;
+    private static final int MAX_REMEMBERED_BUDGETS = 256;
+
+    private Palette palette;
+    private boolean smoothColoring = false;
+    private boolean autoIterations = true;
+    private final IterationBudget iterationBudget = new IterationBudget();
+    /** Automatic budgets by viewport, so revisiting a cached frame skips the preview that chose its budget. */
+    private final Map<RenderKey, Integer> chosenBudgets = new LinkedHashMap<RenderKey, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RenderKey, Integer> eldest) {
+            return (size() > MAX_REMEMBERED_BUDGETS);
+        }
+    };
+    private int frameIterations = Mandelbrot.MAX_ITERATIONS;
+    private double frameSaturation;
+    private Precision framePrecision = Precision.DOUBLE;
     private Point pressedCorner = new Point(0, 0);
     private Point releasedCorner = new Point(MandelbrotPanel.DEFAULT_WIDTH, MandelbrotPanel.DEFAULT_HEIGHT);
     private PixelMapper pixelMapper;
+    private ProgressiveRenderer renderer;
+    private final DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer();
+    private final PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+    private RenderCache renderCache;
+    private ZoomHistory zoomHistory;
     private BufferedImage currentImage;
+    private final FramePool framePool = new FramePool();
+    private RenderTelemetry telemetry = new RenderTelemetry();
+    private RenderWorker renderWorker;
     private boolean newSelection = false;
 
     public static void main(String[] args) {
         MandelbrotPanel mandelbrotPanel = new MandelbrotPanel(false, DEFAULT_NUM_COLORS);
+        String telemetryFile = System.getProperty(TELEMETRY_PROPERTY);
+        try {
+            if (telemetryFile != null) {
+                mandelbrotPanel.setTelemetry(new RenderTelemetry(new BufferedWriter(new FileWriter(telemetryFile, true))));
+            }
+            mandelbrotPanel.getTelemetry().register();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "cannot open telemetry log " + telemetryFile, e);
+        } catch (JMException e) {
+            LOG.log(Level.WARNING, "cannot register telemetry", e);
+        }
 
         JFrame frame = new JFrame("Mandelbrot Display");
         frame.add(mandelbrotPanel);
@@ -49,77 +114,186 @@ public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotio
     }
 
     public MandelbrotPanel(boolean isDoubleBuffered, int numColors) {
-        this(isDoubleBuffered, generateColors(numColors));
+        this(isDoubleBuffered, new Palette(generateColors(numColors)));
     }
 
     public MandelbrotPanel(boolean isDoubleBuffered, List<Integer> colorList) {
+        this(isDoubleBuffered, new Palette(toArray(colorList)));
+    }
+
+    public MandelbrotPanel(boolean isDoubleBuffered, Palette palette) {
         super(isDoubleBuffered);
-        this.colors = new ArrayList<Integer>(colorList);
+        if (palette == null)
+            throw new IllegalArgumentException("Palette cannot be null");
+        this.palette = palette;
         this.pixelMapper = new PixelMapper(this.getWidth(), this.getHeight());
+        this.renderer = new ProgressiveRenderer(Kernels.forName(System.getProperty(Kernels.FRACTAL_PROPERTY, Kernels.DEFAULT_FRACTAL)));
+        this.renderCache = new RenderCache();
+        this.zoomHistory = new ZoomHistory(this.pixelMapper);
         this.addMouseListener(this);
         this.addMouseMotionListener(this);
+        this.bindHistoryKeys();
+    }
+
+    public RenderTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    public void setTelemetry(RenderTelemetry telemetry) {
+        if (telemetry == null)
+            throw new IllegalArgumentException("Telemetry cannot be null");
+
+        this.telemetry = telemetry;
+    }
+
+    private static int[] toArray(List<Integer> colorList) {
+        int[] colors = new int[colorList.size()];
+        int i = 0;
+        for (Integer color : colorList) {
+            colors[i++] = color;
+        }
+        return colors;
+    }
+
+    /**
+     * Alt+Left or Backspace steps back through the zoom history, Alt+Right steps forward.
+     * S switches between banded and smooth coloring, I between the automatic
+     * iteration budget and the fixed Mandelbrot.MAX_ITERATIONS.
+     */
+    private void bindHistoryKeys() {
+        InputMap inputMap = this.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_LEFT, InputEvent.ALT_DOWN_MASK), "zoomBack");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_BACK_SPACE, 0), "zoomBack");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_RIGHT, InputEvent.ALT_DOWN_MASK), "zoomForward");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_S, 0), "toggleSmooth");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_I, 0), "toggleAutoIterations");
+        this.getActionMap().put("zoomBack", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {
+                pixelMapper = zoomHistory.back();
+                repaint();
+            }
+        });
+        this.getActionMap().put("zoomForward", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {
+                pixelMapper = zoomHistory.forward();
+                repaint();
+            }
+        });
+        this.getActionMap().put("toggleSmooth", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {
+                smoothColoring = !smoothColoring;
+                repaint();
+            }
+        });
+        this.getActionMap().put("toggleAutoIterations", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {
+                autoIterations = !autoIterations;
+                repaint();
+            }
+        });
     }
 
     /**
-     * Paint the canvas
+     * Paint the canvas.  The fractal itself is never computed here: the last
+     * finished image is drawn and, if the viewport or size has changed since it
+     * was requested, a background render is started to replace it.
      * @param g graphics component
      * @link http://www.exampledepot.com/egs/java.awt.image/ImagePixel.html
      * @link http://stackoverflow.com/questions/1115359/how-to-draw-a-rectangle-on-a-java-applet-using-mouse-drag-event-and-make-it-stay
      * @link http://stackoverflow.com/questions/880753/how-to-draw-rectangle-on-java-applet-using-mouse-drag-event
      */
     public void paintComponent(Graphics g) {
-        // Create an image that does not support transparency
-        this.currentImage = getImage(this.getWidth(), this.getHeight());
-        g.drawImage(currentImage, 0, 0, null);
+        super.paintComponent(g);
+        requestRender(this.getWidth(), this.getHeight());
+        if (this.currentImage != null) {
+            g.drawImage(currentImage, 0, 0, null);
+            g.setColor(Color.WHITE);
+            g.drawString(String.format("%s iterations %d, %.1f%% at limit, %s precision", (this.autoIterations ? "auto" : "fixed"),
+                    this.frameIterations, 100.0 * this.frameSaturation, this.framePrecision.name().toLowerCase().replace('_', '-')),
+                    5, this.getHeight() - 5);
+        }
         if (this.newSelection) {
             g.setColor(Color.WHITE);
             int x = this.pressedCorner.x;
             int y = this.pressedCorner.y;
             int w = this.releasedCorner.x - this.pressedCorner.x;
             int h = this.releasedCorner.y - this.pressedCorner.y;
-            System.out.printf("painted (x=%d y=%d w=%d h=%d)\n", x, y, w, h);
+            if (LOG.isLoggable(Level.FINER)) {
+                LOG.finer(String.format("painted (x=%d y=%d w=%d h=%d)", x, y, w, h));
+            }
             g.drawRect(x, y, w, h);
         }
     }
 
-    private BufferedImage getImage(int width, int height) {
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-
-        IterativeFunction mandelbrot = new Mandelbrot();
-        int minIterations = Integer.MAX_VALUE;
-        int maxIterations = Integer.MIN_VALUE;
-        for (int i = 0; i < width; ++i) {
-            for (int j = 0; j < height; ++j) {
-                int numIterations = mandelbrot.getNumIterations(pixelMapper.map(i, j));
-                minIterations = Math.min(minIterations, numIterations);
-                maxIterations = Math.max(maxIterations, numIterations);
+    /**
+     * Start a background render unless one for this viewport and size is already
+     * running or finished.  A render for a stale viewport is cancelled first.
+     * @param width panel width in pixels
+     * @param height panel height in pixels
+     */
+    private void requestRender(int width, int height) {
+        if ((width <= 0) || (height <= 0)) {
+            return;
+        }
+        if ((this.renderWorker != null) && this.renderWorker.isFor(this.pixelMapper, width, height, this.smoothColoring, this.autoIterations)) {
+            return;
+        }
+        if (this.renderWorker != null) {
+            this.renderWorker.abandon();
+        }
+        this.renderWorker = new RenderWorker(this.pixelMapper, width, height, this.smoothColoring, this.autoIterations);
+        this.renderWorker.execute();
+    }
 
-                if (COLOR_DISPLAY) {
-                    int color = (numIterations < this.colors.size() ? this.colors.get(numIterations) : 0);
-                    image.setRGB(i, j, color);
-                } else {
-                    boolean isInside = mandelbrot.isInside(pixelMapper.map(i, j));
-                    image.setRGB(i, j, isInside ? 0 : 0xfffff0);
+    /**
+     * Color a frame into a pooled image, writing row by row straight into the
+     * image's backing array rather than through setRGB.
+     */
+    private BufferedImage getImage(IterationBuffer iterations, boolean smooth, Palette colors, int maxIterations) {
+        int width = iterations.getWidth();
+        int height = iterations.getHeight();
+        BufferedImage image = this.framePool.take(width, height);
+        int[] pixels = FramePool.pixels(image);
+
+        for (int j = 0; j < height; ++j) {
+            int offset = j * width;
+            if (COLOR_DISPLAY) {
+                colors.colorRow(iterations, j, pixels, offset, smooth);
+            } else {
+                for (int i = 0; i < width; ++i) {
+                    boolean isInside = (iterations.get(i, j) >= maxIterations);
+                    pixels[offset + i] = isInside ? 0 : 0xfffff0;
                 }
             }
         }
         return image;
     }
 
+    /**
+     * Show a new frame and return the one it replaces to the pool.  Called on
+     * the event dispatch thread, which is also the only thread that paints,
+     * so the old frame is no longer in use.
+     */
+    private void showImage(BufferedImage image) {
+        BufferedImage previous = this.currentImage;
+        this.currentImage = image;
+        if (previous != image) {
+            this.framePool.recycle(previous);
+        }
+        repaint();
+    }
+
     /**
      * Generate colors for a given range
-     * @param n size of List
-     * @return List of color values
+     * @param n number of colors
+     * @return color values, indexed by escape count
      * @link http://stackoverflow.com/questions/223971/how-to-generate-spectrum-color-palettes
-     * @link http://www.java-tips.org/java-se-tips/java.awt/convert-rgb-value-to-hexadecimal-to-be-used-in-for-ex.html
-     * @link http://www.java-tips.org/java-se-tips/java.lang/how-to-convert-a-hexadecimal-string-into-an-int-3.html
      */
-    public static List<Integer> generateColors(int n) {
-        List<Integer> cols = new LinkedList<Integer>();
+    public static int[] generateColors(int n) {
+        int[] cols = new int[n];
 
         for (int i = 0; i < n; ++i) {
-            Color hsbColor = Color.getHSBColor((float) i / (float) n, 0.85f, 1.0f);
-            cols.add(fromRgbColorToInteger(hsbColor));
+            cols[i] = Color.HSBtoRGB((float) i / (float) n, Palette.DEFAULT_SATURATION, Palette.DEFAULT_BRIGHTNESS) & 0x00ffffff;
         }
 
         return cols;
@@ -134,8 +308,7 @@ public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotio
         int value = 0;
 
         if (color != null) {
-            String hexString = Integer.toHexString(color.getRGB() & 0x00ffffff);
-            value = Integer.valueOf(hexString, 16).intValue();
+            value = color.getRGB() & 0x00ffffff;
         }
 
         return value;
@@ -155,14 +328,18 @@ public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotio
 
     public void mouseDragged(MouseEvent e) {
         this.releasedCorner = e.getLocationOnScreen();
-        System.out.printf("dragged to (%d, %d) %b\n", this.releasedCorner.x, this.releasedCorner.y, this.newSelection);
+        if (LOG.isLoggable(Level.FINER)) {
+            LOG.finer(String.format("dragged to (%d, %d) %b", this.releasedCorner.x, this.releasedCorner.y, this.newSelection));
+        }
         this.repaint();
     }
 
     public void mousePressed(MouseEvent e) {
         this.pressedCorner = e.getLocationOnScreen();
         this.newSelection = true;
-        System.out.printf("pressed at (%d, %d) %b\n", this.pressedCorner.x, this.pressedCorner.y, this.newSelection);
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(String.format("pressed at (%d, %d) %b", this.pressedCorner.x, this.pressedCorner.y, this.newSelection));
+        }
     }
 
     public void mouseMoved(MouseEvent e) {
@@ -171,20 +348,29 @@ public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotio
 
     public void mouseReleased(MouseEvent e) {
         this.releasedCorner = e.getLocationOnScreen();
-        System.out.printf("released at (%d, %d) %b\n", this.releasedCorner.x, this.releasedCorner.y, this.newSelection);
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(String.format("released at (%d, %d) %b", this.releasedCorner.x, this.releasedCorner.y, this.newSelection));
+        }
         Complex upperLeft = this.pixelMapper.map(this.pressedCorner.x, this.pressedCorner.y);
         Complex lowerRight = this.pixelMapper.map(this.releasedCorner.x, this.releasedCorner.y);
         this.pixelMapper = new PixelMapper(this.getWidth(), this.getHeight(), upperLeft, lowerRight);
+        this.zoomHistory.zoomTo(this.pixelMapper);
         this.repaint();
         this.newSelection = false;
     }
 
     public void windowOpened(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
     }
 
     public void windowClosing(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
+        LOG.info(this.renderCache.toString());
+        try {
+            this.telemetry.close();
+        } catch (IOException e1) {
+            LOG.log(Level.WARNING, "cannot close telemetry log", e1);
+        }
 
         try {
             JFileChooser fileChooser = new JFileChooser(".");
@@ -210,23 +396,175 @@ public class MandelbrotPanel extends JPanel implements MouseListener, MouseMotio
     }
 
     public void windowClosed(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
         System.exit(0);
     }
 
     public void windowIconified(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
     }
 
     public void windowDeiconified(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
     }
 
     public void windowActivated(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
     }
 
     public void windowDeactivated(WindowEvent e) {
-        System.out.printf("event: %s\n", e);
+        logEvent(e);
+    }
+
+    /**
+     * Window events come often and matter rarely, so they are only formatted
+     * when FINE logging is on.
+     */
+    private static void logEvent(WindowEvent e) {
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine("event: " + e);
+        }
+    }
+
+    /**
+     * Computes one frame off the event dispatch thread.  A cached frame is
+     * colored straight away; otherwise each progressive pass is published as
+     * soon as it finishes, so a coarse preview appears long before the full
+     * frame.  Nothing is shown once a newer request has abandoned the worker.
+     */
+    private class RenderWorker extends SwingWorker<BufferedImage, BufferedImage> {
+        private final PixelMapper mapper;
+        private final int width;
+        private final int height;
+        private final boolean smooth;
+        private final boolean auto;
+        private final CancellationToken token = new CancellationToken();
+        private volatile int maxIterations = Mandelbrot.MAX_ITERATIONS;
+        private volatile double saturation;
+        private volatile Precision precision = Precision.DOUBLE;
+
+        RenderWorker(PixelMapper mapper, int width, int height, boolean smooth, boolean auto) {
+            this.mapper = mapper;
+            this.width = width;
+            this.height = height;
+            this.smooth = smooth;
+            this.auto = auto;
+        }
+
+        boolean isFor(PixelMapper mapper, int width, int height, boolean smooth, boolean auto) {
+            return (this.mapper == mapper) && (this.width == width) && (this.height == height)
+                    && (this.smooth == smooth) && (this.auto == auto);
+        }
+
+        void abandon() {
+            this.token.cancel();
+            this.cancel(false);
+        }
+
+        @Override
+        protected BufferedImage doInBackground() {
+            // only the Mandelbrot set has kernels finer than doubles
+            this.precision = (renderer.getFunction() instanceof Mandelbrot) ? Precision.forMapper(this.mapper) : Precision.DOUBLE;
+            final boolean deep = (this.precision != Precision.DOUBLE);
+            final int budget = !this.auto ? Mandelbrot.MAX_ITERATIONS : this.chooseBudget(deep);
+            // the palette is stretched over an automatic budget, as it is not sized for it
+            final Palette colors = this.auto ? palette.resample(budget) : palette;
+            this.maxIterations = budget;
+
+            RenderKey key = new RenderKey(this.mapper, this.width, this.height, budget, Mandelbrot.DEFAULT_BOUND);
+            IterationBuffer iterations = renderCache.get(key);
+            // a banded frame cannot be colored smoothly, but a smooth one can be shown banded
+            if ((iterations == null) || (this.smooth && !iterations.isSmooth())) {
+                iterations = new IterationBuffer(0, 0, this.width, this.height, this.smooth);
+                FrameStats stats = new FrameStats("panel");
+                this.token.setStats(stats);
+                int parallelism;
+                if (deep) {
+                    BigPixelMapper bigMapper = new BigPixelMapper(this.mapper);
+                    stats.setPrecision(this.precision, this.precision.getDigits(bigMapper));
+                    stats.begin();
+                    if (this.precision == Precision.DOUBLE_DOUBLE) {
+                        doubleDoubleRenderer.render(bigMapper, iterations, budget, Mandelbrot.DEFAULT_BOUND, this.token);
+                        parallelism = doubleDoubleRenderer.getParallelism();
+                    } else {
+                        perturbationRenderer.render(bigMapper, iterations, budget, Mandelbrot.DEFAULT_BOUND, null, this.token);
+                        parallelism = perturbationRenderer.getParallelism();
+                    }
+                } else {
+                    stats.begin();
+                    renderer.render(this.mapper, iterations, budget, Mandelbrot.DEFAULT_BOUND, this.token,
+                            new ProgressiveRenderer.PassListener() {
+                                public void passCompleted(IterationBuffer buffer, int step) {
+                                    if (step > 1) {
+                                        publish(getImage(buffer, smooth, colors, budget));
+                                    }
+                                }
+                            });
+                    parallelism = renderer.getParallelism();
+                }
+                stats.count(iterations, budget);
+                stats.end(parallelism);
+                telemetry.publish(stats);
+                if (LOG.isLoggable(Level.FINE)) {
+                    LOG.fine(stats.toJson());
+                }
+                renderCache.put(key, iterations);
+            }
+            this.saturation = IterationBudget.saturation(iterations, budget);
+            return getImage(iterations, this.smooth, colors, budget);
+        }
+
+        /**
+         * The automatic budget of a viewport seen before is reused, so its
+         * frame is found in the render cache without another preview.
+         */
+        private int chooseBudget(boolean deep) {
+            RenderKey viewport = new RenderKey(this.mapper, this.width, this.height, 0, Mandelbrot.DEFAULT_BOUND);
+            synchronized (chosenBudgets) {
+                Integer known = chosenBudgets.get(viewport);
+                if (known != null) {
+                    return known;
+                }
+            }
+            // a preview in doubles is blocks at depths that need more, so only the zoom depth is used there
+            int budget = deep ? iterationBudget.forZoom(this.mapper)
+                    : iterationBudget.choose(renderer, this.mapper, Mandelbrot.DEFAULT_BOUND, this.token);
+            synchronized (chosenBudgets) {
+                chosenBudgets.put(viewport, budget);
+            }
+            return budget;
+        }
+
+        @Override
+        protected void process(List<BufferedImage> previews) {
+            // a preview delivered after the final frame is stale
+            boolean abandoned = this.isDone() || this.isCancelled() || this.token.isCancelled();
+            int last = previews.size() - 1;
+            for (int k = 0; k < last; ++k) {
+                framePool.recycle(previews.get(k));
+            }
+            if (abandoned) {
+                framePool.recycle(previews.get(last));
+            } else {
+                showImage(previews.get(last));
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (this.isCancelled() || this.token.isCancelled()) {
+                return;
+            }
+            try {
+                frameIterations = this.maxIterations;
+                frameSaturation = this.saturation;
+                framePrecision = this.precision;
+                showImage(this.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
     }
 }
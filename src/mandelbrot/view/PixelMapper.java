@@ -5,6 +5,12 @@ import mandelbrot.model.Complex;
 /**
  * PixelMapper takes in a pixel (x,y) coordinate and the four corners of
  * the region in the complex plane and returns the corresponding Complex number.
+ * <p>
+ * The mapping is affine, so it is stored as the point for pixel (0, 0) plus
+ * the change per pixel step in x and in y.  A pixel then costs two
+ * multiply-adds per component and no allocation.  For the axis-aligned
+ * regions built from two corners, x runs along the imaginary axis and y
+ * along the real axis; rotate() turns the region about its centre.
  * @author Michael
  * @since 2/28/11
  */
@@ -12,12 +18,14 @@ public class PixelMapper {
     private static final Complex DEFAULT_UPPER_LEFT = new Complex(-2.0, 2.0);
     private static final Complex DEFAULT_LOWER_RIGHT = new Complex(+2.0, -2.0);
 
-    private int width;
-    private int height;
-    private Complex lowerLeft;
-    private Complex lowerRight;
-    private Complex upperRight;
-    private Complex upperLeft;
+    private final int width;
+    private final int height;
+    private final double originRe;
+    private final double originIm;
+    private final double reStepX;
+    private final double imStepX;
+    private final double reStepY;
+    private final double imStepY;
 
     public PixelMapper() {
         this(MandelbrotPanel.DEFAULT_WIDTH, MandelbrotPanel.DEFAULT_HEIGHT);
@@ -33,22 +41,123 @@ public class PixelMapper {
 
         this.width = ((width <= 0) ? MandelbrotPanel.DEFAULT_WIDTH : width);
         this.height = ((height <= 0) ? MandelbrotPanel.DEFAULT_HEIGHT : height);
-        this.lowerRight = lowerRight;
-        this.upperLeft = upperLeft;
-        this.lowerLeft = new Complex(this.upperLeft.getRe(), this.lowerRight.getIm());
-        this.upperRight = new Complex(this.lowerRight.getRe(), this.upperLeft.getIm());
+        this.originRe = upperLeft.getRe();
+        this.originIm = upperLeft.getIm();
+        this.reStepX = 0.0;
+        this.imStepX = (lowerRight.getIm() - upperLeft.getIm()) / this.width;
+        this.reStepY = (lowerRight.getRe() - upperLeft.getRe()) / this.height;
+        this.imStepY = 0.0;
+    }
+
+    private PixelMapper(int width, int height, double originRe, double originIm,
+                        double reStepX, double imStepX, double reStepY, double imStepY) {
+        this.width = width;
+        this.height = height;
+        this.originRe = originRe;
+        this.originIm = originIm;
+        this.reStepX = reStepX;
+        this.imStepX = imStepX;
+        this.reStepY = reStepY;
+        this.imStepY = imStepY;
+    }
+
+    /**
+     * General affine mapping: pixel (x, y) maps to origin + x * xStep + y * yStep.
+     * @param width width in pixels
+     * @param height height in pixels
+     * @param origin point for pixel (0, 0)
+     * @param xStep change per pixel in x
+     * @param yStep change per pixel in y
+     * @return the mapper
+     */
+    public static PixelMapper affine(int width, int height, Complex origin, Complex xStep, Complex yStep) {
+        if ((origin == null) || (xStep == null) || (yStep == null))
+            throw new IllegalArgumentException("Origin and steps cannot be null");
+        if ((width <= 0) || (height <= 0))
+            throw new IllegalArgumentException("Dimensions must be positive");
+
+        return new PixelMapper(width, height, origin.getRe(), origin.getIm(),
+                xStep.getRe(), xStep.getIm(), yStep.getRe(), yStep.getIm());
+    }
+
+    /**
+     * @param angle counterclockwise rotation in radians
+     * @return a mapper for this region rotated about its centre
+     */
+    public PixelMapper rotate(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double centerRe = getRe(this.width / 2.0, this.height / 2.0);
+        double centerIm = getIm(this.width / 2.0, this.height / 2.0);
+        double rxRe = cos * this.reStepX - sin * this.imStepX;
+        double rxIm = sin * this.reStepX + cos * this.imStepX;
+        double ryRe = cos * this.reStepY - sin * this.imStepY;
+        double ryIm = sin * this.reStepY + cos * this.imStepY;
+        double halfW = this.width / 2.0;
+        double halfH = this.height / 2.0;
+        return new PixelMapper(this.width, this.height,
+                centerRe - halfW * rxRe - halfH * ryRe, centerIm - halfW * rxIm - halfH * ryIm,
+                rxRe, rxIm, ryRe, ryIm);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Complex getUpperLeft() {
+        return new Complex(this.originRe, this.originIm);
+    }
+
+    public Complex getLowerRight() {
+        return map(this.width, this.height);
+    }
+
+    /**
+     * @return change in the complex plane for one pixel step in x
+     */
+    public Complex getXStep() {
+        return new Complex(this.reStepX, this.imStepX);
+    }
+
+    /**
+     * @return change in the complex plane for one pixel step in y
+     */
+    public Complex getYStep() {
+        return new Complex(this.reStepY, this.imStepY);
+    }
+
+    public double getRe(double x, double y) {
+        return this.originRe + x * this.reStepX + y * this.reStepY;
+    }
+
+    public double getIm(double x, double y) {
+        return this.originIm + x * this.imStepX + y * this.imStepY;
+    }
+
+    /**
+     * Fill coordinate arrays for a run of pixels along one row.  Each pixel
+     * is the row start plus its column times the x step, not the previous
+     * pixel plus a step, so rounding does not accumulate along the row.
+     * @param x first column
+     * @param y row
+     * @param length number of pixels
+     * @param re destination for the real parts
+     * @param im destination for the imaginary parts
+     */
+    public void mapRow(int x, int y, int length, double[] re, double[] im) {
+        double rowRe = this.originRe + y * this.reStepY;
+        double rowIm = this.originIm + y * this.imStepY;
+        for (int i = 0; i < length; ++i) {
+            re[i] = rowRe + (x + i) * this.reStepX;
+            im[i] = rowIm + (x + i) * this.imStepX;
+        }
     }
 
     public Complex map(int x, int y) {
-        double u = (double) x / this.width;
-        double v = (double) y / this.height;
-
-        // Bi-linear shape functions mapping pixel space to complex region
-        Complex value = new Complex()
-                .add(new Complex(this.upperLeft).mul(1 - u).mul(1 - v))
-                .add(new Complex(this.upperRight).mul(1 - u).mul(v))
-                .add(new Complex(this.lowerLeft).mul(u).mul(1 - v))
-                .add(new Complex(this.lowerRight).mul(u).mul(v));
-        return value;
+        return new Complex(getRe(x, y), getIm(x, y));
     }
 }
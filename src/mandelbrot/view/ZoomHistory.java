@@ -0,0 +1,79 @@
+package mandelbrot.view;
+
+import java.util.LinkedList;
+
+/**
+ * ZoomHistory records the viewports the user has visited so they can step
+ * back and forward through them like a browser history.  Zooming to a new
+ * viewport discards the forward entries.
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomHistory {
+    public static final int DEFAULT_MAX_DEPTH = 100;
+
+    private final int maxDepth;
+    private final LinkedList<PixelMapper> back = new LinkedList<PixelMapper>();
+    private final LinkedList<PixelMapper> forward = new LinkedList<PixelMapper>();
+    private PixelMapper current;
+
+    public ZoomHistory(PixelMapper initial) {
+        this(initial, DEFAULT_MAX_DEPTH);
+    }
+
+    public ZoomHistory(PixelMapper initial, int maxDepth) {
+        if (initial == null)
+            throw new IllegalArgumentException("Initial viewport cannot be null");
+        if (maxDepth <= 0)
+            throw new IllegalArgumentException("History depth must be positive");
+
+        this.current = initial;
+        this.maxDepth = maxDepth;
+    }
+
+    public PixelMapper getCurrent() {
+        return current;
+    }
+
+    public void zoomTo(PixelMapper next) {
+        if (next == null)
+            throw new IllegalArgumentException("Viewport cannot be null");
+
+        this.back.addFirst(this.current);
+        if (this.back.size() > this.maxDepth) {
+            this.back.removeLast();
+        }
+        this.forward.clear();
+        this.current = next;
+    }
+
+    public boolean canGoBack() {
+        return !this.back.isEmpty();
+    }
+
+    public boolean canGoForward() {
+        return !this.forward.isEmpty();
+    }
+
+    /**
+     * @return the previous viewport, or the current one if there is none
+     */
+    public PixelMapper back() {
+        if (canGoBack()) {
+            this.forward.addFirst(this.current);
+            this.current = this.back.removeFirst();
+        }
+        return this.current;
+    }
+
+    /**
+     * @return the next viewport, or the current one if there is none
+     */
+    public PixelMapper forward() {
+        if (canGoForward()) {
+            this.back.addFirst(this.current);
+            this.current = this.forward.removeFirst();
+        }
+        return this.current;
+    }
+}
@@ -0,0 +1,281 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.AdaptiveSupersampler;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.Precision;
+import mandelbrot.render.Renderer;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * RenderJobTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class RenderJobTest {
+    @Test
+    public void testParse() {
+        RenderJob job = RenderJob.parse(new String[]{"--size", "320x200", "--mode", "mariani-silver", "--output", "out.png"});
+        Assert.assertEquals(320, job.getWidth());
+        Assert.assertEquals(200, job.getHeight());
+        Assert.assertEquals(RenderJob.Mode.MARIANI_SILVER, job.getMode());
+    }
+
+    @Test
+    public void testAutoIterations() throws IOException {
+        File output = File.createTempFile("mandelbrot", ".png");
+        output.deleteOnExit();
+        RenderJob job = RenderJob.parse(new String[]{"--size", "160x160", "--max-iterations", "auto",
+                "--upper-left", "-0.7440,0.1320", "--lower-right", "-0.7430,0.1310", "--output", output.getPath()});
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        try {
+            job.run(renderer, perturbationRenderer);
+            Assert.assertTrue(job.getLastIterations() > Mandelbrot.MAX_ITERATIONS);
+            Assert.assertTrue((job.getLastSaturation() >= 0.0) && (job.getLastSaturation() < 1.0));
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testParseFractal() {
+        RenderJob job = RenderJob.parse(new String[]{"--fractal", "julia:-0.8,0.156", "--output", "out.png"});
+        Assert.assertEquals("julia:-0.8,0.156", job.getFractal());
+        Assert.assertEquals("mandelbrot", RenderJob.parse(new String[]{"--output", "out.png"}).getFractal());
+    }
+
+    @Test
+    public void testAutoModeFollowsPixelSpacing() {
+        Assert.assertEquals(RenderJob.Mode.TILE, RenderJob.parse(new String[]{"--output", "out.png"}).getMode());
+        RenderJob doubleDouble = RenderJob.parse(new String[]{"--size", "100x100", "--output", "out.png",
+                "--upper-left", "-0.75,0.10000000000000000001", "--lower-right", "-0.74999999999999999999,0.1"});
+        Assert.assertEquals(RenderJob.Mode.DOUBLE_DOUBLE, doubleDouble.getMode());
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, doubleDouble.getPrecision());
+        RenderJob arbitrary = RenderJob.parse(new String[]{"--size", "100x100", "--output", "out.png",
+                "--upper-left", "-0.75,0.1000000000000000000000000000001", "--lower-right", "-0.7499999999999999999999999999999,0.1"});
+        Assert.assertEquals(RenderJob.Mode.PERTURBATION, arbitrary.getMode());
+        RenderJob burningShip = RenderJob.parse(new String[]{"--size", "100x100", "--output", "out.png", "--fractal", "burning-ship",
+                "--upper-left", "-0.75,0.10000000000000000001", "--lower-right", "-0.74999999999999999999,0.1"});
+        Assert.assertEquals(RenderJob.Mode.TILE, burningShip.getMode());
+    }
+
+    @Test
+    public void testStatsRecordPrecision() throws IOException {
+        File output = File.createTempFile("mandelbrot", ".png");
+        output.deleteOnExit();
+        RenderJob job = RenderJob.parse(new String[]{"--size", "40x30", "--output", output.getPath(), "--max-iterations", "200",
+                "--upper-left", "0,1.00000000000000000001", "--lower-right", "0.00000000000000000002,0.99999999999999999999"});
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer();
+        try {
+            job.run(renderer, perturbationRenderer, doubleDoubleRenderer);
+            Assert.assertEquals(Precision.DOUBLE_DOUBLE, job.getLastStats().getPrecision());
+            Assert.assertTrue(job.getLastStats().toJson().contains("\"precision\":\"double_double\",\"precision_digits\":32,"));
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            doubleDoubleRenderer.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPerturbationNeedsMandelbrot() {
+        RenderJob.parse(new String[]{"--mode", "perturbation", "--fractal", "burning-ship", "--output", "out.png"});
+    }
+
+    @Test
+    public void testAntialiasAcrossBands() throws IOException {
+        File output = File.createTempFile("mandelbrot", ".png");
+        output.deleteOnExit();
+        RenderJob job = RenderJob.parse(new String[]{"--size", "90x150", "--antialias", "adaptive",
+                "--upper-left", "-0.80,0.20", "--lower-right", "-0.70,0.10", "--output", output.getPath()});
+        Assert.assertTrue(job.isAntialiased());
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        AdaptiveSupersampler sampler = new AdaptiveSupersampler(renderer.getFunction(), 1);
+        try {
+            job.run(renderer, perturbationRenderer);
+
+            // the whole frame in one piece colors the same as band by band
+            PixelMapper mapper = new PixelMapper(90, 150, new Complex(-0.80, 0.20), new Complex(-0.70, 0.10));
+            IterationBuffer counts = renderer.render(mapper, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+            int[] rgb = new int[90 * 150];
+            sampler.render(mapper, counts, 0, 150, Mandelbrot.MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND,
+                    Palette.spectrum(Mandelbrot.MAX_ITERATIONS), false, rgb, new CancellationToken());
+            BufferedImage image = ImageIO.read(output);
+            for (int j = 0; j < 150; ++j) {
+                for (int i = 0; i < 90; ++i) {
+                    Assert.assertEquals(rgb[j * 90 + i], image.getRGB(i, j) & 0xffffff);
+                }
+            }
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            sampler.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAntialiasNeedsBands() {
+        RenderJob.parse(new String[]{"--antialias", "adaptive", "--store", "counts.bin", "--output", "out.png"});
+    }
+
+    @Test
+    public void testDoubleDoubleMatchesTileAtShallowZoom() throws IOException {
+        File tile = File.createTempFile("mandelbrot", ".png");
+        tile.deleteOnExit();
+        File doubleDouble = File.createTempFile("mandelbrot", ".png");
+        doubleDouble.deleteOnExit();
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer();
+        try {
+            String[] region = {"--size", "120x90", "--upper-left", "-0.7440,0.1320", "--lower-right", "-0.7430,0.1310",
+                    "--max-iterations", "300"};
+            RenderJob.parse(concat(region, "--output", tile.getPath())).run(renderer, perturbationRenderer);
+            RenderJob job = RenderJob.parse(concat(region, "--mode", "double-double", "--output", doubleDouble.getPath()));
+            job.run(renderer, perturbationRenderer, doubleDoubleRenderer);
+
+            BufferedImage expected = ImageIO.read(tile);
+            BufferedImage actual = ImageIO.read(doubleDouble);
+            int numMatching = 0;
+            for (int j = 0; j < 90; ++j) {
+                for (int i = 0; i < 120; ++i) {
+                    if (expected.getRGB(i, j) == actual.getRGB(i, j)) {
+                        ++numMatching;
+                    }
+                }
+            }
+            Assert.assertTrue("matching=" + numMatching, numMatching >= 0.99 * 120 * 90);
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            doubleDoubleRenderer.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleDoubleNeedsRenderer() throws IOException {
+        RenderJob.parse(new String[]{"--mode", "double-double", "--output", "out.png"}).run(new TileRenderer(), null);
+    }
+
+    private static String[] concat(String[] options, String... more) {
+        String[] all = new String[options.length + more.length];
+        System.arraycopy(options, 0, all, 0, options.length);
+        System.arraycopy(more, 0, all, options.length, more.length);
+        return all;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutputRequired() {
+        RenderJob.parse(new String[]{"--size", "320x200"});
+    }
+
+    @Test
+    public void testRunStreamsImage() throws IOException {
+        File output = File.createTempFile("mandelbrot", ".png");
+        output.deleteOnExit();
+        RenderJob job = RenderJob.parse(new String[]{"--size", "150x130", "--output", output.getPath()});
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        try {
+            job.run(renderer, perturbationRenderer);
+
+            BufferedImage image = ImageIO.read(output);
+            Palette palette = Palette.spectrum(Mandelbrot.MAX_ITERATIONS);
+            PixelMapper mapper = new PixelMapper(150, 130);
+            Mandelbrot mandelbrot = new Mandelbrot();
+            for (int i = 0; i < 150; i += 13) {
+                for (int j = 0; j < 130; j += 11) {
+                    int expected = palette.getColor(mandelbrot.getNumIterations(mapper.map(i, j)));
+                    Assert.assertEquals(expected, image.getRGB(i, j) & 0xffffff);
+                }
+            }
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedRunLeavesNoImage() throws IOException {
+        File output = File.createTempFile("mandelbrot", ".png");
+        final TileRenderer tileRenderer = new TileRenderer();
+        Renderer failing = new Renderer() {
+            public void render(PixelMapper mapper, IterationBuffer buffer, int maxIterations, double bound, CancellationToken token) {
+                if (buffer.getY() > 0)
+                    throw new CancellationException("cancelled");
+                tileRenderer.render(mapper, buffer, maxIterations, bound, token);
+            }
+
+            public IterativeFunction getFunction() {
+                return tileRenderer.getFunction();
+            }
+
+            public int getParallelism() {
+                return tileRenderer.getParallelism();
+            }
+
+            public void shutdown() {
+                tileRenderer.shutdown();
+            }
+        };
+        try {
+            RenderJob.parse(new String[]{"--size", "100x200", "--output", output.getPath()}).run(failing, null);
+            Assert.fail("the renderer's failure should propagate");
+        } catch (CancellationException e) {
+            Assert.assertEquals("cancelled", e.getMessage());
+            Assert.assertFalse(output.exists());
+        } finally {
+            failing.shutdown();
+            output.delete();
+        }
+    }
+
+    @Test
+    public void testStoreMatchesBands() throws IOException {
+        File banded = File.createTempFile("mandelbrot", ".png");
+        banded.deleteOnExit();
+        File stored = File.createTempFile("mandelbrot", ".png");
+        stored.deleteOnExit();
+        File store = File.createTempFile("mandelbrot", ".bin");
+        store.deleteOnExit();
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        try {
+            RenderJob.parse(new String[]{"--size", "300x270", "--output", banded.getPath()}).run(renderer, perturbationRenderer);
+            RenderJob job = RenderJob.parse(new String[]{"--size", "300x270", "--output", stored.getPath(), "--store", store.getPath()});
+            Assert.assertEquals(store, job.getStore());
+            job.run(renderer, perturbationRenderer);
+
+            BufferedImage expected = ImageIO.read(banded);
+            BufferedImage actual = ImageIO.read(stored);
+            for (int j = 0; j < 270; ++j) {
+                for (int i = 0; i < 300; ++i) {
+                    Assert.assertEquals(expected.getRGB(i, j), actual.getRGB(i, j));
+                }
+            }
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+        }
+    }
+}
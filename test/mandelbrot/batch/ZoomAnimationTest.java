@@ -0,0 +1,133 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.DoubleDoubleRenderer;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.Palette;
+import mandelbrot.render.PerturbationRenderer;
+import mandelbrot.render.Precision;
+import mandelbrot.render.RenderTelemetry;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * ZoomAnimationTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomAnimationTest {
+    @Test
+    public void testFramesMatchSingleRenders() throws IOException {
+        File directory = newDirectory();
+        ZoomAnimation animation = ZoomAnimation.parse(new String[]{"--frames", "4", "--size", "64x48",
+                "--to-upper-left", "-0.80,0.20", "--to-lower-right", "-0.70,0.10", "--max-iterations", "256",
+                "--encoders", "2", "--output", new File(directory, "zoom-%03d.png").getPath()});
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        RenderTelemetry telemetry = new RenderTelemetry();
+        try {
+            Assert.assertEquals(4, animation.run(renderer, perturbationRenderer, telemetry));
+            Assert.assertEquals(4, telemetry.getFrameCount());
+
+            Palette palette = Palette.spectrum(256);
+            for (int frame = 0; frame < 4; ++frame) {
+                Assert.assertFalse(animation.isDeep(frame));
+                BigComplex[] corners = animation.getPath().getCorners(frame);
+                IterationBuffer counts = renderer.render(new PixelMapper(64, 48, corners[0].toComplex(), corners[1].toComplex()),
+                        256, Mandelbrot.DEFAULT_BOUND);
+                int[] rgb = new int[64];
+                BufferedImage image = ImageIO.read(animation.getFile(frame));
+                for (int j = 0; j < 48; ++j) {
+                    palette.colorRow(counts, j, rgb);
+                    for (int i = 0; i < 64; ++i) {
+                        Assert.assertEquals(rgb[i], image.getRGB(i, j) & 0xffffff);
+                    }
+                }
+            }
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testResumeAndDeepFrames() throws IOException {
+        File directory = newDirectory();
+        ZoomAnimation animation = ZoomAnimation.parse(new String[]{"--frames", "3", "--size", "32x24",
+                "--from-upper-left", "-0.75,0.15", "--from-lower-right", "-0.73,0.13",
+                "--to-upper-left", "-0.74364388703715904,0.13182590420532240",
+                "--to-lower-right", "-0.74364388703715806,0.13182590420532142",
+                "--easing", "smooth", "--resume", "--output", new File(directory, "deep-%d.png").getPath()});
+        Assert.assertFalse(animation.isDeep(0));
+        Assert.assertTrue(animation.isDeep(2));
+        Assert.assertEquals(Precision.DOUBLE, animation.getPrecision(0));
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, animation.getPrecision(2));
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer();
+        RenderTelemetry telemetry = new RenderTelemetry();
+        try {
+            Assert.assertEquals(3, animation.run(renderer, doubleDoubleRenderer, perturbationRenderer, telemetry));
+            Assert.assertEquals("DOUBLE_DOUBLE", telemetry.getLastPrecision());
+            Assert.assertTrue(animation.getFile(1).delete());
+            Assert.assertEquals(1, animation.run(renderer, perturbationRenderer, null));
+            for (int frame = 0; frame < 3; ++frame) {
+                BufferedImage image = ImageIO.read(animation.getFile(frame));
+                Assert.assertEquals(32, image.getWidth());
+                Assert.assertEquals(24, image.getHeight());
+            }
+            Assert.assertEquals(3, directory.list().length);
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            doubleDoubleRenderer.shutdown();
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testFailedFrameLeavesNoTemporary() throws IOException {
+        File directory = newDirectory();
+        ZoomAnimation animation = ZoomAnimation.parse(new String[]{"--frames", "1", "--size", "16x12",
+                "--to-upper-left", "-2,1.5", "--to-lower-right", "1,-1.5", "--max-iterations", "64",
+                "--output", new File(directory, "blocked-%d.png").getPath()});
+        // a non-empty directory in place of the frame cannot be replaced by the rename
+        File blocked = animation.getFile(0);
+        Assert.assertTrue(blocked.mkdir() && new File(blocked, "keep").createNewFile());
+        TileRenderer renderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer();
+        try {
+            animation.run(renderer, perturbationRenderer, null);
+            Assert.fail("frame over a directory should not be written");
+        } catch (IOException e) {
+            Assert.assertFalse(new File(blocked.getPath() + ".tmp").exists());
+        } finally {
+            renderer.shutdown();
+            perturbationRenderer.shutdown();
+            delete(blocked);
+            delete(directory);
+        }
+    }
+
+    private static File newDirectory() throws IOException {
+        File directory = File.createTempFile("zoom", "");
+        Assert.assertTrue(directory.delete() && directory.mkdir());
+        return directory;
+    }
+
+    private static void delete(File directory) {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+}
@@ -0,0 +1,79 @@
+package mandelbrot.batch;
+
+import mandelbrot.model.BigComplex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * ZoomPathTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomPathTest {
+    private static final BigComplex START_UL = RenderJob.parseComplex("-2,2");
+    private static final BigComplex START_LR = RenderJob.parseComplex("2,-2");
+    private static final BigComplex END_UL = RenderJob.parseComplex("-0.7445,0.1325");
+    private static final BigComplex END_LR = RenderJob.parseComplex("-0.7425,0.1305");
+
+    @Test
+    public void testEndsAtGivenRegions() {
+        ZoomPath path = new ZoomPath(START_UL, START_LR, END_UL, END_LR, 10, ZoomPath.Easing.LINEAR);
+        assertCorner(START_UL, path.getCorners(0)[0]);
+        assertCorner(START_LR, path.getCorners(0)[1]);
+        assertCorner(END_UL, path.getCorners(9)[0]);
+        assertCorner(END_LR, path.getCorners(9)[1]);
+    }
+
+    @Test
+    public void testGeometricExtent() {
+        ZoomPath path = new ZoomPath(START_UL, START_LR, END_UL, END_LR, 10, ZoomPath.Easing.LINEAR);
+        double ratio = path.getReExtent(1) / path.getReExtent(0);
+        for (int frame = 1; frame < 10; ++frame) {
+            Assert.assertEquals(ratio, path.getReExtent(frame) / path.getReExtent(frame - 1), 1.0e-9);
+            Assert.assertEquals(ratio, path.getImExtent(frame) / path.getImExtent(frame - 1), 1.0e-9);
+        }
+    }
+
+    @Test
+    public void testFixedPointStaysOnScreen() {
+        ZoomPath path = new ZoomPath(START_UL, START_LR, END_UL, END_LR, 10, ZoomPath.Easing.SMOOTH);
+        // the point at the same share of the first and last frames
+        double[] first = bounds(path, 0);
+        double[] last = bounds(path, 9);
+        double shareRe = (last[0] - first[0]) / ((first[1] - first[0]) - (last[1] - last[0]));
+        double shareIm = (last[2] - first[2]) / ((first[3] - first[2]) - (last[3] - last[2]));
+        double fixedRe = first[0] + shareRe * (first[1] - first[0]);
+        double fixedIm = first[2] + shareIm * (first[3] - first[2]);
+        Assert.assertEquals(path.getEndCenter().getRe().doubleValue(), fixedRe, 1.0e-3);
+        for (int frame = 1; frame < 9; ++frame) {
+            double[] corners = bounds(path, frame);
+            Assert.assertEquals(shareRe, (fixedRe - corners[0]) / (corners[1] - corners[0]), 1.0e-9);
+            Assert.assertEquals(shareIm, (fixedIm - corners[2]) / (corners[3] - corners[2]), 1.0e-9);
+        }
+    }
+
+    @Test
+    public void testSmoothEasing() {
+        Assert.assertEquals(0.0, ZoomPath.Easing.SMOOTH.apply(0.0), 0.0);
+        Assert.assertEquals(0.5, ZoomPath.Easing.SMOOTH.apply(0.5), 0.0);
+        Assert.assertEquals(1.0, ZoomPath.Easing.SMOOTH.apply(1.0), 0.0);
+        Assert.assertEquals(1.0, ZoomPath.Easing.SMOOTH.apply(0.2) + ZoomPath.Easing.SMOOTH.apply(0.8), 1.0e-12);
+        Assert.assertTrue(ZoomPath.Easing.SMOOTH.apply(0.1) < ZoomPath.Easing.LINEAR.apply(0.1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOrientationMustMatch() {
+        new ZoomPath(START_UL, START_LR, END_LR, END_UL, 10, ZoomPath.Easing.LINEAR);
+    }
+
+    private static double[] bounds(ZoomPath path, int frame) {
+        BigComplex[] corners = path.getCorners(frame);
+        return new double[]{corners[0].getRe().doubleValue(), corners[1].getRe().doubleValue(),
+                corners[0].getIm().doubleValue(), corners[1].getIm().doubleValue()};
+    }
+
+    private static void assertCorner(BigComplex expected, BigComplex actual) {
+        Assert.assertEquals(expected.getRe().doubleValue(), actual.getRe().doubleValue(), 1.0e-12);
+        Assert.assertEquals(expected.getIm().doubleValue(), actual.getIm().doubleValue(), 1.0e-12);
+    }
+}
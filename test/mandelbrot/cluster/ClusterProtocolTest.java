@@ -0,0 +1,47 @@
+package mandelbrot.cluster;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * ClusterProtocolTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ClusterProtocolTest {
+    @Test
+    public void testCountsRoundTrip() throws IOException {
+        int[] counts = new int[]{0, 0, 0, 5, 127, 128, 16384, Integer.MAX_VALUE, 7, 7, -1, 3};
+        byte[] bytes = write(counts);
+        int[] decoded = new int[counts.length];
+        ClusterProtocol.readCounts(new DataInputStream(new ByteArrayInputStream(bytes)), decoded, decoded.length);
+        Assert.assertArrayEquals(counts, decoded);
+    }
+
+    @Test
+    public void testRunsAreCompact() throws IOException {
+        int[] counts = new int[64 * 64];
+        java.util.Arrays.fill(counts, 1000);
+        Assert.assertEquals(4, write(counts).length);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRunPastEnd() throws IOException {
+        byte[] bytes = write(new int[]{9, 9, 9, 9});
+        ClusterProtocol.readCounts(new DataInputStream(new ByteArrayInputStream(bytes)), new int[3], 3);
+    }
+
+    private static byte[] write(int[] counts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        ClusterProtocol.writeCounts(out, counts, counts.length);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
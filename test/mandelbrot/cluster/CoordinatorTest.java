@@ -0,0 +1,168 @@
+package mandelbrot.cluster;
+
+import mandelbrot.model.Kernels;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.CancellationToken;
+import mandelbrot.render.FrameStats;
+import mandelbrot.render.IterationBuffer;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * CoordinatorTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class CoordinatorTest {
+    private static final PixelMapper MAPPER = new PixelMapper(200, 150);
+
+    @Test
+    public void testWorkersMatchTileRenderer() throws Exception {
+        Coordinator coordinator = new Coordinator(0, 32);
+        ClusterWorker first = startWorker(coordinator, 2);
+        ClusterWorker second = startWorker(coordinator, 1);
+        try {
+            Assert.assertTrue(coordinator.awaitWorkers(2, 5000L));
+            Assert.assertEquals(3, coordinator.getParallelism());
+            ClusterRenderer renderer = new ClusterRenderer(coordinator, "julia:-0.8,0.156");
+            CancellationToken token = new CancellationToken();
+            token.setStats(new FrameStats("cluster"));
+            IterationBuffer buffer = new IterationBuffer(10, 20, 150, 100);
+            renderer.render(MAPPER, buffer, 300, Mandelbrot.DEFAULT_BOUND, token);
+
+            Assert.assertArrayEquals(reference("julia:-0.8,0.156", buffer, 300), buffer.getCounts());
+            Assert.assertEquals(5 * 4, token.getStats().getTiles());
+            Assert.assertEquals(20, coordinator.getDispatchedTiles());
+        } finally {
+            first.close();
+            second.close();
+            coordinator.close();
+        }
+    }
+
+    @Test
+    public void testLostWorkerTilesAreRedispatched() throws Exception {
+        Coordinator coordinator = new Coordinator(0, 50);
+        // speaks the protocol, takes tiles and dies without answering
+        Socket dying = new Socket("localhost", coordinator.getPort());
+        DataOutputStream out = new DataOutputStream(dying.getOutputStream());
+        out.writeInt(ClusterProtocol.MAGIC);
+        out.writeInt(ClusterProtocol.VERSION);
+        out.writeInt(1);
+        out.writeInt(2);
+        out.flush();
+        ClusterWorker worker = null;
+        try {
+            Assert.assertTrue(coordinator.awaitWorkers(1, 5000L));
+            final IterationBuffer buffer = new IterationBuffer(200, 150);
+            final ClusterRenderer renderer = new ClusterRenderer(coordinator, Kernels.DEFAULT_FRACTAL);
+            Thread render = new Thread(new Runnable() {
+                public void run() {
+                    renderer.render(MAPPER, buffer, 500, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+                }
+            });
+            render.start();
+            Assert.assertEquals(ClusterProtocol.TILE, new DataInputStream(dying.getInputStream()).readByte());
+            dying.close();
+            worker = startWorker(coordinator, 2);
+            render.join(10000L);
+
+            Assert.assertFalse(render.isAlive());
+            Assert.assertArrayEquals(reference(Kernels.DEFAULT_FRACTAL, buffer, 500), buffer.getCounts());
+            Assert.assertTrue(coordinator.getRedispatchedTiles() >= 1);
+            Assert.assertEquals(1, coordinator.getLostWorkers());
+        } finally {
+            if (worker != null) {
+                worker.close();
+            }
+            coordinator.close();
+        }
+    }
+
+    @Test
+    public void testSilentWorkerTilesAreRedispatched() throws Exception {
+        Coordinator coordinator = new Coordinator(0, 50);
+        coordinator.setTileTimeoutMillis(1000L);
+        // speaks the protocol, takes tiles and never answers, as a hung machine would
+        Socket silent = new Socket("localhost", coordinator.getPort());
+        DataOutputStream out = new DataOutputStream(silent.getOutputStream());
+        out.writeInt(ClusterProtocol.MAGIC);
+        out.writeInt(ClusterProtocol.VERSION);
+        out.writeInt(1);
+        out.writeInt(2);
+        out.flush();
+        ClusterWorker worker = null;
+        try {
+            Assert.assertTrue(coordinator.awaitWorkers(1, 5000L));
+            worker = startWorker(coordinator, 2);
+            Assert.assertTrue(coordinator.awaitWorkers(2, 5000L));
+            IterationBuffer buffer = new IterationBuffer(200, 150);
+            new ClusterRenderer(coordinator, Kernels.DEFAULT_FRACTAL).render(MAPPER, buffer, 500,
+                    Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+
+            Assert.assertArrayEquals(reference(Kernels.DEFAULT_FRACTAL, buffer, 500), buffer.getCounts());
+            Assert.assertTrue(coordinator.getRedispatchedTiles() >= 1);
+            Assert.assertEquals(1, coordinator.getLostWorkers());
+            Assert.assertEquals(1, coordinator.getWorkers());
+        } finally {
+            silent.close();
+            if (worker != null) {
+                worker.close();
+            }
+            coordinator.close();
+        }
+    }
+
+    @Test
+    public void testLocalWorkerProcess() throws Exception {
+        Coordinator coordinator = new Coordinator(0, 64);
+        try {
+            coordinator.startLocalWorkers(1, 2);
+            Assert.assertTrue(coordinator.awaitWorkers(1, 20000L));
+            IterationBuffer buffer = new IterationBuffer(200, 150);
+            new ClusterRenderer(coordinator, "burning-ship").render(MAPPER, buffer, 200, Mandelbrot.DEFAULT_BOUND,
+                    new CancellationToken());
+            Assert.assertArrayEquals(reference("burning-ship", buffer, 200), buffer.getCounts());
+        } finally {
+            coordinator.close();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNoWorkersTimesOut() throws IOException {
+        Coordinator coordinator = new Coordinator(0, 64);
+        try {
+            coordinator.setWorkerTimeoutMillis(300L);
+            coordinator.render(Kernels.DEFAULT_FRACTAL, MAPPER, new IterationBuffer(200, 150), 100,
+                    Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+        } finally {
+            coordinator.close();
+        }
+    }
+
+    private static ClusterWorker startWorker(Coordinator coordinator, int threads) {
+        ClusterWorker worker = new ClusterWorker("localhost", coordinator.getPort(), threads);
+        Thread thread = new Thread(worker);
+        thread.setDaemon(true);
+        thread.start();
+        return worker;
+    }
+
+    private static int[] reference(String fractal, IterationBuffer buffer, int maxIterations) {
+        TileRenderer renderer = new TileRenderer(Kernels.forName(fractal), 1, TileRenderer.DEFAULT_TILE_SIZE);
+        try {
+            IterationBuffer expected = new IterationBuffer(buffer.getX(), buffer.getY(), buffer.getWidth(), buffer.getHeight());
+            renderer.render(MAPPER, expected, maxIterations, Mandelbrot.DEFAULT_BOUND);
+            return expected.getCounts();
+        } finally {
+            renderer.shutdown();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * ComplexTest
@@ -15,7 +16,35 @@ public class BigComplexTest {
     public void testMagnitude() {
         BigComplex x = new BigComplex(new BigDecimal(4.0), new BigDecimal(4.0));
         double expected = 4.0 * Math.sqrt(2.0);
-        Assert.assertEquals(new BigDecimal(expected), x.magnitude());
+        Assert.assertEquals(new BigDecimal(expected).setScale(x.getScale(), RoundingMode.HALF_EVEN), x.magnitude());
+    }
+
+    @Test
+    public void testMagnitudeKeepsPrecision() {
+        BigComplex x = new BigComplex(BigDecimal.ONE, BigDecimal.ONE, 40);
+        BigDecimal expected = new BigDecimal("1.4142135623730950488016887242096980785697");
+        Assert.assertEquals(0, expected.setScale(40, RoundingMode.HALF_EVEN).compareTo(x.magnitude()));
+    }
+
+    @Test
+    public void testIsOutside() {
+        BigComplex x = new BigComplex(new BigDecimal("1.2"), new BigDecimal("1.6"), 30);
+        Assert.assertTrue(x.isOutside(new BigDecimal("2")));
+        Assert.assertFalse(x.isOutside(new BigDecimal("2.0000000000000000000000001")));
+    }
+
+    @Test
+    public void testSquare() {
+        BigComplex x = new BigComplex(new BigDecimal("1.25"), new BigDecimal("-0.5"), 20);
+        Assert.assertEquals(x.mul(x), x.square());
+    }
+
+    @Test
+    public void testScaleIsPreserved() {
+        BigComplex x = new BigComplex(new BigDecimal("1E-30"), BigDecimal.ONE, 40);
+        BigComplex y = x.mul(x).add(x);
+        Assert.assertEquals(40, y.getScale());
+        Assert.assertEquals(0, new BigDecimal("2E-30").compareTo(y.getIm().subtract(BigDecimal.ONE)));
     }
 
     @Test
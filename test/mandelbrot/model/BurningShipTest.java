@@ -0,0 +1,52 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * BurningShipTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class BurningShipTest {
+    @Test
+    public void testMatchesComplexArithmetic() {
+        BurningShip ship = new BurningShip();
+        for (int k = 0; k < 200; ++k) {
+            Complex c = new Complex(-2.0 + 3.0 * k / 200, -2.0 + 2.5 * ((k * 37) % 200) / 200);
+            Assert.assertEquals(reference(c, 100), ship.getNumIterations(c, 100, Mandelbrot.DEFAULT_BOUND));
+        }
+    }
+
+    @Test
+    public void testNotSymmetric() {
+        BurningShip ship = new BurningShip();
+        int numDiffering = 0;
+        for (int k = 0; k < 100; ++k) {
+            double re = -1.9 + 2.4 * k / 100;
+            if (ship.getNumIterations(re, 0.5, 100, Mandelbrot.DEFAULT_BOUND)
+                    != ship.getNumIterations(re, -0.5, 100, Mandelbrot.DEFAULT_BOUND)) {
+                ++numDiffering;
+            }
+        }
+        Assert.assertTrue(numDiffering > 0);
+    }
+
+    @Test
+    public void testInside() {
+        BurningShip ship = new BurningShip();
+        Assert.assertTrue(ship.isInside(new Complex(-0.5, 0.0)));
+        Assert.assertFalse(ship.isInside(new Complex(1.0, 1.0)));
+    }
+
+    private static int reference(Complex c, int maxIterations) {
+        Complex z = c;
+        int n = 0;
+        do {
+            Complex folded = new Complex(Math.abs(z.getRe()), Math.abs(z.getIm()));
+            z = folded.mul(folded).add(c);
+            ++n;
+        } while ((n < maxIterations) && (z.getRe() * z.getRe() + z.getIm() * z.getIm() < 4.0));
+        return n;
+    }
+}
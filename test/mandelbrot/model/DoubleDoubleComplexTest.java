@@ -0,0 +1,63 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * DoubleDoubleComplexTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DoubleDoubleComplexTest {
+    private static final int SCALE = 30;
+
+    private static void assertClose(BigComplex expected, DoubleDoubleComplex actual) {
+        BigComplex difference = expected.sub(actual.toBigComplex(SCALE));
+        BigDecimal tolerance = new BigDecimal("1E-29");
+        Assert.assertTrue(expected + " vs " + actual, difference.getRe().abs().compareTo(tolerance) <= 0);
+        Assert.assertTrue(expected + " vs " + actual, difference.getIm().abs().compareTo(tolerance) <= 0);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        BigComplex x = new BigComplex(new BigDecimal("-0.743643887037158704752191506114774"), new BigDecimal("0.131825904205311970493132056385139"), SCALE);
+        assertClose(x, new DoubleDoubleComplex(x));
+        Assert.assertEquals(new Complex(x.getRe().doubleValue(), x.getIm().doubleValue()), new DoubleDoubleComplex(x).toComplex());
+    }
+
+    @Test
+    public void testSquareMatchesBigComplex() {
+        BigComplex x = new BigComplex(new BigDecimal("1.25"), new BigDecimal("-0.5"), SCALE);
+        assertClose(x.square(), new DoubleDoubleComplex(x).square());
+    }
+
+    @Test
+    public void testArithmeticMatchesBigComplex() {
+        BigComplex x = new BigComplex(new BigDecimal("0.3750000000000000000001"), new BigDecimal("2.5"), SCALE);
+        BigComplex y = new BigComplex(new BigDecimal("-1.5"), new BigDecimal("0.2500000000000000000003"), SCALE);
+        DoubleDoubleComplex a = new DoubleDoubleComplex(x);
+        DoubleDoubleComplex b = new DoubleDoubleComplex(y);
+        assertClose(x.add(y), a.add(b));
+        assertClose(x.sub(y), a.sub(b));
+        assertClose(x.mul(y), a.mul(b));
+        assertClose(x.div(y), a.div(b));
+    }
+
+    @Test
+    public void testMagnitude() {
+        DoubleDoubleComplex z = new DoubleDoubleComplex(3.0, -4.0);
+        Assert.assertEquals(new DoubleDouble(25.0), z.magnitudeSquared());
+        Assert.assertEquals(new DoubleDouble(5.0), z.magnitude());
+        Assert.assertTrue(z.isOutside(5.0));
+        Assert.assertFalse(z.isOutside(5.000001));
+    }
+
+    @Test
+    public void testConjugate() {
+        DoubleDoubleComplex z = new DoubleDoubleComplex(1.5, 2.0);
+        Assert.assertEquals(new DoubleDoubleComplex(1.5, -2.0), z.conjugate());
+        Assert.assertEquals(new DoubleDouble(1.5 * 1.5 + 4.0), z.mul(z.conjugate()).getRe());
+    }
+}
@@ -0,0 +1,78 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * DoubleDoubleTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DoubleDoubleTest {
+    private static final BigDecimal X = new BigDecimal("-0.743643887037158704752191506114774");
+    private static final BigDecimal Y = new BigDecimal("0.131825904205311970493132056385139");
+
+    private static void assertClose(BigDecimal expected, DoubleDouble actual) {
+        BigDecimal error = expected.subtract(actual.toBigDecimal()).abs();
+        Assert.assertTrue(expected + " vs " + actual, error.compareTo(expected.abs().scaleByPowerOfTen(-30)) <= 0);
+    }
+
+    @Test
+    public void testHoldsMoreThanADouble() {
+        DoubleDouble x = DoubleDouble.valueOf(X);
+        Assert.assertEquals(X.doubleValue(), x.getHi(), 0.0);
+        Assert.assertTrue(x.getLo() != 0.0);
+        assertClose(X, x);
+    }
+
+    @Test
+    public void testAddAndSubtract() {
+        DoubleDouble x = DoubleDouble.valueOf(X);
+        DoubleDouble y = DoubleDouble.valueOf(Y);
+        assertClose(X.add(Y), x.add(y));
+        assertClose(X.subtract(Y), x.subtract(y));
+        Assert.assertEquals(0, x.subtract(x).signum());
+        Assert.assertEquals(new DoubleDouble(1.0, 1.0e-20), DoubleDouble.ONE.add(1.0e-20));
+    }
+
+    @Test
+    public void testMultiplyAndSquare() {
+        DoubleDouble x = DoubleDouble.valueOf(X);
+        DoubleDouble y = DoubleDouble.valueOf(Y);
+        assertClose(X.multiply(Y), x.multiply(y));
+        assertClose(X.multiply(X), x.square());
+        assertClose(X.multiply(new BigDecimal(3.0)), x.multiply(3.0));
+    }
+
+    @Test
+    public void testDivide() {
+        DoubleDouble x = DoubleDouble.valueOf(X);
+        DoubleDouble y = DoubleDouble.valueOf(Y);
+        assertClose(X.divide(Y, MathContext.DECIMAL128), x.divide(y));
+        assertClose(BigDecimal.ONE.divide(new BigDecimal(3), MathContext.DECIMAL128), DoubleDouble.ONE.divide(3.0));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivideByZero() {
+        DoubleDouble.ONE.divide(DoubleDouble.ZERO);
+    }
+
+    @Test
+    public void testSqrt() {
+        assertClose(new BigDecimal(2).sqrt(MathContext.DECIMAL128), new DoubleDouble(2.0).sqrt());
+        Assert.assertEquals(DoubleDouble.ZERO, DoubleDouble.ZERO.sqrt());
+    }
+
+    @Test
+    public void testCompareTo() {
+        DoubleDouble one = DoubleDouble.ONE;
+        DoubleDouble slightlyMore = one.add(1.0e-25);
+        Assert.assertTrue(one.compareTo(slightlyMore) < 0);
+        Assert.assertTrue(slightlyMore.compareTo(one) > 0);
+        Assert.assertEquals(0, one.compareTo(new DoubleDouble(1.0)));
+        Assert.assertEquals(slightlyMore, new DoubleDouble(1.0e-25, 1.0));
+    }
+}
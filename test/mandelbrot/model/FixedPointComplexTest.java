@@ -0,0 +1,48 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * FixedPointComplexTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class FixedPointComplexTest {
+    @Test
+    public void testRoundTrip() {
+        BigComplex x = new BigComplex(new BigDecimal("-0.743643887037158704752191506114774"), new BigDecimal("0.131825904205311970493132056385139"), 33);
+        Assert.assertEquals(x, new FixedPointComplex(x).toBigComplex(33));
+    }
+
+    @Test
+    public void testSquareMatchesBigComplex() {
+        BigComplex x = new BigComplex(new BigDecimal("1.25"), new BigDecimal("-0.5"), 30);
+        FixedPointComplex z = new FixedPointComplex(x).square();
+        Assert.assertEquals(x.square(), z.toBigComplex(30));
+    }
+
+    @Test
+    public void testMulAndAdd() {
+        BigComplex x = new BigComplex(new BigDecimal("0.375"), new BigDecimal("2.5"), 30);
+        BigComplex y = new BigComplex(new BigDecimal("-1.5"), new BigDecimal("0.25"), 30);
+        FixedPointComplex z = new FixedPointComplex(x).mul(new FixedPointComplex(y)).add(new FixedPointComplex(y));
+        Assert.assertEquals(x.mul(y).add(y), z.toBigComplex(30));
+    }
+
+    @Test
+    public void testToDouble() {
+        FixedPointComplex z = new FixedPointComplex(new BigComplex(new BigDecimal("-3.5"), new BigDecimal("0.125"), 20));
+        Assert.assertEquals(-3.5, z.getRe(), 0.0);
+        Assert.assertEquals(0.125, z.getIm(), 0.0);
+    }
+
+    @Test
+    public void testIsOutside() {
+        FixedPointComplex z = new FixedPointComplex(new BigComplex(new BigDecimal("1.2"), new BigDecimal("1.6"), 30));
+        Assert.assertTrue(z.isOutside(2.0));
+        Assert.assertFalse(z.isOutside(2.5));
+    }
+}
@@ -0,0 +1,59 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JuliaTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class JuliaTest {
+    @Test
+    public void testUnitCircleAtZero() {
+        Julia julia = new Julia(0.0, 0.0);
+        Assert.assertTrue(julia.isInside(new Complex(0.5, 0.5)));
+        Assert.assertTrue(julia.isInside(new Complex(-0.99, 0.0)));
+        Assert.assertFalse(julia.isInside(new Complex(1.01, 0.0)));
+        // 3 -> 9 escapes after one squaring
+        Assert.assertEquals(1, julia.getNumIterations(new Complex(3.0, 0.0)));
+    }
+
+    @Test
+    public void testConstantMatchesMandelbrot() {
+        Mandelbrot mandelbrot = new Mandelbrot(false, false);
+        for (int k = 0; k < 50; ++k) {
+            double re = -2.0 + 2.5 * k / 50;
+            double im = 0.05 + 1.1 * (k % 7) / 7;
+            Julia julia = new Julia(re, im);
+            Assert.assertEquals(mandelbrot.getNumIterations(re, im, 300, Mandelbrot.DEFAULT_BOUND),
+                    julia.getNumIterations(re, im, 300, Mandelbrot.DEFAULT_BOUND));
+        }
+    }
+
+    @Test
+    public void testRowMatchesSinglePoints() {
+        Julia julia = new Julia(-0.8, 0.156);
+        double[] re = new double[40];
+        double[] im = new double[40];
+        for (int k = 0; k < re.length; ++k) {
+            re[k] = -1.6 + 3.2 * k / re.length;
+            im[k] = 0.3;
+        }
+        int[] counts = new int[re.length + 2];
+        julia.getNumIterations(re, im, re.length, 500, Mandelbrot.DEFAULT_BOUND, counts, 2);
+        for (int k = 0; k < re.length; ++k) {
+            Assert.assertEquals(julia.getNumIterations(re[k], im[k], 500, Mandelbrot.DEFAULT_BOUND), counts[k + 2]);
+        }
+    }
+
+    @Test
+    public void testEscapeFraction() {
+        Julia julia = new Julia(-0.8, 0.156);
+        int count = julia.getNumIterations(1.2, 0.4, 500, Mandelbrot.DEFAULT_BOUND);
+        Assert.assertTrue(count < 500);
+        float fraction = julia.getEscapeFraction(1.2, 0.4, count, Mandelbrot.DEFAULT_BOUND);
+        Assert.assertTrue((fraction >= 0.0f) && (fraction < 1.0f));
+        Assert.assertEquals(0.0f, new Julia(0.0, 0.0).getEscapeFraction(0.5, 0.0, 500, Mandelbrot.DEFAULT_BOUND), 0.0f);
+    }
+}
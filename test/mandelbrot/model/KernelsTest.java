@@ -0,0 +1,94 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * KernelsTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class KernelsTest {
+    @Test
+    public void testScalarKernel() {
+        Mandelbrot kernel = Kernels.mandelbrot(false);
+        Assert.assertEquals(Mandelbrot.class, kernel.getClass());
+    }
+
+    @Test
+    public void testVectorKernelMatchesScalar() {
+        Assume.assumeTrue(Kernels.isVectorAvailable());
+
+        Mandelbrot vector = Kernels.mandelbrot(true);
+        Mandelbrot scalar = new Mandelbrot(false, false);
+        Assert.assertFalse(Mandelbrot.class.equals(vector.getClass()));
+
+        int length = 157;
+        double[] re = new double[length];
+        double[] im = new double[length];
+        int[] expected = new int[length + 3];
+        int[] actual = new int[length + 3];
+        for (int row = 0; row < 120; ++row) {
+            for (int k = 0; k < length; ++k) {
+                re[k] = -2.0 + 2.6 * k / length;
+                im[k] = -1.3 + 2.6 * row / 120;
+            }
+            scalar.getNumIterations(re, im, length, 500, Mandelbrot.DEFAULT_BOUND, expected, 3);
+            vector.getNumIterations(re, im, length, 500, Mandelbrot.DEFAULT_BOUND, actual, 3);
+            Assert.assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testVectorPeriodicityMatchesScalar() {
+        Assume.assumeTrue(Kernels.isVectorAvailable());
+
+        Mandelbrot vector = Kernels.mandelbrot(true, false, true);
+        Mandelbrot scalar = new Mandelbrot(false, true);
+        int length = 64;
+        double[] re = new double[length];
+        double[] im = new double[length];
+        int[] expected = new int[length];
+        int[] actual = new int[length];
+        for (int row = 0; row < 64; ++row) {
+            for (int k = 0; k < length; ++k) {
+                re[k] = -1.8 + 2.2 * k / length;
+                im[k] = 1.1 * row / 64;
+            }
+            scalar.getNumIterations(re, im, length, 5000, Mandelbrot.DEFAULT_BOUND, expected, 0);
+            vector.getNumIterations(re, im, length, 5000, Mandelbrot.DEFAULT_BOUND, actual, 0);
+            Assert.assertArrayEquals(expected, actual);
+        }
+        Assert.assertTrue(scalar.getPeriodicShortcuts() > 0);
+        Assert.assertEquals(scalar.getPeriodicShortcuts(), vector.getPeriodicShortcuts());
+        Assert.assertEquals(scalar.getSkippedIterations(), vector.getSkippedIterations());
+    }
+
+    @Test
+    public void testRowMatchesSinglePoints() {
+        Mandelbrot kernel = Kernels.mandelbrot();
+        double[] re = {-2.0, -0.75, 0.0, 0.3, 0.4, -1.3, 0.25};
+        double[] im = {0.0, 0.1, 0.0, 0.5, 0.6, 0.05, 0.0};
+        int[] counts = new int[re.length];
+        kernel.getNumIterations(re, im, re.length, 200, Mandelbrot.DEFAULT_BOUND, counts, 0);
+        for (int k = 0; k < re.length; ++k) {
+            Assert.assertEquals(new Mandelbrot().getNumIterations(re[k], im[k], 200, Mandelbrot.DEFAULT_BOUND), counts[k]);
+        }
+    }
+
+    @Test
+    public void testForName() {
+        Assert.assertTrue(Kernels.forName("mandelbrot") instanceof Mandelbrot);
+        Assert.assertTrue(Kernels.forName("multibrot:2") instanceof Mandelbrot);
+        Assert.assertEquals(4, ((Multibrot) Kernels.forName("multibrot:4")).getDegree());
+        Assert.assertTrue(Kernels.forName("burning-ship") instanceof BurningShip);
+        Julia julia = (Julia) Kernels.forName("julia:-0.8, 0.156");
+        Assert.assertEquals(new Complex(-0.8, 0.156), julia.getC());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForNameUnknown() {
+        Kernels.forName("julia");
+    }
+}
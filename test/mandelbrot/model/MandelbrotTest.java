@@ -78,5 +78,107 @@ public class MandelbrotTest {
             }
             System.out.println(values);
         }
+        // the tip of the antenna stays on the bailout circle for ever, so it is inside
+        Assert.assertTrue(mandelbrot.isInside(new Complex(-2.0, 0.0)));
+        Assert.assertTrue(mandelbrot.isInside(new Complex(-1.0, 0.0)));
+        Assert.assertTrue(mandelbrot.isInside(new Complex(0.0, 1.0)));
+        Assert.assertFalse(mandelbrot.isInside(new Complex(0.3, 0.0)));
+        Assert.assertFalse(mandelbrot.isInside(new Complex(-2.0, 0.01)));
+    }
+
+    @Test
+    public void testPrimitiveKernelMatchesComplexIteration() {
+        int numPoints = 200;
+        double min = -2.0;
+        double max = 2.0;
+        double step = (max - min) / numPoints;
+        int maxIterations = 200;
+
+        Mandelbrot mandelbrot = new Mandelbrot();
+        for (int i = 0; i <= numPoints; ++i) {
+            for (int j = 0; j <= numPoints; ++j) {
+                Complex z = new Complex(min + i * step, min + j * step);
+                Assert.assertEquals(z.toString(), getNumIterationsWithComplex(z, maxIterations, Mandelbrot.DEFAULT_BOUND),
+                        mandelbrot.getNumIterations(z.getRe(), z.getIm(), maxIterations, Mandelbrot.DEFAULT_BOUND));
+                Assert.assertEquals(z.toString(), isInsideWithComplex(z, maxIterations, Mandelbrot.DEFAULT_BOUND),
+                        mandelbrot.isInside(z.getRe(), z.getIm(), maxIterations, Mandelbrot.DEFAULT_BOUND));
+            }
+        }
+    }
+
+    @Test
+    public void testShortcutsDoNotChangeCounts() {
+        int numPoints = 150;
+        double min = -2.0;
+        double max = 1.0;
+        double step = (max - min) / numPoints;
+        int maxIterations = 2000;
+
+        Mandelbrot plain = new Mandelbrot(false, false);
+        Mandelbrot shortcuts = new Mandelbrot(true, true);
+        for (int i = 0; i <= numPoints; ++i) {
+            for (int j = 0; j <= numPoints; ++j) {
+                double re = min + i * step;
+                double im = -1.5 + j * step;
+                Assert.assertEquals(plain.getNumIterations(re, im, maxIterations, Mandelbrot.DEFAULT_BOUND),
+                        shortcuts.getNumIterations(re, im, maxIterations, Mandelbrot.DEFAULT_BOUND));
+                Assert.assertEquals(plain.isInside(re, im, maxIterations, Mandelbrot.DEFAULT_BOUND),
+                        shortcuts.isInside(re, im, maxIterations, Mandelbrot.DEFAULT_BOUND));
+            }
+        }
+    }
+
+    @Test
+    public void testMainCardioidAndBulb() {
+        Assert.assertTrue(Mandelbrot.isInMainCardioidOrBulb(0.0, 0.0));
+        Assert.assertTrue(Mandelbrot.isInMainCardioidOrBulb(-1.0, 0.0));
+        Assert.assertTrue(Mandelbrot.isInMainCardioidOrBulb(0.2, 0.5));
+        Assert.assertFalse(Mandelbrot.isInMainCardioidOrBulb(0.3, 0.0));
+        Assert.assertFalse(Mandelbrot.isInMainCardioidOrBulb(-0.12, 0.75));
+        Assert.assertFalse(Mandelbrot.isInMainCardioidOrBulb(-1.3, 0.0));
+    }
+
+    private static int getNumIterationsWithComplex(Complex z0, int maxIterations, double bound) {
+        int numIterations = 0;
+        Complex znext = new Complex(z0);
+        do {
+            znext = znext.mul(znext).add(z0);
+            ++numIterations;
+        } while ((numIterations < maxIterations) && (znext.magnitude() < bound));
+        return numIterations;
+    }
+
+    private static boolean isInsideWithComplex(Complex z0, int maxIterations, double bound) {
+        Complex z = new Complex(z0);
+        for (int i = 0; i < maxIterations; ++i) {
+            if (z.magnitude() > bound) {
+                return false;
+            }
+            z = z.mul(z).add(z0);
+        }
+        return true;
+    }
+
+    @Test
+    public void testEscapeFractionIsContinuous() {
+        Mandelbrot mandelbrot = new Mandelbrot();
+        double previous = -1.0;
+        for (double re = 0.45; re < 1.0; re += 1.0e-5) {
+            int numIterations = mandelbrot.getNumIterations(re, 0.1, 1000, 2.0);
+            Assert.assertTrue(numIterations < 1000);
+            float fraction = mandelbrot.getEscapeFraction(re, 0.1, numIterations, 2.0);
+            Assert.assertTrue((fraction >= 0.0f) && (fraction < 1.0f));
+            double smooth = numIterations + fraction;
+            if (previous >= 0.0) {
+                Assert.assertEquals("re=" + re, previous, smooth, 0.1);
+            }
+            previous = smooth;
+        }
+    }
+
+    @Test
+    public void testEscapeFractionInside() {
+        Mandelbrot mandelbrot = new Mandelbrot();
+        Assert.assertEquals(0.0f, mandelbrot.getEscapeFraction(-0.1, 0.1, 100, 2.0), 0.0f);
     }
 }
@@ -0,0 +1,96 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * MultibrotTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class MultibrotTest {
+    private static final double TOLERANCE = 1.0e-9;
+
+    @Test
+    public void testForDegree() {
+        Assert.assertEquals(Multibrot.Cubic.class, Multibrot.forDegree(3).getClass());
+        Assert.assertEquals(Multibrot.Quartic.class, Multibrot.forDegree(4).getClass());
+        Assert.assertEquals(Multibrot.General.class, Multibrot.forDegree(5).getClass());
+        Assert.assertEquals(5, Multibrot.forDegree(5).getDegree());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDegreeTooSmall() {
+        Multibrot.forDegree(1);
+    }
+
+    @Test
+    public void testUnrolledMatchesGeneral() {
+        for (int degree = 3; degree <= 4; ++degree) {
+            Multibrot unrolled = Multibrot.forDegree(degree);
+            Multibrot general = new Multibrot.General(degree);
+            int numDiffering = 0;
+            for (int j = 0; j < 60; ++j) {
+                for (int i = 0; i < 60; ++i) {
+                    double re = -1.5 + 3.0 * i / 60;
+                    double im = -1.5 + 3.0 * j / 60;
+                    if (unrolled.getNumIterations(re, im, 200, Mandelbrot.DEFAULT_BOUND)
+                            != general.getNumIterations(re, im, 200, Mandelbrot.DEFAULT_BOUND)) {
+                        ++numDiffering;
+                    }
+                }
+            }
+            // the multiplies are rounded in a different order, which only matters on the boundary
+            Assert.assertTrue("degree " + degree + " differing=" + numDiffering, numDiffering <= 36);
+        }
+    }
+
+    @Test
+    public void testGeneralDegreeTwoMatchesMandelbrot() {
+        Mandelbrot mandelbrot = new Mandelbrot(false, false);
+        Multibrot general = new Multibrot.General(2);
+        for (int k = 0; k < 100; ++k) {
+            double re = -2.0 + 2.5 * k / 100;
+            double im = 0.7 * Math.sin(k);
+            Assert.assertEquals(mandelbrot.getNumIterations(re, im, 300, Mandelbrot.DEFAULT_BOUND),
+                    general.getNumIterations(re, im, 300, Mandelbrot.DEFAULT_BOUND));
+        }
+    }
+
+    @Test
+    public void testOneStepAgainstComplex() {
+        Complex c = new Complex(0.3, -0.7);
+        for (int degree = 3; degree <= 6; ++degree) {
+            Complex expected = c;
+            for (int n = 1; n < degree; ++n) {
+                expected = expected.mul(c);
+            }
+            expected = expected.add(c);
+            double magnitude2 = Multibrot.forDegree(degree).getMagnitude2(c.getRe(), c.getIm(), 1);
+            Assert.assertEquals(expected.getRe() * expected.getRe() + expected.getIm() * expected.getIm(), magnitude2, TOLERANCE);
+        }
+    }
+
+    @Test
+    public void testEscapeFractionWithinBand() {
+        for (int degree = 3; degree <= 5; ++degree) {
+            Multibrot multibrot = Multibrot.forDegree(degree);
+            int count = multibrot.getNumIterations(0.9, 0.6, 200, Mandelbrot.DEFAULT_BOUND);
+            Assert.assertTrue(count < 200);
+            float fraction = multibrot.getEscapeFraction(0.9, 0.6, count, Mandelbrot.DEFAULT_BOUND);
+            Assert.assertTrue((fraction >= 0.0f) && (fraction < 1.0f));
+        }
+    }
+
+    @Test
+    public void testRowMatchesSinglePoints() {
+        Multibrot multibrot = Multibrot.forDegree(3);
+        double[] re = {-1.0, 0.0, 0.4, 0.6, -0.2, 1.5};
+        double[] im = {0.0, 0.0, 0.5, 0.1, 0.9, 1.5};
+        int[] counts = new int[re.length];
+        multibrot.getNumIterations(re, im, re.length, 100, Mandelbrot.DEFAULT_BOUND, counts, 0);
+        for (int k = 0; k < re.length; ++k) {
+            Assert.assertEquals(multibrot.getNumIterations(re[k], im[k], 100, Mandelbrot.DEFAULT_BOUND), counts[k]);
+        }
+    }
+}
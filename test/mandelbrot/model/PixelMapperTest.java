@@ -28,6 +28,50 @@ public class PixelMapperTest {
         Assert.assertEquals(expected.trim(), baos.toString().trim());
     }
 
+    @Test
+    public void testAffineFormMatchesBilinear() {
+        Complex upperLeft = new Complex(-0.7436, 0.1319);
+        Complex lowerRight = new Complex(-0.7435, 0.1318);
+        Complex upperRight = new Complex(lowerRight.getRe(), upperLeft.getIm());
+        Complex lowerLeft = new Complex(upperLeft.getRe(), lowerRight.getIm());
+        int width = 640;
+        int height = 480;
+        PixelMapper mapper = new PixelMapper(width, height, upperLeft, lowerRight);
+        double[] re = new double[width];
+        double[] im = new double[width];
+        for (int j = 0; j <= height; j += 16) {
+            mapper.mapRow(0, j, width, re, im);
+            for (int i = 0; i < width; ++i) {
+                double u = (double) i / width;
+                double v = (double) j / height;
+                Complex expected = new Complex()
+                        .add(new Complex(upperLeft).mul(1 - u).mul(1 - v))
+                        .add(new Complex(upperRight).mul(1 - u).mul(v))
+                        .add(new Complex(lowerLeft).mul(u).mul(1 - v))
+                        .add(new Complex(lowerRight).mul(u).mul(v));
+                Assert.assertEquals(expected.getRe(), re[i], 1.0e-15);
+                Assert.assertEquals(expected.getIm(), im[i], 1.0e-15);
+                Assert.assertEquals(re[i], mapper.map(i, j).getRe(), 0.0);
+                Assert.assertEquals(im[i], mapper.map(i, j).getIm(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testRotate() {
+        PixelMapper mapper = new PixelMapper(200, 100, new Complex(-1.0, 0.5), new Complex(1.0, -0.5));
+        Complex center = mapper.map(100, 50);
+        PixelMapper rotated = mapper.rotate(Math.PI / 2.0);
+        Assert.assertEquals(center.getRe(), rotated.map(100, 50).getRe(), 1.0e-12);
+        Assert.assertEquals(center.getIm(), rotated.map(100, 50).getIm(), 1.0e-12);
+
+        Complex xStep = mapper.getXStep();
+        Complex rotatedXStep = rotated.getXStep();
+        Assert.assertEquals(-xStep.getIm(), rotatedXStep.getRe(), 1.0e-15);
+        Assert.assertEquals(xStep.getRe(), rotatedXStep.getIm(), 1.0e-15);
+        Assert.assertEquals(mapper.getXStep().magnitude(), rotatedXStep.magnitude(), 1.0e-15);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testNullUpperLeft() {
         new PixelMapper(400, 600, null, new Complex(4.0, 2.0));
@@ -0,0 +1,38 @@
+package mandelbrot.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * ReferenceOrbitTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ReferenceOrbitTest {
+    @Test
+    public void testEscapeCountMatchesMandelbrot() {
+        Mandelbrot mandelbrot = new Mandelbrot();
+        double[][] points = {{0.5, 0.1}, {4.0, 2.0}, {0.0, 0.0}, {-0.75, 0.1}, {0.25, 0.5}};
+        for (double[] point : points) {
+            BigComplex c = new BigComplex(new BigDecimal(point[0]), new BigDecimal(point[1]), 40);
+            ReferenceOrbit orbit = new ReferenceOrbit(c, 200, 2.0);
+            Assert.assertEquals(mandelbrot.getNumIterations(point[0], point[1], 200, 2.0), orbit.getNumIterations());
+        }
+    }
+
+    @Test
+    public void testZeroDeltaFollowsReference() {
+        BigComplex c = new BigComplex(new BigDecimal("-0.75"), new BigDecimal("0.1"), 40);
+        ReferenceOrbit orbit = new ReferenceOrbit(c, 500, 2.0);
+        Assert.assertEquals(orbit.getNumIterations(), orbit.getNumIterations(0.0, 0.0, 500, 2.0, 0.0));
+    }
+
+    @Test
+    public void testPointOutlivingReferenceIsGlitched() {
+        BigComplex c = new BigComplex(new BigDecimal("0.3"), BigDecimal.ZERO, 40);
+        ReferenceOrbit orbit = new ReferenceOrbit(c, 100, 2.0);
+        Assert.assertEquals(-1, orbit.getNumIterations(-0.3, 0.0, 100, 2.0, 0.0));
+    }
+}
@@ -0,0 +1,103 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * AdaptiveSupersamplerTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class AdaptiveSupersamplerTest {
+    private static final int MAX_ITERATIONS = 256;
+
+    @Test
+    public void testBayerOrder() {
+        int[][] expected = {{0, 8, 2, 10}, {12, 4, 14, 6}, {3, 11, 1, 9}, {15, 7, 13, 5}};
+        for (int b = 0; b < 4; ++b) {
+            for (int a = 0; a < 4; ++a) {
+                Assert.assertEquals(expected[b][a], AdaptiveSupersampler.bayer(a, b, 4));
+            }
+        }
+    }
+
+    @Test
+    public void testCloseToFullSupersampling() {
+        PixelMapper mapper = new PixelMapper(160, 120, new Complex(-0.80, 0.20), new Complex(-0.70, 0.10));
+        Mandelbrot mandelbrot = new Mandelbrot();
+        Palette palette = Palette.spectrum(MAX_ITERATIONS);
+        TileRenderer renderer = new TileRenderer(mandelbrot, 2, 32);
+        AdaptiveSupersampler sampler = new AdaptiveSupersampler(mandelbrot, 2);
+        try {
+            IterationBuffer counts = renderer.render(mapper, MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+            int[] rgb = new int[160 * 120];
+            sampler.render(mapper, counts, 0, 120, MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND, palette, false, rgb,
+                    new CancellationToken());
+
+            long aliasedError = 0;
+            long error = 0;
+            for (int j = 0; j < 120; ++j) {
+                for (int i = 0; i < 160; ++i) {
+                    int full = supersample(mandelbrot, mapper, palette, i, j);
+                    error += difference(full, rgb[j * 160 + i]);
+                    aliasedError += difference(full, palette.getColor(counts.get(i, j)));
+                }
+            }
+            Assert.assertTrue(sampler.getEdgePixels() > 0);
+            Assert.assertTrue(sampler.getSamples() < 16L * 160 * 120 / 4);
+            Assert.assertTrue(4 * error < aliasedError);
+        } finally {
+            renderer.shutdown();
+            sampler.shutdown();
+        }
+    }
+
+    @Test
+    public void testFlatRegionIsNotSampled() {
+        PixelMapper mapper = new PixelMapper(64, 64, new Complex(-0.2, 0.2), new Complex(0.2, -0.2));
+        Mandelbrot mandelbrot = new Mandelbrot();
+        Palette palette = Palette.spectrum(MAX_ITERATIONS);
+        TileRenderer renderer = new TileRenderer(mandelbrot, 1, 32);
+        AdaptiveSupersampler sampler = new AdaptiveSupersampler(mandelbrot, 1);
+        try {
+            IterationBuffer counts = renderer.render(mapper, MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND);
+            int[] rgb = new int[64 * 10];
+            sampler.render(mapper, counts, 20, 10, MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND, palette, false, rgb,
+                    new CancellationToken());
+            Assert.assertEquals(0, sampler.getEdgePixels());
+            Assert.assertEquals(0, sampler.getSamples());
+            for (int k = 0; k < rgb.length; ++k) {
+                Assert.assertEquals(palette.getColor(MAX_ITERATIONS), rgb[k]);
+            }
+        } finally {
+            renderer.shutdown();
+            sampler.shutdown();
+        }
+    }
+
+    private static int supersample(Mandelbrot mandelbrot, PixelMapper mapper, Palette palette, int i, int j) {
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        for (int b = 0; b < 4; ++b) {
+            for (int a = 0; a < 4; ++a) {
+                double x = i + (a + 0.5) / 4 - 0.5;
+                double y = j + (b + 0.5) / 4 - 0.5;
+                int color = palette.getColor(mandelbrot.getNumIterations(mapper.getRe(x, y), mapper.getIm(x, y),
+                        MAX_ITERATIONS, Mandelbrot.DEFAULT_BOUND));
+                red += (color >> 16) & 0xff;
+                green += (color >> 8) & 0xff;
+                blue += color & 0xff;
+            }
+        }
+        return (((red + 8) / 16) << 16) | (((green + 8) / 16) << 8) | ((blue + 8) / 16);
+    }
+
+    private static int difference(int a, int b) {
+        return Math.abs(((a >> 16) & 0xff) - ((b >> 16) & 0xff)) + Math.abs(((a >> 8) & 0xff) - ((b >> 8) & 0xff))
+                + Math.abs((a & 0xff) - (b & 0xff));
+    }
+}
@@ -0,0 +1,119 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.model.DoubleDoubleComplex;
+import mandelbrot.model.DoubleDoubleMandelbrot;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.model.ReferenceOrbit;
+import mandelbrot.model.ShortcutTally;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * DoubleDoubleRendererTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DoubleDoubleRendererTest {
+    @Test
+    public void testKernelMatchesDoubleKernel() {
+        Mandelbrot mandelbrot = new Mandelbrot(false, false);
+        DoubleDoubleMandelbrot doubleDouble = new DoubleDoubleMandelbrot(false);
+        Complex[] points = {new Complex(0.3, 0.5), new Complex(-1.5, 0.01), new Complex(-0.1, 0.9), new Complex(2.0, 2.0)};
+        for (Complex c : points) {
+            Assert.assertEquals(c.toString(), mandelbrot.getNumIterations(c, 1000, 2.0),
+                    doubleDouble.getNumIterations(new DoubleDoubleComplex(c), 1000, 2.0));
+        }
+    }
+
+    @Test
+    public void testPeriodicityStopsInteriorPoints() {
+        DoubleDoubleMandelbrot function = new DoubleDoubleMandelbrot();
+        ShortcutTally tally = ShortcutTally.current();
+        long periodic = tally.getPeriodicShortcuts();
+        long skipped = tally.getSkippedIterations();
+        Assert.assertEquals(100000, function.getNumIterations(new DoubleDoubleComplex(-0.1, 0.1), 100000, 2.0));
+        Assert.assertEquals(1, function.getPeriodicShortcuts());
+        Assert.assertEquals(periodic + 1, tally.getPeriodicShortcuts());
+        Assert.assertTrue(tally.getSkippedIterations() > skipped);
+    }
+
+    @Test
+    public void testFrameStatsCountPeriodicShortcuts() {
+        DoubleDoubleRenderer renderer = new DoubleDoubleRenderer(2, 16);
+        try {
+            CancellationToken token = new CancellationToken();
+            token.setStats(new FrameStats("double-double"));
+            BigPixelMapper mapper = new BigPixelMapper(new PixelMapper(64, 64));
+            renderer.render(mapper, new IterationBuffer(64, 64), 2000, 2.0, token);
+
+            Assert.assertTrue(token.getStats().getPeriodicShortcuts() > 0);
+            Assert.assertEquals(renderer.getFunction().getPeriodicShortcuts(), token.getStats().getPeriodicShortcuts());
+            Assert.assertEquals(0, token.getStats().getInteriorShortcuts());
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchesDoublePrecisionAtShallowZoom() {
+        Complex upperLeft = new Complex(-0.7436, 0.1319);
+        Complex lowerRight = new Complex(-0.7435, 0.1318);
+        int size = 80;
+        int maxIterations = 500;
+
+        TileRenderer tileRenderer = new TileRenderer();
+        DoubleDoubleRenderer doubleDoubleRenderer = new DoubleDoubleRenderer(2, 16);
+        try {
+            IterationBuffer expected = tileRenderer.render(new PixelMapper(size, size, upperLeft, lowerRight), maxIterations, 2.0);
+            IterationBuffer actual = doubleDoubleRenderer.render(new BigPixelMapper(new PixelMapper(size, size, upperLeft, lowerRight)),
+                    maxIterations, 2.0);
+
+            int numMatching = 0;
+            for (int k = 0; k < expected.getCounts().length; ++k) {
+                if (expected.getCounts()[k] == actual.getCounts()[k]) {
+                    ++numMatching;
+                }
+            }
+            Assert.assertTrue("matching=" + numMatching, numMatching >= 0.99 * size * size);
+        } finally {
+            tileRenderer.shutdown();
+            doubleDoubleRenderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeepZoomMatchesArbitraryPrecision() {
+        // c = i is a Misiurewicz point, so the boundary has detail around it at every scale
+        BigDecimal re = BigDecimal.ZERO;
+        BigDecimal im = BigDecimal.ONE;
+        BigDecimal radius = new BigDecimal("1E-20");
+        BigComplex upperLeft = new BigComplex(re.subtract(radius), im.add(radius), 40);
+        BigComplex lowerRight = new BigComplex(re.add(radius), im.subtract(radius), 40);
+        BigPixelMapper mapper = new BigPixelMapper(40, 40, upperLeft, lowerRight);
+        int maxIterations = 1000;
+
+        DoubleDoubleRenderer renderer = new DoubleDoubleRenderer(2, 8);
+        try {
+            IterationBuffer buffer = renderer.render(mapper, maxIterations, 2.0);
+            int numDistinct = 0;
+            for (int i = 0; i < 40; i += 7) {
+                for (int j = 0; j < 40; j += 7) {
+                    int expected = new ReferenceOrbit(mapper.map(i, j), maxIterations, 2.0).getNumIterations();
+                    Assert.assertEquals("pixel (" + i + ", " + j + ")", expected, buffer.get(i, j));
+                    if (expected != buffer.get(0, 0)) {
+                        ++numDistinct;
+                    }
+                }
+            }
+            Assert.assertTrue("a double would render one flat color", numDistinct > 0);
+        } finally {
+            renderer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * FrameStatsTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class FrameStatsTest {
+    @Test
+    public void testShortcutsAndIterations() {
+        PixelMapper mapper = new PixelMapper(128, 128);
+        Mandelbrot kernel = new Mandelbrot();
+        TileRenderer renderer = new TileRenderer(kernel, 2, 64);
+        TileRenderer plainRenderer = new TileRenderer(new Mandelbrot(false, false), 2, 64);
+        FrameStats stats;
+        FrameStats plain;
+        try {
+            stats = render(renderer, mapper, 500);
+            plain = render(plainRenderer, mapper, 500);
+        } finally {
+            renderer.shutdown();
+            plainRenderer.shutdown();
+        }
+
+        int numCardioid = 0;
+        for (int j = 0; j < mapper.getHeight(); ++j) {
+            for (int i = 0; i < mapper.getWidth(); ++i) {
+                if (Mandelbrot.isInMainCardioidOrBulb(mapper.getRe(i, j), mapper.getIm(i, j))) {
+                    ++numCardioid;
+                }
+            }
+        }
+        Assert.assertEquals(128 * 128, stats.getPixels());
+        Assert.assertEquals(stats.getPixels(), stats.getInteriorPixels() + stats.getEscapedPixels());
+        Assert.assertEquals(plain.getInteriorPixels(), stats.getInteriorPixels());
+        Assert.assertEquals(numCardioid, stats.getInteriorShortcuts());
+        Assert.assertTrue(stats.getPeriodicShortcuts() > 0);
+        Assert.assertTrue(stats.getShortcutPixels() <= stats.getInteriorPixels());
+        Assert.assertEquals(0, plain.getShortcutPixels());
+        Assert.assertTrue(stats.getIterations() < plain.getIterations() / 2);
+        Assert.assertEquals(4, stats.getTiles());
+        Assert.assertTrue(stats.getUtilization() > 0.0);
+        Assert.assertTrue(stats.getUtilization() <= 1.0);
+        Assert.assertTrue(stats.getPixelsPerSecond() > 0.0);
+    }
+
+    @Test
+    public void testSharedKernelDoesNotLeakBetweenFrames() throws InterruptedException {
+        final Mandelbrot kernel = new Mandelbrot();
+        final TileRenderer background = new TileRenderer(kernel, 2, 32);
+        TileRenderer renderer = new TileRenderer(kernel, 2, 32);
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread other = new Thread() {
+            @Override
+            public void run() {
+                // the whole view is inside the main cardioid, so every pixel is a shortcut
+                PixelMapper inside = new PixelMapper(64, 64, new Complex(-0.2, 0.2), new Complex(0.2, -0.2));
+                while (!done.get()) {
+                    render(background, inside, 500);
+                }
+            }
+        };
+        PixelMapper mapper = new PixelMapper(128, 128);
+        FrameStats alone;
+        FrameStats shared;
+        try {
+            alone = render(renderer, mapper, 500);
+            other.start();
+            shared = render(renderer, mapper, 500);
+        } finally {
+            done.set(true);
+            other.join();
+            renderer.shutdown();
+            background.shutdown();
+        }
+        Assert.assertEquals(alone.getInteriorShortcuts(), shared.getInteriorShortcuts());
+        Assert.assertEquals(alone.getPeriodicShortcuts(), shared.getPeriodicShortcuts());
+        Assert.assertEquals(alone.getIterations(), shared.getIterations());
+    }
+
+    @Test
+    public void testFilledPixelsAreShortcuts() {
+        PixelMapper mapper = new PixelMapper(120, 90, new Complex(-0.3, 0.3), new Complex(0.1, -0.3));
+        MarianiSilverRenderer renderer = new MarianiSilverRenderer(new Mandelbrot(false, false), 2, 6, 32);
+        FrameStats stats;
+        try {
+            stats = render(renderer, mapper, 200);
+        } finally {
+            renderer.shutdown();
+        }
+        Assert.assertTrue(stats.getFillShortcuts() > 0);
+        Assert.assertTrue(stats.getIterations() < stats.getPixels() * 200L);
+        Assert.assertTrue(stats.getTiles() >= 1);
+    }
+
+    @Test
+    public void testTilePercentiles() {
+        FrameStats stats = new FrameStats("test");
+        Assert.assertEquals(0.0, stats.getTileMillis(99.0), 0.0);
+        for (int k = 100; k >= 1; --k) {
+            stats.recordTile(k * 1000000L);
+        }
+        Assert.assertEquals(1.0, stats.getTileMillis(0.0), 0.0);
+        Assert.assertEquals(50.0, stats.getTileMillis(50.0), 0.0);
+        Assert.assertEquals(90.0, stats.getTileMillis(90.0), 0.0);
+        Assert.assertEquals(99.0, stats.getTileMillis(99.0), 0.0);
+        Assert.assertEquals(100.0, stats.getTileMillis(100.0), 0.0);
+    }
+
+    @Test
+    public void testJsonIsOneLine() {
+        FrameStats stats = new FrameStats("out \"1\".png");
+        stats.begin();
+        stats.count(new IterationBuffer(4, 2), 10);
+        stats.end(2);
+        String json = stats.toJson();
+        Assert.assertTrue(json, json.startsWith("{\"frame\":\"out \\\"1\\\".png\","));
+        Assert.assertTrue(json, json.contains("\"precision\":\"double\",\"precision_digits\":16,"));
+        Assert.assertTrue(json, json.contains("\"pixels\":8,"));
+        Assert.assertTrue(json, json.contains("\"escaped\":8,"));
+        Assert.assertTrue(json, json.contains("\"tile_ms_p99\":0.000,"));
+        Assert.assertTrue(json, json.endsWith("}"));
+        Assert.assertEquals(-1, json.indexOf('\n'));
+    }
+
+    @Test
+    public void testTelemetryPublishesToLogAndJmx() throws Exception {
+        StringWriter log = new StringWriter();
+        RenderTelemetry telemetry = new RenderTelemetry(log);
+        telemetry.register();
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 32);
+        try {
+            telemetry.publish(render(renderer, new PixelMapper(64, 64), 100));
+            telemetry.publish(render(renderer, new PixelMapper(32, 32), 100));
+
+            Assert.assertEquals(2, log.toString().split("\n").length);
+            Assert.assertEquals(64 * 64 + 32 * 32, telemetry.getTotalPixels());
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(RenderTelemetry.OBJECT_NAME);
+            Assert.assertEquals(2L, server.getAttribute(name, "FrameCount"));
+            Assert.assertEquals(telemetry.getLastFrame(), server.getAttribute(name, "LastFrame"));
+        } finally {
+            renderer.shutdown();
+            telemetry.unregister();
+        }
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(RenderTelemetry.OBJECT_NAME)));
+    }
+
+    private static FrameStats render(Renderer renderer, PixelMapper mapper, int maxIterations) {
+        IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+        FrameStats stats = new FrameStats("test");
+        CancellationToken token = new CancellationToken();
+        token.setStats(stats);
+        stats.begin();
+        renderer.render(mapper, buffer, maxIterations, Mandelbrot.DEFAULT_BOUND, token);
+        stats.count(buffer, maxIterations);
+        stats.end(renderer.getParallelism());
+        return stats;
+    }
+}
@@ -0,0 +1,71 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * IterationBudgetTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class IterationBudgetTest {
+    @Test
+    public void testForZoomGrowsWithDepth() {
+        IterationBudget budget = new IterationBudget();
+        Assert.assertEquals(IterationBudget.DEFAULT_MIN_ITERATIONS, budget.forZoom(new PixelMapper(700, 700)));
+        PixelMapper zoomed = new PixelMapper(700, 700, new Complex(-0.75, 0.0625), new Complex(-0.6875, 0.0));
+        Assert.assertEquals(IterationBudget.DEFAULT_MIN_ITERATIONS + 6 * IterationBudget.ITERATIONS_PER_ZOOM_DOUBLING,
+                budget.forZoom(zoomed));
+    }
+
+    @Test
+    public void testAdjust() {
+        IterationBudget budget = new IterationBudget(10, 1000);
+        IterationBuffer counts = new IterationBuffer(100, 10);
+        Arrays.fill(counts.getCounts(), 5);
+        Assert.assertEquals(10, budget.adjust(counts, 100));
+
+        counts.set(0, 0, 60);
+        counts.set(1, 0, 70);
+        Assert.assertEquals(200, budget.adjust(counts, 100));
+
+        counts.set(0, 0, 100);
+        counts.set(1, 0, 40);
+        Assert.assertEquals(100, budget.adjust(counts, 100));
+
+        Arrays.fill(counts.getCounts(), 800);
+        Assert.assertEquals(800, budget.adjust(counts, 800));
+        Assert.assertEquals(1000, budget.adjust(counts, 900));
+    }
+
+    @Test
+    public void testChosenBudgetResolvesBoundary() {
+        IterationBudget budget = new IterationBudget();
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 32);
+        try {
+            PixelMapper mapper = new PixelMapper(256, 256, new Complex(-0.7440, 0.1320), new Complex(-0.7430, 0.1310));
+            int chosen = budget.choose(renderer, mapper, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+            Assert.assertTrue("chosen=" + chosen, chosen >= budget.forZoom(mapper));
+
+            IterationBuffer frame = renderer.render(mapper, chosen, Mandelbrot.DEFAULT_BOUND);
+            IterationBuffer doubled = renderer.render(mapper, 2 * chosen, Mandelbrot.DEFAULT_BOUND);
+            double lost = IterationBudget.saturation(frame, chosen) - IterationBudget.saturation(doubled, 2 * chosen);
+            Assert.assertTrue("lost=" + lost, lost < 0.01);
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testSaturation() {
+        IterationBuffer counts = new IterationBuffer(4, 1);
+        counts.set(0, 0, 50);
+        counts.set(1, 0, 3);
+        Assert.assertEquals(0.25, IterationBudget.saturation(counts, 50), 0.0);
+    }
+}
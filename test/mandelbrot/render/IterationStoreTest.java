@@ -0,0 +1,116 @@
+package mandelbrot.render;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * IterationStoreTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class IterationStoreTest {
+    @Test
+    public void testRowsReadBackAcrossTiles() throws IOException {
+        File file = File.createTempFile("iterations", ".bin");
+        file.deleteOnExit();
+        int width = 53;
+        int height = 37;
+        IterationStore store = new IterationStore(file, width, height, 16);
+        try {
+            Assert.assertEquals(4, store.getTilesAcross());
+            Assert.assertEquals(3, store.getTilesDown());
+            Assert.assertEquals(4L * 4 * 3 * 16 * 16, file.length());
+            for (int tileY = store.getTilesDown() - 1; tileY >= 0; --tileY) {
+                for (int tileX = 0; tileX < store.getTilesAcross(); ++tileX) {
+                    IterationBuffer tile = store.newTile(tileX, tileY);
+                    for (int j = tile.getY(); j < tile.getY() + tile.getHeight(); ++j) {
+                        for (int i = tile.getX(); i < tile.getX() + tile.getWidth(); ++i) {
+                            tile.set(i, j, j * width + i);
+                        }
+                    }
+                    store.write(tile);
+                }
+            }
+
+            int[] row = new int[width];
+            for (int j = 0; j < height; ++j) {
+                store.readRow(j, row);
+                for (int i = 0; i < width; ++i) {
+                    Assert.assertEquals(j * width + i, row[i]);
+                }
+            }
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testWriteAfterReadRereadsRows() throws IOException {
+        File file = File.createTempFile("iterations", ".bin");
+        file.deleteOnExit();
+        IterationStore store = new IterationStore(file, 10, 10, 8);
+        try {
+            int[] row = new int[10];
+            store.readRow(0, row);
+            Assert.assertEquals(0, row[3]);
+            IterationBuffer tile = store.newTile(0, 0);
+            tile.set(3, 0, 42);
+            store.write(tile);
+            store.readRow(0, row);
+            Assert.assertEquals(42, row[3]);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testReopenedStoreKeepsCounts() throws IOException {
+        File file = File.createTempFile("iterations", ".bin");
+        file.deleteOnExit();
+        IterationStore store = new IterationStore(file, 40, 40, 32);
+        try {
+            for (int tileY = 0; tileY < store.getTilesDown(); ++tileY) {
+                for (int tileX = 0; tileX < store.getTilesAcross(); ++tileX) {
+                    IterationBuffer tile = store.newTile(tileX, tileY);
+                    for (int k = 0; k < tile.getCounts().length; ++k) {
+                        tile.getCounts()[k] = tileY * 1000 + tileX * 100 + k % 97;
+                    }
+                    store.write(tile);
+                }
+            }
+        } finally {
+            store.close();
+        }
+
+        IterationStore reopened = new IterationStore(file, 40, 40, 32);
+        try {
+            int[] row = new int[40];
+            for (int j = 39; j >= 0; --j) {
+                reopened.readRow(j, row);
+                int tileY = j / 32;
+                for (int i = 0; i < 40; ++i) {
+                    int tileWidth = (i < 32) ? 32 : 8;
+                    int k = (j - tileY * 32) * tileWidth + (i % 32);
+                    Assert.assertEquals(tileY * 1000 + (i / 32) * 100 + k % 97, row[i]);
+                }
+            }
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMisalignedTile() throws IOException {
+        File file = File.createTempFile("iterations", ".bin");
+        file.deleteOnExit();
+        IterationStore store = new IterationStore(file, 32, 32, 16);
+        try {
+            store.write(new IterationBuffer(4, 0, 16, 16));
+        } finally {
+            store.close();
+        }
+    }
+}
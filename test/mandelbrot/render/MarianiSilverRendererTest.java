@@ -0,0 +1,63 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BurningShip;
+import mandelbrot.model.Complex;
+import mandelbrot.model.IterativeFunction;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * MarianiSilverRendererTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class MarianiSilverRendererTest {
+    @Test
+    public void testInteriorRegionIsExact() {
+        PixelMapper mapper = new PixelMapper(120, 90, new Complex(-0.3, 0.3), new Complex(0.1, -0.3));
+        assertMatches(new Mandelbrot(), mapper, 500, MarianiSilverRenderer.DEFAULT_MAX_FILL_SIZE);
+    }
+
+    @Test
+    public void testFullViewMatchesPerPixel() {
+        // without band fills only the interior is filled, which the set being full makes exact
+        assertMatches(new Mandelbrot(), new PixelMapper(300, 300), Mandelbrot.MAX_ITERATIONS, 0);
+    }
+
+    @Test
+    public void testOtherKernelsFillOnlySmallRectangles() {
+        // the burning ship's interior is not full, so without band fills nothing is filled at all
+        PixelMapper mapper = new PixelMapper(200, 150, new Complex(-2.0, 1.0), new Complex(1.0, -1.25));
+        assertMatches(new BurningShip(), mapper, 200, 0);
+    }
+
+    @Test
+    public void testRegionOffset() {
+        PixelMapper mapper = new PixelMapper(100, 100);
+        MarianiSilverRenderer renderer = new MarianiSilverRenderer(new Mandelbrot(), 2, 4, 16);
+        try {
+            IterationBuffer region = new IterationBuffer(30, 40, 25, 17);
+            renderer.render(mapper, region, 100, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+            for (int k = 0; k < region.getCounts().length; ++k) {
+                Assert.assertTrue(region.getCounts()[k] > 0);
+            }
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    private static void assertMatches(IterativeFunction function, PixelMapper mapper, int maxIterations, int maxFillSize) {
+        TileRenderer tileRenderer = new TileRenderer(function);
+        MarianiSilverRenderer marianiSilver = new MarianiSilverRenderer(function, 3, 6, maxFillSize);
+        try {
+            int[] expected = tileRenderer.render(mapper, maxIterations, Mandelbrot.DEFAULT_BOUND).getCounts();
+            int[] actual = marianiSilver.render(mapper, maxIterations, Mandelbrot.DEFAULT_BOUND).getCounts();
+            Assert.assertArrayEquals(expected, actual);
+        } finally {
+            tileRenderer.shutdown();
+            marianiSilver.shutdown();
+        }
+    }
+}
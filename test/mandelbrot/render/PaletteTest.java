@@ -0,0 +1,66 @@
+package mandelbrot.render;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Color;
+
+/**
+ * PaletteTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class PaletteTest {
+    @Test
+    public void testSpectrumMatchesAwt() {
+        int n = 50;
+        Palette palette = Palette.spectrum(n);
+        for (int i = 0; i < n; ++i) {
+            int expected = Color.HSBtoRGB((float) i / (float) n, Palette.DEFAULT_SATURATION, Palette.DEFAULT_BRIGHTNESS) & 0xffffff;
+            Assert.assertEquals(expected, palette.getColor(i));
+        }
+    }
+
+    @Test
+    public void testCountsPastTheEndAreBlack() {
+        Palette palette = Palette.grayscale(10);
+        Assert.assertEquals(0xffffff, palette.getColor(9));
+        Assert.assertEquals(0, palette.getColor(10));
+        Assert.assertEquals(0, palette.getColor(-1));
+    }
+
+    @Test
+    public void testSmoothColorBlendsNeighbours() {
+        Palette palette = new Palette(new int[]{0x000000, 0xff8040, 0x102030});
+        Assert.assertEquals(palette.getColor(1), palette.getColor(1, 0.0f));
+        Assert.assertEquals(0x7f4020, palette.getColor(0, 0.5f));
+        Assert.assertEquals(0x875038, palette.getColor(1, 0.5f));
+        Assert.assertEquals(0x102030, palette.getColor(2, 0.9f));
+        Assert.assertEquals(0, palette.getColor(3, 0.5f));
+    }
+
+    @Test
+    public void testSmoothRow() {
+        Palette palette = Palette.grayscale(11);
+        IterationBuffer buffer = new IterationBuffer(0, 0, 2, 1, true);
+        buffer.set(0, 0, 4);
+        buffer.set(1, 0, 4);
+        buffer.getFractions()[1] = 0.5f;
+        int[] rgb = new int[2];
+        palette.colorRow(buffer, 0, rgb);
+        Assert.assertEquals(palette.getColor(4), rgb[0]);
+        Assert.assertEquals(palette.getColor(4, 0.5f), rgb[1]);
+        Assert.assertTrue((rgb[1] & 0xff) > (rgb[0] & 0xff));
+    }
+
+    @Test
+    public void testForName() {
+        Assert.assertEquals(256, Palette.forName("grayscale:256", 50).size());
+        Assert.assertEquals(50, Palette.forName("spectrum", 50).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownPalette() {
+        Palette.forName("plaid", 50);
+    }
+}
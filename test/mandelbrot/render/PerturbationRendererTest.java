@@ -0,0 +1,78 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.model.ReferenceOrbit;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * PerturbationRendererTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class PerturbationRendererTest {
+    private static final String SEAHORSE_RE = "-0.743643887037158704752191506114774";
+    private static final String SEAHORSE_IM = "0.131825904205311970493132056385139";
+
+    @Test
+    public void testMatchesDoublePrecisionAtShallowZoom() {
+        Complex upperLeft = new Complex(-0.7436, 0.1319);
+        Complex lowerRight = new Complex(-0.7435, 0.1318);
+        int size = 80;
+        int maxIterations = 500;
+
+        TileRenderer tileRenderer = new TileRenderer();
+        PerturbationRenderer perturbationRenderer = new PerturbationRenderer(2, 16);
+        try {
+            IterationBuffer expected = tileRenderer.render(new PixelMapper(size, size, upperLeft, lowerRight), maxIterations, 2.0);
+            BigPixelMapper mapper = new BigPixelMapper(new PixelMapper(size, size, upperLeft, lowerRight));
+            IterationBuffer actual = perturbationRenderer.render(mapper, maxIterations, 2.0);
+
+            int numMatching = 0;
+            for (int k = 0; k < expected.getCounts().length; ++k) {
+                if (expected.getCounts()[k] == actual.getCounts()[k]) {
+                    ++numMatching;
+                }
+            }
+            Assert.assertTrue("matching=" + numMatching, numMatching >= 0.99 * size * size);
+        } finally {
+            tileRenderer.shutdown();
+            perturbationRenderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeepZoomMatchesArbitraryPrecision() {
+        BigDecimal re = new BigDecimal(SEAHORSE_RE);
+        BigDecimal im = new BigDecimal(SEAHORSE_IM);
+        BigDecimal radius = new BigDecimal("1E-30");
+        BigComplex upperLeft = new BigComplex(re.subtract(radius), im.add(radius), 50);
+        BigComplex lowerRight = new BigComplex(re.add(radius), im.subtract(radius), 50);
+        BigPixelMapper mapper = new BigPixelMapper(40, 40, upperLeft, lowerRight);
+        int maxIterations = 1000;
+
+        PerturbationRenderer renderer = new PerturbationRenderer(2, 8);
+        try {
+            IterationBuffer buffer = renderer.render(mapper, maxIterations, 2.0);
+            for (int i = 0; i < 40; i += 7) {
+                for (int j = 0; j < 40; j += 7) {
+                    int expected = new ReferenceOrbit(mapper.map(i, j), maxIterations, 2.0).getNumIterations();
+                    Assert.assertEquals("pixel (" + i + ", " + j + ")", expected, buffer.get(i, j));
+                }
+            }
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testRequiredScaleGrowsWithZoom() {
+        Assert.assertTrue(BigPixelMapper.requiredScale(new BigDecimal("1E-50"), 700) > 50);
+        Assert.assertEquals(BigComplex.DEFAULT_SCALE + 2, BigPixelMapper.requiredScale(new BigDecimal("4"), 700));
+    }
+}
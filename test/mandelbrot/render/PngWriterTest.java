@@ -0,0 +1,76 @@
+package mandelbrot.render;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * PngWriterTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class PngWriterTest {
+    @Test
+    public void testRoundTrip() throws IOException {
+        int width = 97;
+        int height = 61;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PngWriter writer = new PngWriter(bytes, width, height);
+        int[] row = new int[width];
+        for (int j = 0; j < height; ++j) {
+            for (int i = 0; i < width; ++i) {
+                row[i] = color(i, j);
+            }
+            writer.writeRow(row);
+        }
+        writer.finish();
+        writer.close();
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(width, image.getWidth());
+        Assert.assertEquals(height, image.getHeight());
+        for (int j = 0; j < height; ++j) {
+            for (int i = 0; i < width; ++i) {
+                Assert.assertEquals(color(i, j), image.getRGB(i, j) & 0xffffff);
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIncompleteImage() throws IOException {
+        PngWriter writer = new PngWriter(new ByteArrayOutputStream(), 10, 10);
+        try {
+            writer.writeRow(new int[10]);
+            writer.finish();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testCloseWithoutFinishReleasesStream() throws IOException {
+        final boolean[] closed = new boolean[1];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        PngWriter writer = new PngWriter(bytes, 10, 10);
+        writer.writeRow(new int[10]);
+        int written = bytes.size();
+        writer.close();
+        writer.close();
+        Assert.assertTrue(closed[0]);
+        Assert.assertEquals("no end chunk after an unfinished image", written, bytes.size());
+    }
+
+    private static int color(int i, int j) {
+        return ((i * 37) & 0xff) << 16 | ((j * 11) & 0xff) << 8 | ((i * j) & 0xff);
+    }
+}
@@ -0,0 +1,50 @@
+package mandelbrot.render;
+
+import mandelbrot.model.BigComplex;
+import mandelbrot.model.Complex;
+import mandelbrot.view.BigPixelMapper;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * PrecisionTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class PrecisionTest {
+    private static BigPixelMapper around(String re, String im, String radius) {
+        BigDecimal r = new BigDecimal(radius);
+        return new BigPixelMapper(100, 100, new BigComplex(new BigDecimal(re).subtract(r), new BigDecimal(im).add(r), 50),
+                new BigComplex(new BigDecimal(re).add(r), new BigDecimal(im).subtract(r), 50));
+    }
+
+    @Test
+    public void testForSpacing() {
+        Assert.assertEquals(Precision.DOUBLE, Precision.forSpacing(0.01, 2.0));
+        Assert.assertEquals(Precision.DOUBLE, Precision.forSpacing(1.0e-13, 0.5));
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, Precision.forSpacing(1.0e-13, 2.0));
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, Precision.forSpacing(1.0e-28, 1.0));
+        Assert.assertEquals(Precision.ARBITRARY, Precision.forSpacing(1.0e-30, 1.0));
+    }
+
+    @Test
+    public void testForMapper() {
+        Assert.assertEquals(Precision.DOUBLE, Precision.forMapper(new PixelMapper(700, 700)));
+        Assert.assertEquals(Precision.DOUBLE, Precision.forMapper(new BigPixelMapper(new PixelMapper(700, 700))));
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, Precision.forMapper(
+                new PixelMapper(100, 100, new Complex(-0.75, 0.1 + 1.0e-13), new Complex(-0.75 + 1.0e-13, 0.1))));
+        Assert.assertEquals(Precision.DOUBLE_DOUBLE, Precision.forMapper(around("-0.75", "0.1", "1E-20")));
+        Assert.assertEquals(Precision.ARBITRARY, Precision.forMapper(around("-0.75", "0.1", "1E-30")));
+    }
+
+    @Test
+    public void testDigits() {
+        BigPixelMapper deep = around("-0.75", "0.1", "1E-40");
+        Assert.assertEquals(16, Precision.DOUBLE.getDigits(deep));
+        Assert.assertEquals(32, Precision.DOUBLE_DOUBLE.getDigits(deep));
+        Assert.assertTrue(Precision.ARBITRARY.getDigits(deep) > 40);
+    }
+}
@@ -0,0 +1,88 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ProgressiveRendererTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ProgressiveRendererTest {
+    @Test
+    public void testFinalPassMatchesTileRenderer() {
+        PixelMapper mapper = new PixelMapper(203, 157, new Complex(-1.5, 1.0), new Complex(0.5, -1.0));
+        TileRenderer tileRenderer = new TileRenderer(new Mandelbrot(), 2, 32);
+        ProgressiveRenderer progressive = new ProgressiveRenderer(new Mandelbrot(), 3, 24, 8);
+        try {
+            IterationBuffer expected = tileRenderer.render(mapper, 200, Mandelbrot.DEFAULT_BOUND);
+            IterationBuffer actual = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+            progressive.render(mapper, actual, 200, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+            Assert.assertArrayEquals(expected.getCounts(), actual.getCounts());
+        } finally {
+            tileRenderer.shutdown();
+            progressive.shutdown();
+        }
+    }
+
+    @Test
+    public void testEachPixelComputedOnce() {
+        final AtomicInteger numEvaluated = new AtomicInteger();
+        Mandelbrot counting = new Mandelbrot() {
+            @Override
+            public void getNumIterations(double[] re, double[] im, int length, int maxIterations, double bound, int[] counts, int offset) {
+                numEvaluated.addAndGet(length);
+                super.getNumIterations(re, im, length, maxIterations, bound, counts, offset);
+            }
+        };
+        ProgressiveRenderer progressive = new ProgressiveRenderer(counting, 2, 16, 8);
+        try {
+            IterationBuffer buffer = new IterationBuffer(10, 20, 77, 45);
+            progressive.render(new PixelMapper(120, 90), buffer, 100, Mandelbrot.DEFAULT_BOUND, new CancellationToken());
+            Assert.assertEquals(77 * 45, numEvaluated.get());
+        } finally {
+            progressive.shutdown();
+        }
+    }
+
+    @Test
+    public void testPassesAreCompletePreviews() {
+        PixelMapper mapper = new PixelMapper(64, 48);
+        ProgressiveRenderer progressive = new ProgressiveRenderer(new Mandelbrot(), 2, 16, 8);
+        final List<Integer> steps = new ArrayList<Integer>();
+        try {
+            IterationBuffer buffer = new IterationBuffer(mapper.getWidth(), mapper.getHeight());
+            progressive.render(mapper, buffer, 100, Mandelbrot.DEFAULT_BOUND, new CancellationToken(),
+                    new ProgressiveRenderer.PassListener() {
+                        public void passCompleted(IterationBuffer buffer, int step) {
+                            steps.add(step);
+                            for (int j = 0; j < buffer.getHeight(); ++j) {
+                                for (int i = 0; i < buffer.getWidth(); ++i) {
+                                    int sampleI = i - (i % step);
+                                    int sampleJ = j - (j % step);
+                                    Assert.assertEquals(buffer.get(sampleI, sampleJ), buffer.get(i, j));
+                                    Assert.assertTrue(buffer.get(i, j) > 0);
+                                }
+                            }
+                        }
+                    });
+            Assert.assertEquals(4, steps.size());
+            Assert.assertEquals(Integer.valueOf(8), steps.get(0));
+            Assert.assertEquals(Integer.valueOf(1), steps.get(3));
+        } finally {
+            progressive.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitialStepNotPowerOfTwo() {
+        new ProgressiveRenderer(new Mandelbrot(), 1, 16, 6);
+    }
+}
@@ -0,0 +1,66 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * RenderCacheTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class RenderCacheTest {
+    @Test
+    public void testHitAndMiss() {
+        RenderCache cache = new RenderCache();
+        RenderKey key = createKey(0.0, 10, 10);
+        IterationBuffer buffer = new IterationBuffer(10, 10);
+
+        Assert.assertNull(cache.get(key));
+        cache.put(key, buffer);
+        Assert.assertSame(buffer, cache.get(createKey(0.0, 10, 10)));
+        Assert.assertEquals(1L, cache.getHits());
+        Assert.assertEquals(1L, cache.getMisses());
+        Assert.assertEquals(RenderCache.footprint(buffer), cache.getCurrentBytes());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedByFootprint() {
+        IterationBuffer buffer = new IterationBuffer(10, 10);
+        RenderCache cache = new RenderCache(2L * RenderCache.footprint(buffer));
+        RenderKey first = createKey(1.0, 10, 10);
+        RenderKey second = createKey(2.0, 10, 10);
+        RenderKey third = createKey(3.0, 10, 10);
+
+        cache.put(first, buffer);
+        cache.put(second, new IterationBuffer(10, 10));
+        Assert.assertNotNull(cache.get(first));
+        cache.put(third, new IterationBuffer(10, 10));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1L, cache.getEvictions());
+        Assert.assertNotNull(cache.get(first));
+        Assert.assertNull(cache.get(second));
+        Assert.assertNotNull(cache.get(third));
+    }
+
+    @Test
+    public void testOversizedBufferIsNotCached() {
+        RenderCache cache = new RenderCache(100L);
+        cache.put(createKey(0.0, 100, 100), new IterationBuffer(100, 100));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0L, cache.getCurrentBytes());
+    }
+
+    @Test
+    public void testKeyIncludesIterationParameters() {
+        RenderKey key = new RenderKey(new Complex(-2.0, 2.0), new Complex(2.0, -2.0), 10, 10, 50, 2.0);
+        Assert.assertFalse(key.equals(new RenderKey(new Complex(-2.0, 2.0), new Complex(2.0, -2.0), 10, 10, 100, 2.0)));
+        Assert.assertFalse(key.equals(new RenderKey(new Complex(-2.0, 2.0), new Complex(2.0, -2.0), 10, 10, 50, 4.0)));
+        Assert.assertEquals(key, new RenderKey(new Complex(-2.0, 2.0), new Complex(2.0, -2.0), 10, 10, 50, 2.0));
+    }
+
+    private static RenderKey createKey(double offset, int width, int height) {
+        return new RenderKey(new Complex(-2.0 + offset, 2.0), new Complex(2.0 + offset, -2.0), width, height, 50, 2.0);
+    }
+}
@@ -0,0 +1,91 @@
+package mandelbrot.render;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * TileRendererTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class TileRendererTest {
+    @Test
+    public void testRenderMatchesPerPixel() {
+        PixelMapper mapper = new PixelMapper(157, 93);
+        Mandelbrot mandelbrot = new Mandelbrot();
+        TileRenderer renderer = new TileRenderer(mandelbrot, 4, 16);
+        try {
+            IterationBuffer buffer = renderer.render(mapper);
+            for (int i = 0; i < mapper.getWidth(); ++i) {
+                for (int j = 0; j < mapper.getHeight(); ++j) {
+                    Assert.assertEquals(mandelbrot.getNumIterations(mapper.map(i, j)), buffer.get(i, j));
+                }
+            }
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testRenderRegion() {
+        PixelMapper mapper = new PixelMapper(200, 200, new Complex(-2.0, 1.5), new Complex(1.0, -1.5));
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 8);
+        try {
+            IterationBuffer frame = renderer.render(mapper, 100, Mandelbrot.DEFAULT_BOUND);
+            IterationBuffer region = new IterationBuffer(40, 70, 33, 21);
+            renderer.render(mapper, region, 100, Mandelbrot.DEFAULT_BOUND);
+            for (int i = region.getX(); i < region.getX() + region.getWidth(); ++i) {
+                for (int j = region.getY(); j < region.getY() + region.getHeight(); ++j) {
+                    Assert.assertEquals(frame.get(i, j), region.get(i, j));
+                }
+            }
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmoothRenderKeepsCounts() {
+        PixelMapper mapper = new PixelMapper(120, 80);
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 32);
+        try {
+            IterationBuffer banded = renderer.render(mapper, 100, Mandelbrot.DEFAULT_BOUND);
+            IterationBuffer smooth = new IterationBuffer(0, 0, 120, 80, true);
+            renderer.render(mapper, smooth, 100, Mandelbrot.DEFAULT_BOUND);
+            Assert.assertArrayEquals(banded.getCounts(), smooth.getCounts());
+            int numFractional = 0;
+            for (int k = 0; k < smooth.getCounts().length; ++k) {
+                float fraction = smooth.getFractions()[k];
+                Assert.assertTrue((fraction >= 0.0f) && (fraction < 1.0f));
+                if (fraction > 0.0f) {
+                    ++numFractional;
+                }
+            }
+            Assert.assertTrue(numFractional > smooth.getCounts().length / 2);
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test(expected = CancellationException.class)
+    public void testCancelledRender() {
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 8);
+        try {
+            CancellationToken token = new CancellationToken();
+            token.cancel();
+            renderer.render(new PixelMapper(64, 64), new IterationBuffer(64, 64), 1000, Mandelbrot.DEFAULT_BOUND, token);
+        } finally {
+            renderer.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullFunction() {
+        new TileRenderer(null);
+    }
+}
@@ -0,0 +1,71 @@
+package mandelbrot.server;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * DiskTileCacheTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class DiskTileCacheTest {
+    @Test
+    public void testPutGet() throws IOException {
+        DiskTileCache cache = new DiskTileCache(newDirectory(), 1000);
+        Assert.assertNull(cache.get("0-0-0"));
+        cache.put("0-0-0", new byte[]{1, 2, 3});
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, cache.get("0-0-0"));
+        Assert.assertEquals(3, cache.getCurrentBytes());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws IOException {
+        DiskTileCache cache = new DiskTileCache(newDirectory(), 250);
+        cache.put("a", new byte[100]);
+        cache.put("b", new byte[100]);
+        cache.get("a");
+        cache.put("c", new byte[100]);
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("c"));
+        Assert.assertEquals(200, cache.getCurrentBytes());
+        Assert.assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testReloadsExistingTiles() throws IOException {
+        File directory = newDirectory();
+        new DiskTileCache(directory, 1000).put("1-0-1", new byte[]{7, 8});
+        DiskTileCache reopened = new DiskTileCache(directory, 1000);
+        Assert.assertEquals(1, reopened.size());
+        Assert.assertArrayEquals(new byte[]{7, 8}, reopened.get("1-0-1"));
+    }
+
+    @Test
+    public void testReloadDeletesLeftoverTemporaryFiles() throws IOException {
+        File directory = newDirectory();
+        File leftover = new File(directory, "tile-2-1-1-123.tmp");
+        Assert.assertTrue(leftover.createNewFile());
+        DiskTileCache reopened = new DiskTileCache(directory, 1000);
+        Assert.assertFalse(leftover.exists());
+        Assert.assertEquals(0, reopened.size());
+    }
+
+    @Test
+    public void testOversizedTileNotStored() throws IOException {
+        DiskTileCache cache = new DiskTileCache(newDirectory(), 10);
+        cache.put("x", new byte[11]);
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private static File newDirectory() throws IOException {
+        File directory = File.createTempFile("tiles", "");
+        directory.delete();
+        directory.mkdirs();
+        directory.deleteOnExit();
+        return directory;
+    }
+}
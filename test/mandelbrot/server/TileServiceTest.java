@@ -0,0 +1,176 @@
+package mandelbrot.server;
+
+import mandelbrot.model.Complex;
+import mandelbrot.model.Mandelbrot;
+import mandelbrot.render.Palette;
+import mandelbrot.render.Precision;
+import mandelbrot.render.TileRenderer;
+import mandelbrot.view.PixelMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * TileServiceTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class TileServiceTest {
+    @Test
+    public void testTilesCoverTheWorld() {
+        PixelMapper root = TileService.mapperFor(0, 0, 0);
+        Assert.assertEquals(new Complex(-2.0, 2.0), root.getUpperLeft());
+        Assert.assertEquals(new Complex(2.0, -2.0), root.getLowerRight());
+
+        PixelMapper tile = TileService.mapperFor(2, 1, 3);
+        Assert.assertEquals(1.0, tile.getUpperLeft().getRe(), 1.0e-15);
+        Assert.assertEquals(1.0, tile.getUpperLeft().getIm(), 1.0e-15);
+        Assert.assertEquals(2.0, tile.getLowerRight().getRe(), 1.0e-15);
+        Assert.assertEquals(0.0, tile.getLowerRight().getIm(), 1.0e-15);
+    }
+
+    @Test
+    public void testValidity() {
+        Assert.assertTrue(TileService.isValid(3, 7, 0));
+        Assert.assertFalse(TileService.isValid(3, 8, 0));
+        Assert.assertFalse(TileService.isValid(-1, 0, 0));
+        Assert.assertFalse(TileService.isValid(TileService.MAX_ZOOM + 1, 0, 0));
+        long last = (1L << TileService.MAX_ZOOM) - 1;
+        Assert.assertTrue(TileService.isValid(TileService.MAX_ZOOM, last, 1L << 31));
+        Assert.assertFalse(TileService.isValid(TileService.MAX_ZOOM, last + 1, 0));
+        PixelMapper corner = TileService.mapperFor(TileService.MAX_ZOOM, last, last);
+        Assert.assertEquals(new Complex(2.0, -2.0), corner.getLowerRight());
+    }
+
+    @Test
+    public void testDeepestTilesResolveInDoubles() {
+        PixelMapper corner = TileService.mapperFor(TileService.MAX_ZOOM, 0, 0);
+        Assert.assertEquals(Precision.DOUBLE, Precision.forMapper(corner));
+        double deeperSpacing = corner.getXStep().magnitude() / 2.0;
+        Assert.assertFalse(Precision.forSpacing(deeperSpacing, 2.0) == Precision.DOUBLE);
+    }
+
+    @Test
+    public void testConcurrentRequestsRenderOnce() throws Exception {
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 64);
+        final TileService service = newService(renderer);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+            for (int k = 0; k < 8; ++k) {
+                futures.add(executor.submit(new Callable<byte[]>() {
+                    public byte[] call() throws IOException {
+                        return service.getTile(1, 0, 1);
+                    }
+                }));
+            }
+            byte[] first = futures.get(0).get();
+            for (Future<byte[]> future : futures) {
+                Assert.assertArrayEquals(first, future.get());
+            }
+            Assert.assertEquals(1, service.getRenders());
+            Assert.assertEquals(8, service.getRequests());
+            Assert.assertEquals(7, service.getMerged() + service.getCacheHits());
+
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(first));
+            Assert.assertEquals(TileService.TILE_SIZE, image.getWidth());
+            Assert.assertEquals(TileService.TILE_SIZE, image.getHeight());
+        } finally {
+            executor.shutdown();
+            renderer.shutdown();
+        }
+    }
+
+    @Test
+    public void testSettingsAreLeftOutOfOtherCaches() throws IOException {
+        File directory = File.createTempFile("tiles", "");
+        Assert.assertTrue(directory.delete() && directory.mkdir());
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 64);
+        try {
+            TileService first = new TileService(renderer, new DiskTileCache(directory, DiskTileCache.DEFAULT_MAX_BYTES),
+                    Palette.spectrum(100), 100, Mandelbrot.DEFAULT_BOUND);
+            first.getTile(1, 0, 1);
+            // a restart on the same directory with another limit or palette renders afresh
+            TileService deeper = new TileService(renderer, new DiskTileCache(directory, DiskTileCache.DEFAULT_MAX_BYTES),
+                    Palette.spectrum(100), 200, Mandelbrot.DEFAULT_BOUND);
+            deeper.getTile(1, 0, 1);
+            Assert.assertEquals(1, deeper.getRenders());
+            TileService gray = new TileService(renderer, new DiskTileCache(directory, DiskTileCache.DEFAULT_MAX_BYTES),
+                    Palette.grayscale(100), 100, Mandelbrot.DEFAULT_BOUND);
+            gray.getTile(1, 0, 1);
+            Assert.assertEquals(1, gray.getRenders());
+            TileService same = new TileService(renderer, new DiskTileCache(directory, DiskTileCache.DEFAULT_MAX_BYTES),
+                    Palette.spectrum(100), 100, Mandelbrot.DEFAULT_BOUND);
+            same.getTile(1, 0, 1);
+            Assert.assertEquals(0, same.getRenders());
+        } finally {
+            renderer.shutdown();
+            for (File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void testServerServesTilesAndMetrics() throws IOException {
+        TileRenderer renderer = new TileRenderer(new Mandelbrot(), 2, 64);
+        TileServer server = new TileServer(newService(renderer), 0);
+        server.start();
+        try {
+            URL tile = new URL("http://localhost:" + server.getPort() + "/tiles/2/1/2.png");
+            Assert.assertEquals(200, ((HttpURLConnection) tile.openConnection()).getResponseCode());
+            Assert.assertNotNull(ImageIO.read(tile));
+
+            URL missing = new URL("http://localhost:" + server.getPort() + "/tiles/1/2/0.png");
+            Assert.assertEquals(404, ((HttpURLConnection) missing.openConnection()).getResponseCode());
+
+            String metrics = read(new URL("http://localhost:" + server.getPort() + "/metrics"));
+            Assert.assertTrue(metrics, metrics.contains("tile_renders 1\n"));
+            Assert.assertTrue(metrics, metrics.contains("tile_cache_hits 1\n"));
+
+            URL deep = new URL("http://localhost:" + server.getPort() + "/tiles/" + TileService.MAX_ZOOM + "/"
+                    + ((1L << TileService.MAX_ZOOM) - 1) + "/" + (1L << 32) + ".png");
+            Assert.assertEquals(200, ((HttpURLConnection) deep.openConnection()).getResponseCode());
+        } finally {
+            server.stop();
+            renderer.shutdown();
+        }
+    }
+
+    private static TileService newService(TileRenderer renderer) throws IOException {
+        File directory = File.createTempFile("tiles", "");
+        directory.delete();
+        directory.deleteOnExit();
+        DiskTileCache cache = new DiskTileCache(directory, DiskTileCache.DEFAULT_MAX_BYTES);
+        return new TileService(renderer, cache, Palette.spectrum(100), 100, Mandelbrot.DEFAULT_BOUND);
+    }
+
+    private static String read(URL url) throws IOException {
+        InputStream in = url.openStream();
+        try {
+            StringBuilder text = new StringBuilder();
+            int c;
+            while ((c = in.read()) >= 0) {
+                text.append((char) c);
+            }
+            return text.toString();
+        } finally {
+            in.close();
+        }
+    }
+}
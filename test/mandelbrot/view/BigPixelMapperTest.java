@@ -0,0 +1,37 @@
+package mandelbrot.view;
+
+import mandelbrot.model.Complex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * BigPixelMapperTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class BigPixelMapperTest {
+    @Test
+    public void testCopyKeepsDoublePixels() {
+        double step = 3.0e-15;
+        Complex upperLeft = new Complex(-0.743643887037151, 0.131825904205330);
+        PixelMapper mapper = new PixelMapper(640, 480, upperLeft, new Complex(upperLeft.getRe() + 480 * step, upperLeft.getIm() - 640 * step));
+        BigPixelMapper bigMapper = new BigPixelMapper(mapper);
+        Assert.assertEquals(mapper.getYStep().getRe(), bigMapper.getReStep(), 0.0);
+        Assert.assertEquals(mapper.getXStep().getIm(), bigMapper.getImStep(), 0.0);
+        for (int y = 0; y <= 480; y += 120) {
+            for (int x = 0; x <= 640; x += 160) {
+                Complex expected = mapper.map(x, y);
+                Complex actual = bigMapper.map(x, y).toComplex();
+                // the doubles round each pixel by half an ulp; the copy adds no drift of its own
+                Assert.assertEquals(expected.getRe(), actual.getRe(), Math.ulp(expected.getRe()));
+                Assert.assertEquals(expected.getIm(), actual.getIm(), Math.ulp(expected.getIm()));
+            }
+        }
+        Assert.assertEquals(bigMapper.map(640, 480), bigMapper.getLowerRight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRotatedMapperIsRejected() {
+        new BigPixelMapper(new PixelMapper(64, 64).rotate(0.5));
+    }
+}
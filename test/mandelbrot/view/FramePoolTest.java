@@ -0,0 +1,52 @@
+package mandelbrot.view;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * FramePoolTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class FramePoolTest {
+    @Test
+    public void testRecycledFrameIsReused() {
+        FramePool pool = new FramePool();
+        BufferedImage frame = pool.take(40, 30);
+        pool.recycle(frame);
+        pool.recycle(frame);
+        Assert.assertEquals(1, pool.size());
+        Assert.assertSame(frame, pool.take(40, 30));
+        Assert.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testSizeMismatchAllocates() {
+        FramePool pool = new FramePool();
+        BufferedImage frame = pool.take(40, 30);
+        pool.recycle(frame);
+        BufferedImage resized = pool.take(41, 30);
+        Assert.assertNotSame(frame, resized);
+        Assert.assertEquals(41, resized.getWidth());
+        Assert.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        FramePool pool = new FramePool(2);
+        pool.recycle(pool.take(10, 10));
+        pool.recycle(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        pool.recycle(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        Assert.assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void testPixelsAreRowMajor() {
+        BufferedImage frame = new FramePool().take(5, 4);
+        int[] pixels = FramePool.pixels(frame);
+        pixels[2 * 5 + 3] = 0x123456;
+        Assert.assertEquals(0x123456, frame.getRGB(3, 2) & 0xffffff);
+    }
+}
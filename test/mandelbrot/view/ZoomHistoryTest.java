@@ -0,0 +1,48 @@
+package mandelbrot.view;
+
+import mandelbrot.model.Complex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * ZoomHistoryTest
+ * @author Michael
+ * @since 10/18/26
+ */
+public class ZoomHistoryTest {
+    @Test
+    public void testBackAndForward() {
+        PixelMapper initial = new PixelMapper();
+        PixelMapper zoomed = new PixelMapper(700, 700, new Complex(-1.0, 1.0), new Complex(1.0, -1.0));
+        ZoomHistory history = new ZoomHistory(initial);
+
+        Assert.assertFalse(history.canGoBack());
+        history.zoomTo(zoomed);
+        Assert.assertSame(initial, history.back());
+        Assert.assertTrue(history.canGoForward());
+        Assert.assertSame(zoomed, history.forward());
+        Assert.assertSame(zoomed, history.forward());
+    }
+
+    @Test
+    public void testZoomClearsForward() {
+        ZoomHistory history = new ZoomHistory(new PixelMapper());
+        history.zoomTo(new PixelMapper());
+        history.back();
+        history.zoomTo(new PixelMapper());
+        Assert.assertFalse(history.canGoForward());
+    }
+
+    @Test
+    public void testDepthIsBounded() {
+        PixelMapper initial = new PixelMapper();
+        ZoomHistory history = new ZoomHistory(initial, 2);
+        for (int i = 0; i < 5; ++i) {
+            history.zoomTo(new PixelMapper());
+        }
+        history.back();
+        history.back();
+        Assert.assertFalse(history.canGoBack());
+        Assert.assertNotSame(initial, history.getCurrent());
+    }
+}